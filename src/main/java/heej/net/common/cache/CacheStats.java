@@ -0,0 +1,21 @@
+package heej.net.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시 통계 스냅샷
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final double hitRatio;
+    private final long evictions;      // 크기 초과로 밀려난 항목 수
+    private final long expirations;    // TTL 이 지나 버린 항목 수
+    private final long invalidations;  // 태그 무효화로 버린 항목 수
+}
@@ -0,0 +1,178 @@
+package heej.net.common.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 크기 제한(LRU) + TTL + 태그 무효화를 지원하는 메모리 캐시
+ *
+ * - 항목마다 태그를 붙여 두고, 데이터가 바뀌면 관련 태그의 항목만 골라서 버립니다.
+ * - 조회 도중 같은 태그가 무효화되면 조회 결과를 저장하지 않아, 무효화 이전 데이터가 다시 캐시되지 않습니다.
+ *   (태그별 버전을 조회 전후로 비교)
+ * - 모든 연산은 하나의 락으로 동기화합니다. 로더(DB 조회)는 락 밖에서 실행합니다.
+ */
+public class TaggedCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<String, Set<K>> keysByTag = new HashMap<>();
+    private final Map<String, Long> tagVersions = new HashMap<>();
+
+    // clear() 횟수 - 태그와 관계없이 진행 중인 조회 결과를 저장하지 않기 위해 사용
+    private long epoch;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TaggedCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        // 접근 순서(access-order) 유지 - 가장 오래 사용되지 않은 항목이 맨 앞
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader 로 조회해 tags 와 함께 저장합니다.
+     */
+    public V getOrLoad(K key, Set<String> tags, Supplier<V> loader) {
+        long versionBefore;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAtNanos - System.nanoTime() > 0) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+                removeEntry(key, entry);
+                expirations.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            versionBefore = versionOf(tags);
+        }
+
+        V value = loader.get();
+
+        synchronized (this) {
+            if (versionOf(tags) == versionBefore) {
+                put(key, tags, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 태그가 하나라도 붙은 항목을 모두 버리고 버린 항목 수를 반환합니다.
+     */
+    public synchronized int invalidateTags(Collection<String> tags) {
+        int removed = 0;
+        for (String tag : tags) {
+            tagVersions.merge(tag, 1L, Long::sum);
+            Set<K> keys = keysByTag.remove(tag);
+            if (keys == null) {
+                continue;
+            }
+            for (K key : keys) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null) {
+                    removeEntry(key, entry);
+                    removed++;
+                }
+            }
+        }
+        invalidations.addAndGet(removed);
+        return removed;
+    }
+
+    public synchronized void clear() {
+        epoch++;
+        invalidations.addAndGet(entries.size());
+        entries.clear();
+        keysByTag.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        return new CacheStats(name, entries.size(), maxSize, hitCount, missCount,
+                total == 0 ? 0.0 : (double) hitCount / total,
+                evictions.get(), expirations.get(), invalidations.get());
+    }
+
+    private void put(K key, Set<String> tags, V value) {
+        Entry<V> previous = entries.get(key);
+        if (previous != null) {
+            removeEntry(key, previous);
+        }
+        entries.put(key, new Entry<>(value, Set.copyOf(tags), System.nanoTime() + ttlNanos));
+        for (String tag : tags) {
+            keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key);
+        }
+
+        // 크기 초과 - 가장 오래 사용되지 않은 항목부터 제거 (만료된 항목이면 만료로 집계)
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        long now = System.nanoTime();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> candidate = eldest.next();
+            eldest.remove();
+            unlinkTags(candidate.getKey(), candidate.getValue());
+            if (candidate.getValue().expiresAtNanos - now > 0) {
+                evictions.incrementAndGet();
+            } else {
+                expirations.incrementAndGet();
+            }
+        }
+    }
+
+    private void removeEntry(K key, Entry<V> entry) {
+        entries.remove(key);
+        unlinkTags(key, entry);
+    }
+
+    private void unlinkTags(K key, Entry<V> entry) {
+        for (String tag : entry.tags) {
+            Set<K> keys = keysByTag.get(tag);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    private long versionOf(Set<String> tags) {
+        long version = epoch;
+        for (String tag : tags) {
+            version += tagVersions.getOrDefault(tag, 0L);
+        }
+        return version;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final Set<String> tags;
+        private final long expiresAtNanos;
+
+        private Entry(V value, Set<String> tags, long expiresAtNanos) {
+            this.value = value;
+            this.tags = tags;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
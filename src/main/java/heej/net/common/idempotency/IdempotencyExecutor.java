@@ -0,0 +1,136 @@
+package heej.net.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더 처리
+ *
+ * - 처음 들어온 키는 처리 중으로 등록한 뒤 실행하고, 성공 응답을 TTL 동안 저장합니다.
+ * - 이미 완료된 키는 DB 를 거치지 않고 저장된 응답을 그대로 반환합니다.
+ * - 처리 중인 키로 동시에 들어온 요청은 락을 두고 경쟁하지 않고 첫 요청이 끝나기를 기다립니다.
+ * - 실행이 실패하면 키를 지워 클라이언트가 같은 키로 다시 시도할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class IdempotencyExecutor {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final Duration waitTimeout;
+
+    public IdempotencyExecutor(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${idempotency.in-flight-ttl-ms:60000}") long inFlightTtlMillis,
+            @Value("${idempotency.wait-timeout-ms:30000}") long waitTimeoutMillis) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inFlightTtl = Duration.ofMillis(inFlightTtlMillis);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+    }
+
+    /**
+     * @param scope 키 충돌을 막기 위한 범위 (예: "reservation:create:{memberId}")
+     * @param idempotencyKey 클라이언트가 보낸 키 (없으면 그대로 실행)
+     * @param request 같은 키로 다른 요청을 보냈는지 확인하기 위한 요청 본문
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String key = scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        // 먼저 처리하던 요청이 실패해 키가 지워진 경우 한 번 더 처리 담당을 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (idempotencyStore.tryStart(key, fingerprint, inFlightTtl)) {
+                return executeAndStore(key, fingerprint, action);
+            }
+
+            Optional<IdempotencyRecord> record = await(key);
+            if (record.isEmpty()) {
+                continue;
+            }
+            if (!fingerprint.equals(record.get().getFingerprint())) {
+                throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+            }
+            if (!record.get().isCompleted()) {
+                throw new IllegalStateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            log.info("Idempotent replay: key={}", key);
+            return read(record.get().getResponse(), responseType);
+        }
+        throw new IllegalStateException("같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private <T> T executeAndStore(String key, String fingerprint, Supplier<T> action) {
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyStore.remove(key);
+            throw e;
+        }
+        idempotencyStore.complete(key, IdempotencyRecord.completed(fingerprint, write(response)), ttl);
+        return response;
+    }
+
+    private Optional<IdempotencyRecord> await(String key) {
+        try {
+            return idempotencyStore.await(key, waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(write(request).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T read(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답을 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package heej.net.common.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멱등성 키로 저장되는 요청 처리 상태
+ *
+ * completed 가 false 면 첫 요청이 아직 처리 중이며, true 면 response 에 응답 본문(JSON)이 저장되어 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    private String fingerprint;   // 요청 본문 해시 - 같은 키로 다른 요청을 보내면 거절
+    private boolean completed;
+    private String response;
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, false, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, String response) {
+        return new IdempotencyRecord(fingerprint, true, response);
+    }
+}
@@ -0,0 +1,27 @@
+package heej.net.common.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 멱등성 키 저장소 - 기본은 메모리, redis.enabled=true 면 Redis
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키가 없을 때만 처리 중 상태로 등록합니다. 등록했으면 true (이 요청이 처리 담당)
+     */
+    boolean tryStart(String key, String fingerprint, Duration inFlightTtl);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * 처리 중인 요청이 끝나거나(완료/삭제) timeout 이 지날 때까지 기다린 뒤 현재 상태를 반환합니다.
+     */
+    Optional<IdempotencyRecord> await(String key, Duration timeout) throws InterruptedException;
+
+    void complete(String key, IdempotencyRecord record, Duration ttl);
+
+    // 처리 실패 시 키를 지워 같은 키로 다시 시도할 수 있게 함
+    void remove(String key);
+}
@@ -0,0 +1,99 @@
+package heej.net.common.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 메모리 멱등성 저장소 (단일 인스턴스용)
+ *
+ * 처리 중인 키마다 CompletableFuture 를 두어, 동시에 들어온 중복 요청은 폴링 없이 첫 요청의 완료를 기다립니다.
+ */
+@Component
+@ConditionalOnProperty(name = "redis.enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryStart(String key, String fingerprint, Duration inFlightTtl) {
+        Entry started = new Entry(IdempotencyRecord.inProgress(fingerprint), expiresAt(inFlightTtl));
+        Entry current = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired() ? started : existing);
+        return current == started;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.record);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> await(String key, Duration timeout) throws InterruptedException {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.record.isCompleted()) {
+            try {
+                entry.done.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                // 시간 초과 - 현재 상태 그대로 반환
+            }
+        }
+        return find(key);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        Entry previous = entries.put(key, new Entry(record, expiresAt(ttl)));
+        if (previous != null) {
+            previous.done.complete(null);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            previous.done.complete(null);
+        }
+    }
+
+    /**
+     * 만료된 키 정리 (10분마다)
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    private long expiresAt(Duration ttl) {
+        return System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private static final class Entry {
+        private final IdempotencyRecord record;
+        private final long expiresAtMillis;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Entry(IdempotencyRecord record, long expiresAtMillis) {
+            this.record = record;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package heej.net.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 멱등성 저장소 (여러 인스턴스 간 공유)
+ *
+ * 처리 중 등록은 SET NX 로 하고, 중복 요청은 짧은 간격으로 상태를 다시 읽으며 첫 요청의 완료를 기다립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "redis.enabled", havingValue = "true", matchIfMissing = false)
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "IDEM:";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean tryStart(String key, String fingerprint, Duration inFlightTtl) {
+        Boolean started = redisTemplate.opsForValue().setIfAbsent(
+                KEY_PREFIX + key, write(IdempotencyRecord.inProgress(fingerprint)),
+                inFlightTtl.toMillis(), TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(started);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return Optional.ofNullable(value).map(this::read);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> await(String key, Duration timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        Optional<IdempotencyRecord> record = find(key);
+        while (record.isPresent() && !record.get().isCompleted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+            record = find(key);
+        }
+        return record;
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, write(record), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        log.debug("Idempotency record completed: {}", key);
+    }
+
+    @Override
+    public void remove(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 정보를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 정보를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package heej.net.common.index;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * DB 기준 스냅샷 + 커밋 이벤트 갱신으로 유지하는 메모리 인덱스의 공통 뼈대
+ *
+ * - 스냅샷은 통째로 교체(replace)하고, 그 사이의 변경은 update() 로 현재 스냅샷에 직접 반영합니다.
+ * - 갱신 횟수(modCount)는 적재 전에 들어온 변경도 셉니다. 재구성/초기 적재는 DB를 읽기 전 값을 기억해 두었다가
+ *   그 사이 변경이 없을 때만 교체(replaceIfUnchanged)하므로, 읽는 동안 커밋된 변경을 덮어쓰지 않습니다.
+ * - 갱신/교체는 쓰기 락으로 단독 실행합니다. 조회는 스냅샷 구조에 따라 락 없이(current()) 또는
+ *   읽기 락 안에서(read()) 실행합니다 - 제자리에서 바뀌는 배열/BitSet 을 읽는 인덱스는 read() 를 써야 합니다.
+ * - 비활성화되었거나 아직 적재되지 않았으면 조회 결과는 Optional.empty() 이고, 호출 측이 DB 조회로 대체(fallback)합니다.
+ *
+ * @param <S> 스냅샷 타입
+ */
+@Slf4j
+public abstract class SnapshotIndex<S> {
+
+    private final String name;
+    private final boolean enabled;
+
+    private volatile S snapshot;
+
+    // 갱신 횟수 - 재구성 중에 발생한 변경을 감지하기 위해 사용
+    private final AtomicLong modCount = new AtomicLong();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    protected SnapshotIndex(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    public long getModCount() {
+        return modCount.get();
+    }
+
+    /**
+     * 재구성 도중 다른 갱신이 없었을 때만 교체합니다.
+     */
+    public boolean replaceIfUnchanged(S built, long expectedModCount) {
+        lock.writeLock().lock();
+        try {
+            if (modCount.get() != expectedModCount) {
+                return false;
+            }
+            replace(built);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void replace(S built) {
+        lock.writeLock().lock();
+        try {
+            this.snapshot = built;
+            log.info("{} loaded: {}", name, describe(built));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 로그에 남길 스냅샷 요약 (건수 등)
+     */
+    protected abstract String describe(S built);
+
+    /**
+     * 현재 스냅샷 (비활성화되었거나 적재 전이면 null) - 락 없이 읽어도 안전한 스냅샷에서만 사용
+     */
+    protected S current() {
+        return enabled ? snapshot : null;
+    }
+
+    /**
+     * 읽기 락 안에서 현재 스냅샷으로 조회합니다. 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    protected <R> Optional<R> read(Function<S, R> query) {
+        if (!enabled || snapshot == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(query.apply(snapshot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 스냅샷에 변경을 반영합니다. 적재 전이면 변경 횟수만 올려, 진행 중인 적재가 이 변경을 덮어쓰지 않고 다시 읽게 합니다.
+     */
+    protected void update(Consumer<S> change) {
+        lock.writeLock().lock();
+        try {
+            modCount.incrementAndGet();
+            S current = snapshot;
+            if (current != null) {
+                change.accept(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package heej.net.common.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * SnapshotIndex 의 초기 적재와 주기적 재구성
+ *
+ * - 초기 적재는 애플리케이션 준비 완료 시점(초기 데이터 적재(CommandLineRunner)가 끝난 뒤)에 한 번 실행합니다.
+ *   DB를 읽는 동안 커밋된 변경이 있으면 다시 읽고, 계속 바뀌면 다음 재구성 주기에 맡깁니다 (그동안은 DB 조회로 대체).
+ * - 하위 클래스는 rebuild() 를 재정의해 @Scheduled 주기를 붙입니다.
+ *
+ * @param <S> 스냅샷 타입
+ */
+@Slf4j
+public abstract class SnapshotIndexScheduler<S> {
+
+    private static final int INITIAL_LOAD_ATTEMPTS = 3;
+
+    private final SnapshotIndex<S> index;
+    private final String disabledMessage;
+
+    protected SnapshotIndexScheduler(SnapshotIndex<S> index, String disabledMessage) {
+        this.index = index;
+        this.disabledMessage = disabledMessage;
+    }
+
+    /**
+     * DB 기준으로 새 스냅샷을 만듭니다.
+     */
+    protected abstract S loadSnapshot();
+
+    /**
+     * 초기 적재 전에 한 번 실행할 준비 작업 (인덱스 사용 여부와 무관하게 실행)
+     */
+    protected void beforeInitialLoad() {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        beforeInitialLoad();
+        if (!index.isEnabled()) {
+            log.info(disabledMessage);
+            return;
+        }
+        for (int attempt = 0; attempt < INITIAL_LOAD_ATTEMPTS; attempt++) {
+            if (reload()) {
+                return;
+            }
+        }
+        log.warn("{} kept changing during initial load. Retrying next cycle.", index.getName());
+    }
+
+    /**
+     * 이벤트로 반영되지 않은 변경을 복구하기 위해 DB 기준으로 재구성합니다
+     */
+    public void rebuild() {
+        if (!index.isEnabled()) {
+            return;
+        }
+        if (!reload()) {
+            // 재구성 도중 변경이 반영됨 - 다음 주기에 다시 시도
+            log.info("{} changed during rebuild. Retrying next cycle.", index.getName());
+        }
+    }
+
+    /**
+     * 새 스냅샷을 읽는 동안 다른 갱신이 없었으면 교체하고 true
+     */
+    protected boolean reload() {
+        long modCountBefore = index.getModCount();
+        return index.replaceIfUnchanged(loadSnapshot(), modCountBefore);
+    }
+}
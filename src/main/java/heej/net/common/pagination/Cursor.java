@@ -0,0 +1,47 @@
+package heej.net.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서 - 마지막으로 반환한 행의 (createdAt, id)
+ *
+ * 클라이언트에는 내용을 알 수 없는 문자열(Base64 URL-safe)로만 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 빈 값이면 null(첫 페이지), 형식이 잘못되었으면 IllegalArgumentException
+     */
+    public static Cursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -159,6 +159,9 @@ public class DataInitializer {
             room4.setAmenities(List.of("무료 Wi-Fi", "에어컨", "공용 샤워실", "사물함"));
             roomRepository.save(room4);
 
+            // 객실을 직접 저장했으므로 숙소별 객실 요약(최저/최고 요금 등)을 한 번에 집계
+            accommodationRepository.refreshAllRoomSummaries();
+
             log.info("Sample data initialized successfully!");
             log.info("Created {} accommodations and {} rooms",
                     accommodationRepository.count(),
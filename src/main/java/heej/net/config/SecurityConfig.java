@@ -1,9 +1,11 @@
 package heej.net.config;
+import heej.net.domain.member.model.MemberRole;
 import heej.net.domain.member.util.JwtTokenProvider;
 import heej.net.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -28,6 +30,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/health/**").permitAll()
                         .requestMatchers("/api/members/signup", "/api/members/login", "/api/members/refresh").permitAll()
                         .requestMatchers("/api/holidays/**").permitAll()
+                        .requestMatchers("/api/pricing/quote").permitAll()
+                        .requestMatchers("/api/pricing/**").hasAuthority(MemberRole.ADMIN.getKey())
+                        .requestMatchers(HttpMethod.PATCH, "/api/rooms/*/price").hasAuthority(MemberRole.ADMIN.getKey())
                         .requestMatchers("/api/reservations/**").authenticated()
                         .requestMatchers("/api/members/**").authenticated()
                         .anyRequest().permitAll())
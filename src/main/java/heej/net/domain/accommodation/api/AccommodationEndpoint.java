@@ -1,5 +1,6 @@
 package heej.net.domain.accommodation.api;
 
+import heej.net.common.pagination.CursorPage;
 import heej.net.domain.accommodation.api.dto.*;
 import heej.net.domain.accommodation.usecase.AccommodationUseCase;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/accommodations")
@@ -18,7 +23,9 @@ public class AccommodationEndpoint {
 
     /**
      * 숙소 검색 및 목록 조회
-     * GET /api/accommodations?keyword=제주&city=제주&type=HOTEL&minRating=4&page=0&size=10
+     * GET /api/accommodations?keyword=제주&city=제주&type=HOTEL&minPrice=50000&maxPrice=150000&minRating=4&amenities=wifi,parking&page=0&size=10
+     * includeFacets=true 면 도시/지역/타입/평점별 숙소 수(facets)를 함께 반환합니다.
+     * sort=price|rating|relevance|distance 로 정렬 (기본 latest, relevance 는 keyword, distance 는 lat/lng 필요)
      */
     @GetMapping
     public ResponseEntity<Page<AccommodationResponse>> searchAccommodations(
@@ -26,27 +33,108 @@ public class AccommodationEndpoint {
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String region,
             @RequestParam(required = false) String type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) List<String> amenities,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeFacets,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng
     ) {
-        log.info("숙소 검색 API 호출: keyword={}, city={}, region={}, type={}, minRating={}",
-                keyword, city, region, type, minRating);
+        log.info("숙소 검색 API 호출: keyword={}, city={}, region={}, type={}, minRating={}, includeFacets={}, sort={}",
+                keyword, city, region, type, minRating, includeFacets, sort);
 
         AccommodationSearchRequest request = AccommodationSearchRequest.builder()
                 .keyword(keyword)
                 .city(city)
                 .region(region)
                 .type(type != null ? heej.net.domain.accommodation.model.AccommodationType.valueOf(type) : null)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
                 .minRating(minRating)
+                .amenities(amenities)
                 .page(page)
                 .size(size)
+                .includeFacets(includeFacets)
+                .sort(heej.net.domain.accommodation.model.AccommodationSort.valueOf(sort.trim().toUpperCase(Locale.ROOT)))
+                .latitude(lat)
+                .longitude(lng)
                 .build();
 
         Page<AccommodationResponse> result = accommodationUseCase.searchAccommodations(request);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 숙소 목록 커서 페이지 조회 (검색 조건은 목록 조회와 동일, 깊은 페이지도 일정한 속도)
+     * GET /api/accommodations/scroll?city=제주&size=10&cursor={nextCursor}
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<AccommodationResponse>> scrollAccommodations(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) List<String> amenities,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("숙소 커서 검색 API 호출: keyword={}, city={}, region={}, type={}, minRating={}",
+                keyword, city, region, type, minRating);
+
+        AccommodationSearchRequest request = AccommodationSearchRequest.builder()
+                .keyword(keyword)
+                .city(city)
+                .region(region)
+                .type(type != null ? heej.net.domain.accommodation.model.AccommodationType.valueOf(type) : null)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minRating(minRating)
+                .amenities(amenities)
+                .size(size)
+                .cursor(cursor)
+                .build();
+
+        CursorPage<AccommodationResponse> result = accommodationUseCase.scrollAccommodations(request);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 주변 숙소 검색 (가까운 순, 도시/타입/평점 필터 조합 가능)
+     * GET /api/accommodations/nearby?lat=37.5012&lng=127.0396&radiusKm=5&type=HOTEL&minRating=4&limit=20
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyAccommodationResponse>> searchNearby(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(defaultValue = "5") Double radiusKm,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        log.info("숙소 주변 검색 API 호출: lat={}, lng={}, radiusKm={}, city={}, type={}, minRating={}",
+                lat, lng, radiusKm, city, type, minRating);
+
+        NearbySearchRequest request = NearbySearchRequest.builder()
+                .latitude(lat)
+                .longitude(lng)
+                .radiusKm(radiusKm)
+                .city(city)
+                .type(type != null ? heej.net.domain.accommodation.model.AccommodationType.valueOf(type) : null)
+                .minRating(minRating)
+                .limit(limit)
+                .build();
+
+        return ResponseEntity.ok(accommodationUseCase.searchNearby(request));
+    }
+
     /**
      * 숙소 상세 조회 (이미지 및 객실 목록 포함)
      * GET /api/accommodations/{id}
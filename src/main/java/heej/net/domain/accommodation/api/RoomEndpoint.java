@@ -2,13 +2,18 @@ package heej.net.domain.accommodation.api;
 
 import heej.net.domain.accommodation.api.dto.RoomCreateRequest;
 import heej.net.domain.accommodation.api.dto.RoomDetailResponse;
+import heej.net.domain.accommodation.api.dto.RoomPriceUpdateRequest;
 import heej.net.domain.accommodation.api.dto.RoomResponse;
 import heej.net.domain.accommodation.usecase.AccommodationUseCase;
+import heej.net.domain.reservation.api.dto.RoomCalendarResponse;
+import heej.net.domain.reservation.usecase.ReservationUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -18,6 +23,7 @@ import java.util.List;
 public class RoomEndpoint {
 
     private final AccommodationUseCase accommodationUseCase;
+    private final ReservationUseCase reservationUseCase;
 
     /**
      * 전체 객실 목록 조회
@@ -42,6 +48,21 @@ public class RoomEndpoint {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 객실 예약 달력 조회 (예약/공휴일/예약 가능 구간)
+     * GET /api/rooms/{id}/calendar?from=2025-01-01&to=2025-03-31
+     */
+    @GetMapping("/{id}/calendar")
+    public ResponseEntity<RoomCalendarResponse> getRoomCalendar(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("객실 달력 조회 API 호출: roomId={}, from={}, to={}", id, from, to);
+
+        RoomCalendarResponse response = reservationUseCase.getRoomCalendar(id, from, to);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 객실 등록
      * POST /api/rooms
@@ -55,5 +76,19 @@ public class RoomEndpoint {
         RoomResponse response = accommodationUseCase.createRoom(request);
         return ResponseEntity.status(org.springframework.http.HttpStatus.CREATED).body(response);
     }
-}
 
+    /**
+     * 객실 1박 기본 요금 변경
+     * PATCH /api/rooms/{id}/price
+     */
+    @PatchMapping("/{id}/price")
+    public ResponseEntity<RoomResponse> updateRoomPrice(
+            @PathVariable Long id,
+            @jakarta.validation.Valid @RequestBody RoomPriceUpdateRequest request
+    ) {
+        log.info("객실 요금 변경 API 호출: roomId={}, pricePerNight={}", id, request.getPricePerNight());
+
+        RoomResponse response = accommodationUseCase.updateRoomPrice(id, request.getPricePerNight());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,36 @@
+package heej.net.domain.accommodation.api.dto;
+
+import heej.net.domain.accommodation.infra.AccommodationFacetCounts;
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 검색 결과 옆에 표시할 도시/지역/타입/평점별 숙소 수 (많은 순, 평점은 높은 순)
+ * 각 항목은 자기 자신의 필터를 뺀 나머지 검색 조건으로 집계합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccommodationFacetResponse {
+    private long total;                               // 모든 검색 조건을 만족하는 숙소 수
+    private Map<String, Integer> cities;
+    private Map<String, Integer> regions;
+    private Map<AccommodationType, Integer> types;
+    private Map<Integer, Integer> ratings;            // 평점 -> 숙소 수
+
+    public static AccommodationFacetResponse from(AccommodationFacetCounts counts) {
+        return AccommodationFacetResponse.builder()
+                .total(counts.getTotal())
+                .cities(counts.getCities())
+                .regions(counts.getRegions())
+                .types(counts.getTypes())
+                .ratings(counts.getRatings())
+                .build();
+    }
+}
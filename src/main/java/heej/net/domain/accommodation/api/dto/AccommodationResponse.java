@@ -28,6 +28,9 @@ public class AccommodationResponse {
     private String mainImage;
     private AccommodationStatus status;
     private Integer rating;
+    private BigDecimal minPricePerNight;  // 객실 최저 1박 요금
+    private BigDecimal maxPricePerNight;  // 객실 최고 1박 요금
+    private Integer roomCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
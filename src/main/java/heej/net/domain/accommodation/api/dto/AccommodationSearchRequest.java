@@ -1,5 +1,6 @@
 package heej.net.domain.accommodation.api.dto;
 
+import heej.net.domain.accommodation.model.AccommodationSort;
 import heej.net.domain.accommodation.model.AccommodationType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,20 +8,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class AccommodationSearchRequest {
-    private String keyword;          // 검색 키워드 (이름, 주소)
+    private String keyword;          // 검색 키워드 (이름, 주소, 도시, 지역)
     private String city;             // 도시
     private String region;           // 지역
     private AccommodationType type;  // 숙소 타입
     private BigDecimal minPrice;     // 최소 가격
     private BigDecimal maxPrice;     // 최대 가격
     private Integer minRating;       // 최소 평점
+    private List<String> amenities;  // 편의시설 코드 (모두 갖춘 객실이 있는 숙소만, 예: wifi,parking)
     private Integer page = 0;        // 페이지 번호
     private Integer size = 10;       // 페이지 크기
+    private String cursor;           // 커서 페이지 조회 시 이전 응답의 nextCursor
+    private boolean includeFacets;   // true 면 도시/지역/타입/평점별 숙소 수를 함께 반환
+    private AccommodationSort sort = AccommodationSort.LATEST;  // 정렬 (latest, price, rating, relevance, distance)
+    private Double latitude;         // 거리순 기준 위도
+    private Double longitude;        // 거리순 기준 경도
 }
 
@@ -0,0 +1,22 @@
+package heej.net.domain.accommodation.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * 숙소 검색 페이지 + 검색 집계
+ * 기존 페이지 응답 형태를 그대로 유지하고 facets 필드만 추가합니다 (집계를 계산하지 못하면 생략).
+ */
+@Getter
+public class AccommodationSearchResponse extends PageImpl<AccommodationResponse> {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final AccommodationFacetResponse facets;
+
+    public AccommodationSearchResponse(Page<AccommodationResponse> page, AccommodationFacetResponse facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,27 @@
+package heej.net.domain.accommodation.api.dto;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyAccommodationResponse {
+    private Long id;
+    private String name;
+    private AccommodationType type;
+    private String address;
+    private String city;
+    private String region;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private String mainImage;
+    private Integer rating;
+    private Double distanceKm;  // 기준 위치로부터의 거리 (km, 소수 둘째 자리 반올림)
+}
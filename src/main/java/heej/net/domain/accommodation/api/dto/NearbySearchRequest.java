@@ -0,0 +1,21 @@
+package heej.net.domain.accommodation.api.dto;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbySearchRequest {
+    private Double latitude;         // 기준 위도
+    private Double longitude;        // 기준 경도
+    private Double radiusKm;         // 검색 반경 (km)
+    private String city;             // 도시
+    private AccommodationType type;  // 숙소 타입
+    private Integer minRating;       // 최소 평점
+    private Integer limit;           // 최대 조회 개수
+}
@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -44,5 +45,7 @@ public class RoomCreateRequest {
     private Integer size;
 
     private String mainImage;
+
+    private List<String> amenities;   // 편의시설 이름 목록 (사전에 있는 항목은 편의시설 필터 대상)
 }
 
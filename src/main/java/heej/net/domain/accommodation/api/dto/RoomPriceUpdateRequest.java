@@ -0,0 +1,18 @@
+package heej.net.domain.accommodation.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomPriceUpdateRequest {
+    @NotNull(message = "1박 가격은 필수입니다")
+    @Positive(message = "1박 가격은 양수여야 합니다")
+    private BigDecimal pricePerNight;
+}
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @NoArgsConstructor
@@ -27,6 +28,7 @@ public class RoomResponse {
     private Integer size;
     private String mainImage;
     private RoomStatus status;
+    private List<String> amenities;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,48 @@
+package heej.net.domain.accommodation.event;
+
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 숙소가 등록/수정/삭제되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 키워드 검색 인덱스, 주변 검색 인덱스, 검색 집계 인덱스 등이 이 이벤트를 받아 갱신합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccommodationChangedEvent {
+
+    private final Long accommodationId;
+    private final String name;
+    private final String address;
+    private final String city;
+    private final String region;
+    private final AccommodationType type;
+    private final BigDecimal latitude;
+    private final BigDecimal longitude;
+    private final Integer rating;
+    private final BigDecimal minPricePerNight;
+    private final BigDecimal maxPricePerNight;
+    private final Integer maxRoomCapacity;
+    private final LocalDateTime createdAt;
+    private final boolean removed;   // true: 삭제, false: 등록/수정
+
+    public static AccommodationChangedEvent saved(Accommodation accommodation) {
+        return new AccommodationChangedEvent(accommodation.getId(), accommodation.getName(),
+                accommodation.getAddress(), accommodation.getCity(), accommodation.getRegion(),
+                accommodation.getType(), accommodation.getLatitude(), accommodation.getLongitude(),
+                accommodation.getRating(), accommodation.getMinPricePerNight(),
+                accommodation.getMaxPricePerNight(), accommodation.getMaxRoomCapacity(),
+                accommodation.getCreatedAt(), false);
+    }
+
+    public static AccommodationChangedEvent removed(Long accommodationId) {
+        return new AccommodationChangedEvent(accommodationId, null, null, null, null,
+                null, null, null, null, null, null, null, null, true);
+    }
+}
@@ -0,0 +1,29 @@
+package heej.net.domain.accommodation.event;
+
+import heej.net.domain.accommodation.model.Room;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 객실이 등록/수정/삭제되어 편의시설 구성이 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 편의시설 인덱스가 이 이벤트를 받아 갱신합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RoomAmenitiesChangedEvent {
+
+    private final Long roomId;
+    private final Long accommodationId;
+    private final long amenityMask;
+    private final boolean removed;   // true: 삭제, false: 등록/수정
+
+    public static RoomAmenitiesChangedEvent saved(Room room) {
+        return new RoomAmenitiesChangedEvent(room.getId(), room.getAccommodation().getId(),
+                room.getAmenityMask() != null ? room.getAmenityMask() : 0L, false);
+    }
+
+    public static RoomAmenitiesChangedEvent removed(Long roomId) {
+        return new RoomAmenitiesChangedEvent(roomId, null, 0L, true);
+    }
+}
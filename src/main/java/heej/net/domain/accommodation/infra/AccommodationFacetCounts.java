@@ -0,0 +1,21 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 검색 조건별 집계 결과 - 값별 숙소 수 (많은 순)
+ * 각 항목은 자기 자신의 필터를 뺀 나머지 조건으로 집계하므로, 도시를 고른 상태에서도 다른 도시의 숙소 수를 보여줄 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationFacetCounts {
+    private long total;                                 // 모든 조건을 만족하는 숙소 수
+    private Map<String, Integer> cities;
+    private Map<String, Integer> regions;
+    private Map<AccommodationType, Integer> types;
+    private Map<Integer, Integer> ratings;
+}
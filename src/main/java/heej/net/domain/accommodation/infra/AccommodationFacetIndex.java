@@ -0,0 +1,562 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.common.index.SnapshotIndex;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.model.AccommodationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * 숙소 검색 집계(facet)용 열 저장소 (메모리)
+ *
+ * - 숙소마다 행 번호를 주고 도시/지역/타입 코드, 평점, 최저/최고 요금(원 단위 x100), 객실 최대 수용 인원, 좌표,
+ *   등록 시각(마이크로초)을 기본형 배열 열로 보관합니다.
+ * - 도시/지역/타입/평점 값마다 해당 행의 BitSet 을 두어, 필터 조건은 BitSet 조회로 확인합니다.
+ * - 집계는 살아있는 행을 한 번만 훑습니다. 행이 어긋난 집계 필터 수가 0 이면 모든 항목을 세고,
+ *   정확히 1 이면 어긋난 그 항목만 셉니다 (각 항목은 자기 필터를 뺀 나머지 조건으로 집계).
+ * - 같은 열로 검색 조건을 만족하는 숙소 ID 만 골라낼 수도 있습니다 (숙박 가능 숙소 검색의 숙소 단계).
+ * - 최신/요금/평점/관련도/거리순 검색은 조건을 만족하는 행을 한 번 훑으며 크기가 limit 로 제한된 힙에 앞쪽 행만 남깁니다.
+ *   정렬 키가 같으면 ID 내림차순으로 순서를 고정하므로, 같은 조건이면 페이지가 달라도 순서가 어긋나지 않습니다.
+ *   최신순은 DB 정렬(createdAt DESC, id DESC)과 같은 순서이며, 커서(createdAt, id) 이후만 고를 수도 있습니다.
+ * - 갱신은 숙소/객실 변경 커밋 이후 이벤트로 반영하며, 주기적으로 DB 기준으로 재구성합니다(삭제된 행 정리 포함).
+ *   배열/BitSet 을 제자리에서 고치므로 조회는 SnapshotIndex 의 읽기 락 안에서, 갱신은 쓰기 락으로 단독 실행합니다.
+ * - 비활성화되었거나 아직 로딩되지 않았으면 Optional.empty() 를 반환합니다.
+ */
+@Component
+public class AccommodationFacetIndex extends SnapshotIndex<AccommodationFacetIndex.Snapshot> {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final AccommodationType[] TYPES = AccommodationType.values();
+
+    public AccommodationFacetIndex(
+            @Value("${accommodation.facet-index.enabled:true}") boolean enabled) {
+        super("Accommodation facet index", enabled);
+    }
+
+    /**
+     * 현재 검색 조건에 대한 도시/지역/타입/평점별 숙소 수를 한 번의 순회로 집계합니다.
+     *
+     * @param candidateIds 키워드/편의시설 조건을 만족하는 숙소 ID (해당 조건이 없으면 null)
+     */
+    public Optional<AccommodationFacetCounts> count(Collection<Long> candidateIds, String city, String region,
+                                                    AccommodationType type, BigDecimal minPrice,
+                                                    BigDecimal maxPrice, Integer minRating) {
+        return read(current -> current.count(candidateIds, city, region, type, minPrice, maxPrice, minRating));
+    }
+
+    /**
+     * 검색 조건을 만족하고 guestCount 명이 묵을 수 있는 객실이 있는 숙소 ID 를 최신 등록순(등록 시각 내림차순, 같으면 ID 내림차순)으로 반환합니다.
+     *
+     * @param candidateIds 키워드/편의시설 조건을 만족하는 숙소 ID (해당 조건이 없으면 null)
+     */
+    public Optional<List<Long>> filter(Collection<Long> candidateIds, String city, String region,
+                                       AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                                       Integer minRating, Integer guestCount) {
+        return read(current -> current.filter(candidateIds, city, region, type, minPrice, maxPrice,
+                    minRating, guestCount));
+    }
+
+    /**
+     * 검색 조건을 만족하는 숙소 수와 sort 순서상 앞쪽 숙소 ID 최대 limit 건을 반환합니다 (전체 정렬 없이 상위 limit 건만 유지).
+     *
+     * @param candidateIds 키워드/편의시설 조건을 만족하는 숙소 ID (해당 조건이 없으면 null)
+     * @param relevance    관련도순일 때 숙소 ID 별 키워드 점수
+     * @param latitude     거리순일 때 기준 위도
+     * @param longitude    거리순일 때 기준 경도
+     */
+    public Optional<AccommodationRanking> rank(Collection<Long> candidateIds, String city, String region,
+                                               AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                                               Integer minRating, AccommodationSort sort, Map<Long, Double> relevance,
+                                               Double latitude, Double longitude, int limit) {
+        return read(current -> current.rank(candidateIds, city, region, type, minPrice, maxPrice, minRating,
+                    sort, relevance, latitude, longitude, limit));
+    }
+
+    /**
+     * 검색 조건을 만족하는 숙소 중 커서(createdAt, id) 다음부터 최신 등록순으로 최대 limit 건의 ID 를 반환합니다.
+     *
+     * @param candidateIds 키워드/편의시설 조건을 만족하는 숙소 ID (해당 조건이 없으면 null)
+     * @param cursorCreatedAt 이전 페이지 마지막 숙소의 등록 시각 (첫 페이지면 null)
+     * @param cursorId        이전 페이지 마지막 숙소 ID (첫 페이지면 null)
+     */
+    public Optional<List<Long>> latestAfter(Collection<Long> candidateIds, String city, String region,
+                                            AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                                            Integer minRating, LocalDateTime cursorCreatedAt, Long cursorId,
+                                            int limit) {
+        return read(current -> current.latestAfter(candidateIds, city, region, type, minPrice, maxPrice, minRating,
+                    cursorCreatedAt, cursorId, limit));
+    }
+
+    /**
+     * 숙소 등록/수정, 객실 등록/요금 변경이 커밋된 이후에만 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.isRemoved()) {
+            remove(event.getAccommodationId());
+        } else {
+            put(new AccommodationFacetRow(event.getAccommodationId(), event.getCity(), event.getRegion(),
+                    event.getType(), event.getRating(), event.getMinPricePerNight(), event.getMaxPricePerNight(),
+                    event.getMaxRoomCapacity(), event.getLatitude(), event.getLongitude(), event.getCreatedAt()));
+        }
+    }
+
+    public void put(AccommodationFacetRow row) {
+        update(current -> current.put(row));
+    }
+
+    public void remove(Long accommodationId) {
+        update(current -> current.remove(accommodationId));
+    }
+
+    /**
+     * DB에서 읽은 숙소 목록으로 열 저장소를 새로 만듭니다.
+     */
+    public Snapshot build(List<AccommodationFacetRow> rows) {
+        Snapshot built = new Snapshot(Math.max(INITIAL_CAPACITY, rows.size()));
+        rows.forEach(built::put);
+        return built;
+    }
+
+    @Override
+    protected String describe(Snapshot built) {
+        return "rows=" + built.live.cardinality() + ", cities=" + built.cities.size()
+                + ", regions=" + built.regions.size();
+    }
+
+    // 요금을 원 단위 x100 정수로 (객실 요금 scale 2)
+    private static long toMinor(BigDecimal amount, RoundingMode roundingMode) {
+        return amount.setScale(2, roundingMode).movePointRight(2).longValueExact();
+    }
+
+    // 등록 시각을 마이크로초 정수로 (DB datetime(6) 정밀도) - double 정렬 키로 옮겨도 정확히 표현됨
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    public static final class Snapshot {
+
+        private final Map<Long, Integer> rowById = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private int rowCount;
+
+        // 열 (행 번호로 접근)
+        private long[] ids;
+        private int[] cityCodes;
+        private int[] regionCodes;
+        private int[] typeCodes;
+        private int[] ratings;
+        private long[] minPrices;   // 객실이 없으면 Long.MAX_VALUE - 어떤 가격 조건도 만족하지 않음
+        private long[] maxPrices;   // 객실이 없으면 Long.MIN_VALUE
+        private int[] capacities;   // 객실 최대 수용 인원 중 가장 큰 값
+        private double[] latitudes;  // 좌표가 없으면 NaN - 거리순에서 맨 뒤
+        private double[] longitudes;
+        private long[] createdAts;   // 마이크로초, 없으면 Long.MIN_VALUE - 최신순에서 맨 뒤
+
+        // 값별 행 BitSet
+        private final Dictionary cities = new Dictionary();
+        private final Dictionary regions = new Dictionary();
+        private final BitSet[] typeRows = new BitSet[TYPES.length];
+        private final TreeMap<Integer, BitSet> ratingRows = new TreeMap<>();
+
+        private Snapshot(int capacity) {
+            ids = new long[capacity];
+            cityCodes = new int[capacity];
+            regionCodes = new int[capacity];
+            typeCodes = new int[capacity];
+            ratings = new int[capacity];
+            minPrices = new long[capacity];
+            maxPrices = new long[capacity];
+            capacities = new int[capacity];
+            latitudes = new double[capacity];
+            longitudes = new double[capacity];
+            createdAts = new long[capacity];
+            for (int i = 0; i < typeRows.length; i++) {
+                typeRows[i] = new BitSet();
+            }
+        }
+
+        private void put(AccommodationFacetRow source) {
+            Integer existing = rowById.get(source.getId());
+            int row;
+            if (existing != null) {
+                row = existing;
+                clearValues(row);
+            } else {
+                row = rowCount++;
+                ensureCapacity(rowCount);
+                rowById.put(source.getId(), row);
+            }
+
+            ids[row] = source.getId();
+            cityCodes[row] = cities.codeOf(source.getCity());
+            regionCodes[row] = regions.codeOf(source.getRegion());
+            typeCodes[row] = source.getType() != null ? source.getType().ordinal() : -1;
+            ratings[row] = source.getRating() != null ? source.getRating() : 0;
+            minPrices[row] = source.getMinPricePerNight() != null
+                    ? toMinor(source.getMinPricePerNight(), RoundingMode.HALF_UP) : Long.MAX_VALUE;
+            maxPrices[row] = source.getMaxPricePerNight() != null
+                    ? toMinor(source.getMaxPricePerNight(), RoundingMode.HALF_UP) : Long.MIN_VALUE;
+            capacities[row] = source.getMaxRoomCapacity() != null ? source.getMaxRoomCapacity() : 0;
+            boolean located = source.getLatitude() != null && source.getLongitude() != null;
+            latitudes[row] = located ? source.getLatitude().doubleValue() : Double.NaN;
+            longitudes[row] = located ? source.getLongitude().doubleValue() : Double.NaN;
+            createdAts[row] = source.getCreatedAt() != null ? toMicros(source.getCreatedAt()) : Long.MIN_VALUE;
+
+            cities.rows(cityCodes[row]).set(row);
+            regions.rows(regionCodes[row]).set(row);
+            if (typeCodes[row] >= 0) {
+                typeRows[typeCodes[row]].set(row);
+            }
+            ratingRows.computeIfAbsent(ratings[row], rating -> new BitSet()).set(row);
+            live.set(row);
+        }
+
+        // 삭제된 행 번호는 재사용하지 않음 (주기적 재구성 시 정리)
+        private void remove(Long id) {
+            Integer row = rowById.remove(id);
+            if (row == null) {
+                return;
+            }
+            clearValues(row);
+            live.clear(row);
+        }
+
+        private void clearValues(int row) {
+            cities.rows(cityCodes[row]).clear(row);
+            regions.rows(regionCodes[row]).clear(row);
+            if (typeCodes[row] >= 0) {
+                typeRows[typeCodes[row]].clear(row);
+            }
+            BitSet rated = ratingRows.get(ratings[row]);
+            if (rated != null) {
+                rated.clear(row);
+            }
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) {
+                return;
+            }
+            int capacity = Math.max(required, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            cityCodes = Arrays.copyOf(cityCodes, capacity);
+            regionCodes = Arrays.copyOf(regionCodes, capacity);
+            typeCodes = Arrays.copyOf(typeCodes, capacity);
+            ratings = Arrays.copyOf(ratings, capacity);
+            minPrices = Arrays.copyOf(minPrices, capacity);
+            maxPrices = Arrays.copyOf(maxPrices, capacity);
+            capacities = Arrays.copyOf(capacities, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            createdAts = Arrays.copyOf(createdAts, capacity);
+        }
+
+        private AccommodationFacetCounts count(Collection<Long> candidateIds, String city, String region,
+                                               AccommodationType type, BigDecimal minPrice,
+                                               BigDecimal maxPrice, Integer minRating) {
+            // 집계 대상이 아닌 조건(키워드, 편의시설)은 후보 행 자체를 줄임
+            BitSet candidates = candidateIds != null ? rowsOf(candidateIds) : live;
+
+            // 집계 항목별 필터 (조건이 없으면 null) - 없는 값이면 빈 BitSet
+            BitSet cityFilter = isBlank(city) ? null : cities.rowsOf(city.trim());
+            BitSet regionFilter = isBlank(region) ? null : regions.rowsOf(region.trim());
+            BitSet typeFilter = type != null ? typeRows[type.ordinal()] : null;
+            BitSet ratingFilter = null;
+            if (minRating != null) {
+                ratingFilter = new BitSet();
+                for (BitSet rated : ratingRows.tailMap(minRating, true).values()) {
+                    ratingFilter.or(rated);
+                }
+            }
+
+            long minPriceMinor = minPrice != null ? toMinor(minPrice, RoundingMode.CEILING) : Long.MIN_VALUE;
+            long maxPriceMinor = maxPrice != null ? toMinor(maxPrice, RoundingMode.FLOOR) : Long.MAX_VALUE;
+            boolean priceFiltered = minPrice != null || maxPrice != null;
+
+            int[] cityCounts = new int[cities.size()];
+            int[] regionCounts = new int[regions.size()];
+            int[] typeCounts = new int[TYPES.length];
+            Map<Integer, Integer> ratingCounts = new HashMap<>();
+            long total = 0;
+
+            for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                // 가격 조건은 집계 항목이 아니므로 모든 항목에 공통 적용 (객실 요금 범위와 요청 범위가 겹치는지)
+                if (priceFiltered && (maxPrices[row] < minPriceMinor || minPrices[row] > maxPriceMinor)) {
+                    continue;
+                }
+                boolean cityMiss = cityFilter != null && !cityFilter.get(row);
+                boolean regionMiss = regionFilter != null && !regionFilter.get(row);
+                boolean typeMiss = typeFilter != null && !typeFilter.get(row);
+                boolean ratingMiss = ratingFilter != null && !ratingFilter.get(row);
+                int misses = (cityMiss ? 1 : 0) + (regionMiss ? 1 : 0) + (typeMiss ? 1 : 0) + (ratingMiss ? 1 : 0);
+                if (misses > 1) {
+                    continue;
+                }
+                if (misses == 0) {
+                    total++;
+                }
+                if (!regionMiss && !typeMiss && !ratingMiss) {
+                    cityCounts[cityCodes[row]]++;
+                }
+                if (!cityMiss && !typeMiss && !ratingMiss) {
+                    regionCounts[regionCodes[row]]++;
+                }
+                if (!cityMiss && !regionMiss && !ratingMiss && typeCodes[row] >= 0) {
+                    typeCounts[typeCodes[row]]++;
+                }
+                if (!cityMiss && !regionMiss && !typeMiss) {
+                    ratingCounts.merge(ratings[row], 1, Integer::sum);
+                }
+            }
+
+            Map<Integer, Integer> sortedRatings = new LinkedHashMap<>();
+            ratingCounts.entrySet().stream()
+                    .sorted(Map.Entry.<Integer, Integer>comparingByKey().reversed())
+                    .forEach(entry -> sortedRatings.put(entry.getKey(), entry.getValue()));
+
+            return new AccommodationFacetCounts(total,
+                    byCountDesc(cityCounts, cities::valueOf),
+                    byCountDesc(regionCounts, regions::valueOf),
+                    byCountDesc(typeCounts, code -> TYPES[code]),
+                    sortedRatings);
+        }
+
+        private List<Long> filter(Collection<Long> candidateIds, String city, String region,
+                                  AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                                  Integer minRating, Integer guestCount) {
+            BitSet matched = select(candidateIds, city, region, type, minPrice, maxPrice, minRating, guestCount);
+            // DB 조회와 같은 (createdAt, id) 내림차순 - ID 순서와 등록 순서는 다를 수 있음
+            return top(matched, this::latestKey, matched.cardinality());
+        }
+
+        private AccommodationRanking rank(Collection<Long> candidateIds, String city, String region,
+                                          AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                                          Integer minRating, AccommodationSort sort, Map<Long, Double> relevance,
+                                          Double latitude, Double longitude, int limit) {
+            BitSet matched = select(candidateIds, city, region, type, minPrice, maxPrice, minRating, null);
+            return new AccommodationRanking(matched.cardinality(),
+                    top(matched, row -> sortKey(row, sort, relevance, latitude, longitude), limit));
+        }
+
+        private List<Long> latestAfter(Collection<Long> candidateIds, String city, String region,
+                                       AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                                       Integer minRating, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+            BitSet matched = select(candidateIds, city, region, type, minPrice, maxPrice, minRating, null);
+            if (cursorCreatedAt != null && cursorId != null) {
+                // (createdAt, id) < (커서 createdAt, 커서 id) 인 행만 - DB 키셋 조건과 같음
+                long cursorMicros = toMicros(cursorCreatedAt);
+                for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+                    if (createdAts[row] > cursorMicros || (createdAts[row] == cursorMicros && ids[row] >= cursorId)) {
+                        matched.clear(row);
+                    }
+                }
+            }
+            return top(matched, this::latestKey, limit);
+        }
+
+        // 정렬 키 오름차순(같으면 ID 내림차순)으로 앞쪽 최대 limit 건의 ID
+        private List<Long> top(BitSet matched, IntToDoubleFunction keyOf, int limit) {
+            int total = matched.cardinality();
+            if (limit <= 0 || total == 0) {
+                return List.of();
+            }
+
+            // 정렬 키 오름차순, 같으면 ID 내림차순 - 힙은 그 반대 순서로 두어 가장 뒤쪽 행이 맨 위에 오게 함
+            Comparator<Ranked> order = Comparator.comparingDouble(Ranked::key)
+                    .thenComparing(Ranked::id, Comparator.reverseOrder());
+            PriorityQueue<Ranked> top = new PriorityQueue<>(Math.min(limit, total) + 1, order.reversed());
+            for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+                double key = keyOf.applyAsDouble(row);
+                if (top.size() < limit) {
+                    top.offer(new Ranked(ids[row], key));
+                    continue;
+                }
+                Ranked last = top.peek();
+                int compared = Double.compare(key, last.key);
+                if (compared < 0 || (compared == 0 && ids[row] > last.id)) {
+                    top.poll();
+                    top.offer(new Ranked(ids[row], key));
+                }
+            }
+
+            List<Ranked> ranked = new ArrayList<>(top);
+            ranked.sort(order);
+            List<Long> result = new ArrayList<>(ranked.size());
+            for (Ranked entry : ranked) {
+                result.add(entry.id);
+            }
+            return result;
+        }
+
+        // 작을수록 앞 - 값이 없는 행(객실 없음, 좌표 없음)은 맨 뒤
+        private double sortKey(int row, AccommodationSort sort, Map<Long, Double> relevance,
+                               Double latitude, Double longitude) {
+            switch (sort) {
+                case PRICE:
+                    return minPrices[row];
+                case RATING:
+                    return -ratings[row];
+                case RELEVANCE:
+                    Double score = relevance != null ? relevance.get(ids[row]) : null;
+                    return score != null ? -score : Double.POSITIVE_INFINITY;
+                case DISTANCE:
+                    if (latitude == null || longitude == null || Double.isNaN(latitudes[row])) {
+                        return Double.POSITIVE_INFINITY;
+                    }
+                    return AccommodationGeoIndex.distanceKm(latitude, longitude, latitudes[row], longitudes[row]);
+                default:
+                    return latestKey(row);
+            }
+        }
+
+        // 최신순 - 등록 시각 내림차순
+        private double latestKey(int row) {
+            return createdAts[row] == Long.MIN_VALUE ? Double.POSITIVE_INFINITY : -(double) createdAts[row];
+        }
+
+        // 검색 조건(과 인원)을 모두 만족하는 행
+        private BitSet select(Collection<Long> candidateIds, String city, String region,
+                              AccommodationType type, BigDecimal minPrice, BigDecimal maxPrice,
+                              Integer minRating, Integer guestCount) {
+            BitSet matched = candidateIds != null ? rowsOf(candidateIds) : (BitSet) live.clone();
+            if (!isBlank(city)) {
+                matched.and(cities.rowsOf(city.trim()));
+            }
+            if (!isBlank(region)) {
+                matched.and(regions.rowsOf(region.trim()));
+            }
+            if (type != null) {
+                matched.and(typeRows[type.ordinal()]);
+            }
+
+            long minPriceMinor = minPrice != null ? toMinor(minPrice, RoundingMode.CEILING) : Long.MIN_VALUE;
+            long maxPriceMinor = maxPrice != null ? toMinor(maxPrice, RoundingMode.FLOOR) : Long.MAX_VALUE;
+            boolean priceFiltered = minPrice != null || maxPrice != null;
+            int guests = guestCount != null ? guestCount : 0;
+
+            for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+                if ((minRating != null && ratings[row] < minRating)
+                        || (priceFiltered && (maxPrices[row] < minPriceMinor || minPrices[row] > maxPriceMinor))
+                        || capacities[row] < guests) {
+                    matched.clear(row);
+                }
+            }
+            return matched;
+        }
+
+        private BitSet rowsOf(Collection<Long> candidateIds) {
+            BitSet rows = new BitSet();
+            for (Long id : candidateIds) {
+                Integer row = rowById.get(id);
+                if (row != null) {
+                    rows.set(row);
+                }
+            }
+            return rows;
+        }
+
+        private static <T> Map<T, Integer> byCountDesc(int[] counts, IntFunction<T> valueOf) {
+            List<Integer> codes = new ArrayList<>();
+            for (int code = 0; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    codes.add(code);
+                }
+            }
+            codes.sort(Comparator.<Integer>comparingInt(code -> counts[code]).reversed()
+                    .thenComparing(Comparator.naturalOrder()));
+            Map<T, Integer> result = new LinkedHashMap<>();
+            for (int code : codes) {
+                result.put(valueOf.apply(code), counts[code]);
+            }
+            return result;
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+
+    private static final class Ranked {
+        private final long id;
+        private final double key;
+
+        private Ranked(long id, double key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        private long id() {
+            return id;
+        }
+
+        private double key() {
+            return key;
+        }
+    }
+
+    /**
+     * 문자열 값 <-> 정수 코드 사전과 코드별 행 BitSet
+     */
+    /**
+     * 문자열 값별 코드와 행 집합 - DB 비교(MySQL 기본 collation)처럼 대소문자를 구분하지 않고, 표시 값은 처음 들어온 값을 씁니다.
+     */
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<BitSet> rows = new ArrayList<>();
+
+        private int codeOf(String value) {
+            String display = value != null ? value : "";
+            return codes.computeIfAbsent(fold(display), key -> {
+                values.add(display);
+                rows.add(new BitSet());
+                return values.size() - 1;
+            });
+        }
+
+        private String valueOf(int code) {
+            return values.get(code);
+        }
+
+        private BitSet rows(int code) {
+            return rows.get(code);
+        }
+
+        private BitSet rowsOf(String value) {
+            Integer code = codes.get(fold(value));
+            return code != null ? rows.get(code) : new BitSet();
+        }
+
+        private static String fold(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+
+        private int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 집계(facet) 인덱스에 넣을 필터/집계/정렬 필드만 담는 조회 전용 프로젝션 (숙박 가능 숙소 검색의 숙소 단계에도 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationFacetRow {
+    private Long id;
+    private String city;
+    private String region;
+    private AccommodationType type;
+    private Integer rating;
+    private BigDecimal minPricePerNight;
+    private BigDecimal maxPricePerNight;
+    private Integer maxRoomCapacity;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,225 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.common.index.SnapshotIndex;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import heej.net.domain.accommodation.model.AccommodationType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 숙소 좌표 격자 인덱스 (메모리)
+ *
+ * - 위도/경도를 cell-degrees 크기의 격자로 나누고, 격자 칸마다 그 안의 숙소 좌표와 필터 필드(도시/타입/평점)를 보관합니다.
+ * - 주변 검색은 반경을 덮는 격자 칸만 훑으며 필터와 하버사인 거리를 확인하고,
+ *   가까운 순 상위 limit 건만 크기가 제한된 힙으로 유지합니다. 작업량은 전체 숙소 수가 아니라 주변 숙소 수에 비례합니다.
+ * - 갱신은 숙소 등록/수정 커밋 이후 이벤트로 반영하며, 주기적으로 DB 기준으로 재구성합니다 (SnapshotIndex).
+ * - 비활성화되었거나 아직 로딩되지 않았으면 Optional.empty() 를 반환하고, 호출 측이 DB 조회로 대체(fallback)해야 합니다.
+ */
+@Component
+public class AccommodationGeoIndex extends SnapshotIndex<AccommodationGeoIndex.Snapshot> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 위도 1도의 거리 (km)
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final double cellDegrees;
+    private final int longitudeCells;
+
+    public AccommodationGeoIndex(
+            @Value("${accommodation.geo-index.enabled:true}") boolean enabled,
+            @Value("${accommodation.geo-index.cell-degrees:0.05}") double cellDegrees) {
+        super("Accommodation geo index", enabled);
+        this.cellDegrees = cellDegrees;
+        this.longitudeCells = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    /**
+     * 반경 안에서 조건에 맞는 숙소를 가까운 순으로 최대 limit 건 반환합니다. 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    public Optional<List<NearbyHit>> findNearby(double latitude, double longitude, double radiusKm,
+                                                String city, AccommodationType type, Integer minRating, int limit) {
+        Snapshot current = current();
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        int minLatitudeCell = latitudeCell(Math.max(latitude - latitudeDelta, -90));
+        int maxLatitudeCell = latitudeCell(Math.min(latitude + latitudeDelta, 90));
+
+        // 경도 1도의 거리는 위도에 따라 줄어들므로 검색 범위의 가장 높은 위도 기준으로 넓힘
+        double maxAbsLatitude = Math.min(Math.abs(latitude) + latitudeDelta, 90);
+        double cos = Math.cos(Math.toRadians(maxAbsLatitude));
+        double longitudeDelta = cos < 1e-9 ? 180 : radiusKm / (KM_PER_DEGREE * cos);
+        int fromLongitude = (int) Math.floor((longitude - longitudeDelta + 180) / cellDegrees);
+        int toLongitude = (int) Math.floor((longitude + longitudeDelta + 180) / cellDegrees);
+        if (toLongitude - fromLongitude + 1 >= longitudeCells) {
+            fromLongitude = 0;
+            toLongitude = longitudeCells - 1;
+        }
+
+        // 먼 것이 위에 오는 힙 - 상위 limit 건만 유지
+        PriorityQueue<NearbyHit> nearest = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(NearbyHit::getDistanceKm).reversed());
+        for (int latitudeIndex = minLatitudeCell; latitudeIndex <= maxLatitudeCell; latitudeIndex++) {
+            for (int lng = fromLongitude; lng <= toLongitude; lng++) {
+                Map<Long, Point> cell = current.cells.get(cellKey(latitudeIndex, Math.floorMod(lng, longitudeCells)));
+                if (cell == null) {
+                    continue;
+                }
+                for (Point point : cell.values()) {
+                    if (!point.matches(city, type, minRating)) {
+                        continue;
+                    }
+                    double distance = distanceKm(latitude, longitude, point.latitude, point.longitude);
+                    if (distance > radiusKm) {
+                        continue;
+                    }
+                    if (nearest.size() < limit) {
+                        nearest.offer(new NearbyHit(point.id, distance));
+                    } else if (distance < nearest.peek().getDistanceKm()) {
+                        nearest.poll();
+                        nearest.offer(new NearbyHit(point.id, distance));
+                    }
+                }
+            }
+        }
+
+        List<NearbyHit> hits = new ArrayList<>(nearest);
+        hits.sort(Comparator.comparingDouble(NearbyHit::getDistanceKm)
+                .thenComparing(NearbyHit::getAccommodationId));
+        return Optional.of(hits);
+    }
+
+    /**
+     * 숙소 등록/수정/삭제가 커밋된 이후에만 인덱스에 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.isRemoved() || event.getLatitude() == null || event.getLongitude() == null) {
+            remove(event.getAccommodationId());
+        } else {
+            put(new AccommodationLocation(event.getAccommodationId(), event.getLatitude(), event.getLongitude(),
+                    event.getCity(), event.getType(), event.getRating()));
+        }
+    }
+
+    public void put(AccommodationLocation location) {
+        Point point = toPoint(location);
+        update(current -> {
+            current.remove(point.id);
+            current.add(point);
+        });
+    }
+
+    public void remove(Long accommodationId) {
+        update(current -> current.remove(accommodationId));
+    }
+
+    /**
+     * DB에서 읽은 숙소 좌표 목록으로 인덱스를 새로 만듭니다.
+     */
+    public Snapshot build(List<AccommodationLocation> locations) {
+        Snapshot built = new Snapshot();
+        for (AccommodationLocation location : locations) {
+            built.add(toPoint(location));
+        }
+        return built;
+    }
+
+    @Override
+    protected String describe(Snapshot built) {
+        return "points=" + built.points.size() + ", cells=" + built.cells.size();
+    }
+
+    /**
+     * 두 좌표 사이의 하버사인 거리 (km)
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private Point toPoint(AccommodationLocation location) {
+        double latitude = location.getLatitude().doubleValue();
+        double longitude = location.getLongitude().doubleValue();
+        long key = cellKey(latitudeCell(latitude),
+                Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), longitudeCells));
+        return new Point(location.getId(), latitude, longitude, key,
+                location.getCity(), location.getType(), location.getRating());
+    }
+
+    private int latitudeCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellDegrees);
+    }
+
+    private long cellKey(int latitudeCell, int longitudeCell) {
+        return (long) latitudeCell * longitudeCells + longitudeCell;
+    }
+
+    public static final class Snapshot {
+        private final Map<Long, Map<Long, Point>> cells = new ConcurrentHashMap<>();
+        private final Map<Long, Point> points = new ConcurrentHashMap<>();
+
+        private Snapshot() {
+        }
+
+        private void add(Point point) {
+            cells.computeIfAbsent(point.cellKey, key -> new ConcurrentHashMap<>()).put(point.id, point);
+            points.put(point.id, point);
+        }
+
+        private void remove(Long id) {
+            Point point = points.remove(id);
+            if (point == null) {
+                return;
+            }
+            cells.computeIfPresent(point.cellKey, (key, cell) -> {
+                cell.remove(id);
+                return cell.isEmpty() ? null : cell;
+            });
+        }
+    }
+
+    private static final class Point {
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+        private final long cellKey;
+        private final String city;
+        private final AccommodationType type;
+        private final Integer rating;
+
+        private Point(Long id, double latitude, double longitude, long cellKey,
+                      String city, AccommodationType type, Integer rating) {
+            this.id = id;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.cellKey = cellKey;
+            this.city = city;
+            this.type = type;
+            this.rating = rating;
+        }
+
+        private boolean matches(String city, AccommodationType type, Integer minRating) {
+            return (city == null || city.isBlank() || city.equalsIgnoreCase(this.city))
+                    && (type == null || type == this.type)
+                    && (minRating == null || (rating != null && rating >= minRating));
+        }
+    }
+}
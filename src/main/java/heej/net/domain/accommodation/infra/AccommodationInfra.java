@@ -1,16 +1,23 @@
 package heej.net.domain.accommodation.infra;
 
+import heej.net.common.pagination.Cursor;
 import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationSort;
 import heej.net.domain.accommodation.model.AccommodationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AccommodationInfra {
     Optional<Accommodation> findById(Long id);
 
+    List<Accommodation> findAllById(Collection<Long> ids);
+
     Page<Accommodation> searchAccommodations(
             String keyword,
             String city,
@@ -19,9 +26,110 @@ public interface AccommodationInfra {
             BigDecimal minPrice,
             BigDecimal maxPrice,
             Integer minRating,
+            Set<Long> candidateIds,   // 편의시설 등으로 미리 좁힌 숙소 ID (null 이면 제한 없음)
+            Pageable pageable         // 정렬이 있으면 그 순서 + ID 내림차순, 없으면 키워드 관련도순(키워드가 없거나 역색인을 쓸 수 없으면 최신 등록순)
+    );
+
+    // 기준 좌표에서 가까운 순 DB 검색 (좌표 없는 숙소는 맨 뒤, 같은 거리는 ID 내림차순) - 메모리 인덱스로 거리순을 매길 수 없을 때
+    Page<Accommodation> searchAccommodationsByDistance(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            double latitude,
+            double longitude,
             Pageable pageable
     );
 
+    // (createdAt, id) 내림차순 키셋 검색 - cursor 가 null 이면 첫 페이지
+    List<Accommodation> searchAccommodationsAfter(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            Cursor cursor,
+            int limit
+    );
+
+    // 반경 안의 숙소를 가까운 순으로 최대 limit 건 조회 (거리 포함)
+    List<NearbyHit> findNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            String city,
+            AccommodationType type,
+            Integer minRating,
+            int limit
+    );
+
+    // 검색 조건별 도시/지역/타입/평점 숙소 수 - 메모리 집계 인덱스로 답할 수 없으면 Optional.empty()
+    Optional<AccommodationFacetCounts> countFacets(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds
+    );
+
+    // 검색 조건을 만족하고 guestCount 명이 묵을 수 있는 객실이 있는 숙소 ID (최신 등록순)
+    // 메모리 인덱스로 답할 수 없으면 Optional.empty()
+    Optional<List<Long>> filterAccommodationIds(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Integer guestCount,
+            Set<Long> candidateIds
+    );
+
+    // 검색 조건을 만족하는 숙소 수와 sort 순서상 앞쪽 숙소 ID 최대 limit 건 (같은 정렬 키는 ID 내림차순)
+    // 메모리 인덱스로 답할 수 없으면 Optional.empty()
+    Optional<AccommodationRanking> rankAccommodations(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            AccommodationSort sort,
+            Double latitude,
+            Double longitude,
+            int limit
+    );
+
+    // 검색 집계 인덱스 적재용 필드 전체 조회
+    List<AccommodationFacetRow> findAllFacetRows();
+
+    // 주변 검색 인덱스 적재용 좌표 전체 조회
+    List<AccommodationLocation> findAllLocations();
+
+    // 키워드 검색 인덱스 적재용 텍스트 필드 전체 조회
+    List<AccommodationSearchDocument> findAllSearchDocuments();
+
+    // 숙소의 객실 요약(최저/최고 요금, 객실 수, 최대 수용 인원)을 다시 집계
+    void refreshRoomSummary(Long accommodationId);
+
+    void refreshAllRoomSummaries();
+
+    // 객실이 있는데 객실 요약이 비어 있는 숙소 수
+    long countUnsetRoomSummaries();
+
     Accommodation save(Accommodation accommodation);
 
     void delete(Accommodation accommodation);
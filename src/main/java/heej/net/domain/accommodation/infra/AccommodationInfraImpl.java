@@ -1,6 +1,8 @@
 package heej.net.domain.accommodation.infra;
 
+import heej.net.common.pagination.Cursor;
 import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationSort;
 import heej.net.domain.accommodation.model.AccommodationType;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.*;
@@ -8,25 +10,94 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class AccommodationInfraImpl implements AccommodationInfra {
 
+    // 관련도순 키워드 결과를 DB 조건으로 거를 때 IN 절 하나에 넣는 최대 ID 수
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final AccommodationJpaRepository repository;
     private final EntityManager entityManager;
+    private final AccommodationSearchIndex searchIndex;
+    private final AccommodationGeoIndex geoIndex;
+    private final AccommodationFacetIndex facetIndex;
 
     @Override
     public Optional<Accommodation> findById(Long id) {
         return repository.findById(id);
     }
 
+    @Override
+    public List<Accommodation> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public List<NearbyHit> findNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            String city,
+            AccommodationType type,
+            Integer minRating,
+            int limit
+    ) {
+        Optional<List<NearbyHit>> indexed = geoIndex.findNearby(
+                latitude, longitude, radiusKm, city, type, minRating, limit);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
+        // 인덱스를 쓸 수 없으면 반경을 덮는 위경도 사각형으로 후보를 좁힌 뒤 거리 계산
+        double latitudeDelta = radiusKm / 111.32;
+        double longitudeDelta = radiusKm / (111.32 * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AccommodationLocation> query = cb.createQuery(AccommodationLocation.class);
+        Root<Accommodation> accommodation = query.from(Accommodation.class);
+        query.select(cb.construct(AccommodationLocation.class,
+                accommodation.get("id"), accommodation.get("latitude"), accommodation.get("longitude"),
+                accommodation.get("city"), accommodation.get("type"), accommodation.get("rating")));
+        query.where(
+                buildSearchPredicates(cb, accommodation, null, city, null, type, null, null, minRating, null),
+                cb.between(accommodation.get("latitude"),
+                        BigDecimal.valueOf(latitude - latitudeDelta), BigDecimal.valueOf(latitude + latitudeDelta)),
+                cb.between(accommodation.get("longitude"),
+                        BigDecimal.valueOf(longitude - longitudeDelta), BigDecimal.valueOf(longitude + longitudeDelta)));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(location -> new NearbyHit(location.getId(), AccommodationGeoIndex.distanceKm(
+                        latitude, longitude,
+                        location.getLatitude().doubleValue(), location.getLongitude().doubleValue())))
+                .filter(hit -> hit.getDistanceKm() <= radiusKm)
+                .sorted(Comparator.comparingDouble(NearbyHit::getDistanceKm)
+                        .thenComparing(NearbyHit::getAccommodationId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Page<Accommodation> searchAccommodations(
             String keyword,
@@ -36,17 +107,88 @@ public class AccommodationInfraImpl implements AccommodationInfra {
             BigDecimal minPrice,
             BigDecimal maxPrice,
             Integer minRating,
+            Set<Long> candidateIds,
             Pageable pageable
+    ) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        // 키워드는 역색인에서 숙소 ID 를 찾고, 최신순이면 나머지 조건과 정렬도 검색 집계 인덱스에서 처리해 해당 페이지만 로딩
+        if (keyword != null && !keyword.isBlank()) {
+            Optional<List<Long>> matched = searchIndex.search(keyword);
+            if (matched.isPresent()) {
+                List<Long> keywordIds = intersect(matched.get(), candidateIds);
+                if (keywordIds.isEmpty()) {
+                    return new PageImpl<>(List.of(), pageable, 0);
+                }
+                if (pageable.getSort().isUnsorted()) {
+                    // 관련도순 - 나머지 조건을 만족하는 ID 만 골라 역색인 순서대로 자름
+                    return searchByRelevance(keywordIds, city, region, type, minPrice, maxPrice, minRating, pageable);
+                }
+                if (isLatestFirst(pageable.getSort())) {
+                    int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+                    Optional<AccommodationRanking> ranking = facetIndex.rank(keywordIds, city, region, type,
+                            minPrice, maxPrice, minRating, AccommodationSort.LATEST, null, null, null, limit);
+                    if (ranking.isPresent()) {
+                        List<Long> rankedIds = ranking.get().getAccommodationIds();
+                        List<Long> pageIds = rankedIds.subList(
+                                (int) Math.min(pageable.getOffset(), rankedIds.size()), rankedIds.size());
+                        return new PageImpl<>(findAllInOrder(pageIds), pageable, ranking.get().getTotal());
+                    }
+                }
+            }
+        }
+
+        // 집계 인덱스로 답할 수 없는 키워드 검색도 역색인 상위 후보로 자르지 않고 LIKE 로 전체를 필터/정렬
+        return searchInDatabase(keyword, city, region, type, minPrice, maxPrice, minRating, candidateIds, pageable,
+                (cb, accommodation) -> buildOrders(cb, accommodation, pageable.getSort()));
+    }
+
+    @Override
+    public Page<Accommodation> searchAccommodationsByDistance(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            double latitude,
+            double longitude,
+            Pageable pageable
+    ) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        return searchInDatabase(keyword, city, region, type, minPrice, maxPrice, minRating, candidateIds, pageable,
+                (cb, accommodation) -> buildDistanceOrders(cb, accommodation, latitude, longitude));
+    }
+
+    // 검색 조건으로 DB 에서 한 페이지와 전체 개수를 조회
+    private Page<Accommodation> searchInDatabase(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            Pageable pageable,
+            BiFunction<CriteriaBuilder, Root<Accommodation>, List<Order>> ordering
     ) {
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<Accommodation> query = cb.createQuery(Accommodation.class);
         Root<Accommodation> accommodation = query.from(Accommodation.class);
 
         // 검색 조건 생성
-        Predicate wherePredicate = buildSearchPredicates(cb, accommodation, keyword, city, region, type, minRating);
+        Predicate wherePredicate = buildSearchPredicates(
+                cb, accommodation, keyword, city, region, type, minPrice, maxPrice, minRating, candidateIds);
 
         query.where(wherePredicate);
-        query.orderBy(cb.desc(accommodation.get("createdAt")));
+        query.orderBy(ordering.apply(cb, accommodation));
 
         // 페이징 처리
         List<Accommodation> results = entityManager.createQuery(query)
@@ -57,7 +199,8 @@ public class AccommodationInfraImpl implements AccommodationInfra {
         // 전체 개수 조회 (새로운 쿼리와 Root 생성)
         CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
         Root<Accommodation> countRoot = countQuery.from(Accommodation.class);
-        Predicate countWherePredicate = buildSearchPredicates(cb, countRoot, keyword, city, region, type, minRating);
+        Predicate countWherePredicate = buildSearchPredicates(
+                cb, countRoot, keyword, city, region, type, minPrice, maxPrice, minRating, candidateIds);
         countQuery.select(cb.count(countRoot));
         countQuery.where(countWherePredicate);
         Long total = entityManager.createQuery(countQuery).getSingleResult();
@@ -65,6 +208,161 @@ public class AccommodationInfraImpl implements AccommodationInfra {
         return new PageImpl<>(results, pageable, total);
     }
 
+    @Override
+    public List<Accommodation> searchAccommodationsAfter(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            Cursor cursor,
+            int limit
+    ) {
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Accommodation> query = cb.createQuery(Accommodation.class);
+        Root<Accommodation> accommodation = query.from(Accommodation.class);
+
+        Optional<List<Long>> matched = keyword != null && !keyword.isBlank() && facetIndex.isReady()
+                ? searchIndex.search(keyword)
+                : Optional.empty();
+        if (matched.isPresent()) {
+            // 키워드는 역색인에서 찾은 ID 로 대체 (LIKE 전체 스캔 없음)
+            List<Long> keywordIds = intersect(matched.get(), candidateIds);
+            if (keywordIds.isEmpty()) {
+                return List.of();
+            }
+            // 나머지 조건과 키셋 정렬은 검색 집계 인덱스에서 처리하고 고른 숙소만 로딩
+            Optional<List<Long>> page = facetIndex.latestAfter(keywordIds, city, region, type, minPrice, maxPrice,
+                    minRating, cursor != null ? cursor.getCreatedAt() : null, cursor != null ? cursor.getId() : null,
+                    limit);
+            if (page.isPresent()) {
+                return findAllInOrder(page.get());
+            }
+        }
+
+        // 집계 인덱스로 답할 수 없으면 키워드 조건도 LIKE 로 DB 에서 처리
+        Predicate wherePredicate = buildSearchPredicates(
+                cb, accommodation, keyword, city, region, type, minPrice, maxPrice, minRating, candidateIds);
+
+        // 키셋 조건: (createdAt, id) < (커서 createdAt, 커서 id) - 오프셋 없이 idx_accommodation_created 인덱스를 탐색
+        if (cursor != null) {
+            Path<LocalDateTime> createdAt = accommodation.get("createdAt");
+            Path<Long> id = accommodation.get("id");
+            wherePredicate = cb.and(wherePredicate, cb.or(
+                    cb.lessThan(createdAt, cursor.getCreatedAt()),
+                    cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.lessThan(id, cursor.getId()))));
+        }
+
+        query.where(wherePredicate);
+        query.orderBy(cb.desc(accommodation.get("createdAt")), cb.desc(accommodation.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 관련도 순서의 키워드 결과 중 검색 조건을 만족하는 ID 를 IN 절 단위로 나눠 조회해 순서를 유지한 채 페이지만 로딩
+    private Page<Accommodation> searchByRelevance(List<Long> rankedIds, String city, String region,
+                                                  AccommodationType type, BigDecimal minPrice,
+                                                  BigDecimal maxPrice, Integer minRating, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Set<Long> matched = new HashSet<>();
+        for (int from = 0; from < rankedIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, rankedIds.size()));
+            CriteriaQuery<Long> query = cb.createQuery(Long.class);
+            Root<Accommodation> accommodation = query.from(Accommodation.class);
+            query.select(accommodation.get("id"));
+            query.where(buildSearchPredicates(cb, accommodation, null, city, region, type, minPrice, maxPrice,
+                    minRating, chunk));
+            matched.addAll(entityManager.createQuery(query).getResultList());
+        }
+
+        List<Long> ordered = rankedIds.stream().filter(matched::contains).collect(Collectors.toList());
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(findAllInOrder(ordered.subList(from, to)), pageable, ordered.size());
+    }
+
+    // ID 순서를 유지해 숙소를 로딩 (IN 절 크기는 페이지 크기 이하)
+    private List<Accommodation> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Accommodation> loaded = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+        return ids.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // 키워드 결과(관련도순) 중 다른 메모리 인덱스 조건(편의시설 등)도 만족하는 ID - 순서 유지
+    private static List<Long> intersect(List<Long> keywordIds, Set<Long> candidateIds) {
+        return candidateIds != null
+                ? keywordIds.stream().filter(candidateIds::contains).collect(Collectors.toList())
+                : keywordIds;
+    }
+
+    // 최신 등록순(createdAt DESC, 이어서 id DESC) 정렬인지
+    private static boolean isLatestFirst(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return !orders.isEmpty()
+                && orders.get(0).getProperty().equals("createdAt") && orders.get(0).isDescending()
+                && orders.stream().skip(1).allMatch(order -> order.getProperty().equals("id") && order.isDescending());
+    }
+
+    /**
+     * 요청 정렬(없으면 최신 등록순) 뒤에 ID 내림차순을 붙여 같은 값끼리도 페이지 간 순서를 고정합니다.
+     * NULLS_LAST 면 값이 없는 행(객실이 없는 숙소의 요금 등)을 메모리 정렬과 같이 맨 뒤로 보냅니다.
+     */
+    private List<Order> buildOrders(CriteriaBuilder cb, Root<Accommodation> accommodation, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        if (sort.isUnsorted()) {
+            orders.add(cb.desc(accommodation.get("createdAt")));
+        }
+        for (Sort.Order order : sort) {
+            Path<?> property = accommodation.get(order.getProperty());
+            if (order.getNullHandling() == Sort.NullHandling.NULLS_LAST) {
+                orders.add(cb.asc(cb.<Integer>selectCase().when(cb.isNull(property), 1).otherwise(0)));
+            }
+            orders.add(order.isAscending() ? cb.asc(property) : cb.desc(property));
+        }
+        if (sort.getOrderFor("id") == null) {
+            orders.add(cb.desc(accommodation.get("id")));
+        }
+        return orders;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순 (메모리 인덱스의 거리순과 같은 순서) - 좌표가 없는 숙소는 맨 뒤, 같은 거리는 ID 내림차순
+     * 구면 코사인 법칙의 cos(중심각)은 거리가 멀수록 작아지므로 그 값의 내림차순으로 정렬합니다 (acos 계산 생략).
+     */
+    private List<Order> buildDistanceOrders(CriteriaBuilder cb, Root<Accommodation> accommodation,
+                                            double latitude, double longitude) {
+        Path<BigDecimal> rowLatitude = accommodation.get("latitude");
+        Path<BigDecimal> rowLongitude = accommodation.get("longitude");
+        Expression<Double> latitudeRadians = cb.function("radians", Double.class, rowLatitude);
+        Expression<Double> longitudeRadians = cb.function("radians", Double.class, rowLongitude);
+        double baseLatitude = Math.toRadians(latitude);
+
+        Expression<Double> cosineOfAngle = cb.sum(
+                cb.prod(Math.sin(baseLatitude), cb.function("sin", Double.class, latitudeRadians)),
+                cb.prod(cb.prod(Math.cos(baseLatitude), cb.function("cos", Double.class, latitudeRadians)),
+                        cb.function("cos", Double.class, cb.diff(longitudeRadians, Math.toRadians(longitude)))));
+
+        return List.of(
+                cb.asc(cb.<Integer>selectCase()
+                        .when(cb.or(cb.isNull(rowLatitude), cb.isNull(rowLongitude)), 1).otherwise(0)),
+                cb.desc(cosineOfAngle),
+                cb.desc(accommodation.get("id")));
+    }
+
     private Predicate buildSearchPredicates(
             CriteriaBuilder cb,
             Root<Accommodation> accommodation,
@@ -72,7 +370,10 @@ public class AccommodationInfraImpl implements AccommodationInfra {
             String city,
             String region,
             AccommodationType type,
-            Integer minRating
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Collection<Long> candidateIds
     ) {
         List<Predicate> predicates = new ArrayList<>();
 
@@ -98,14 +399,151 @@ public class AccommodationInfraImpl implements AccommodationInfra {
             predicates.add(cb.equal(accommodation.get("type"), type));
         }
 
+        // 가격 필터 - 객실 요금 범위(객실 요약 컬럼)가 요청 범위와 겹치는 숙소 (idx_accommodation_price)
+        if (minPrice != null) {
+            predicates.add(cb.greaterThanOrEqualTo(accommodation.get("maxPricePerNight"), minPrice));
+        }
+        if (maxPrice != null) {
+            predicates.add(cb.lessThanOrEqualTo(accommodation.get("minPricePerNight"), maxPrice));
+        }
+
         // 평점 필터
         if (minRating != null) {
             predicates.add(cb.greaterThanOrEqualTo(accommodation.get("rating"), minRating));
         }
 
+        // 편의시설 등 메모리 인덱스로 미리 좁힌 숙소
+        if (candidateIds != null) {
+            predicates.add(accommodation.get("id").in(candidateIds));
+        }
+
         return cb.and(predicates.toArray(new Predicate[0]));
     }
 
+    @Override
+    public Optional<AccommodationFacetCounts> countFacets(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds
+    ) {
+        if (!facetIndex.isReady()) {
+            return Optional.empty();
+        }
+        // 키워드 조건은 역색인에서 찾은 ID 로 후보를 좁힘 (역색인으로 답할 수 없으면 집계 생략)
+        List<Long> keywordIds = null;
+        if (keyword != null && !keyword.isBlank()) {
+            Optional<List<Long>> matched = searchIndex.search(keyword);
+            if (matched.isEmpty()) {
+                return Optional.empty();
+            }
+            keywordIds = matched.get();
+        }
+        Collection<Long> candidates = keywordIds != null ? intersect(keywordIds, candidateIds) : candidateIds;
+        return facetIndex.count(candidates, city, region, type, minPrice, maxPrice, minRating);
+    }
+
+    @Override
+    public Optional<List<Long>> filterAccommodationIds(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Integer guestCount,
+            Set<Long> candidateIds
+    ) {
+        if (!facetIndex.isReady()) {
+            return Optional.empty();
+        }
+        Collection<Long> candidates = candidateIds;
+        if (keyword != null && !keyword.isBlank()) {
+            Optional<List<Long>> matched = searchIndex.search(keyword);
+            if (matched.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates = intersect(matched.get(), candidateIds);
+        }
+        return facetIndex.filter(candidates, city, region, type, minPrice, maxPrice, minRating, guestCount);
+    }
+
+    @Override
+    public Optional<AccommodationRanking> rankAccommodations(
+            String keyword,
+            String city,
+            String region,
+            AccommodationType type,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minRating,
+            Set<Long> candidateIds,
+            AccommodationSort sort,
+            Double latitude,
+            Double longitude,
+            int limit
+    ) {
+        if (!facetIndex.isReady()) {
+            return Optional.empty();
+        }
+        // 키워드 조건은 역색인 점수로 후보를 좁히고, 관련도순이면 그 점수를 정렬 키로 사용
+        Map<Long, Double> relevance = null;
+        Collection<Long> candidates = candidateIds;
+        if (keyword != null && !keyword.isBlank()) {
+            Optional<Map<Long, Double>> scores = searchIndex.score(keyword);
+            if (scores.isEmpty()) {
+                return Optional.empty();
+            }
+            relevance = scores.get();
+            candidates = candidateIds != null
+                    ? relevance.keySet().stream().filter(candidateIds::contains).collect(Collectors.toList())
+                    : relevance.keySet();
+        }
+        return facetIndex.rank(candidates, city, region, type, minPrice, maxPrice, minRating,
+                sort, relevance, latitude, longitude, limit);
+    }
+
+    @Override
+    public List<AccommodationFacetRow> findAllFacetRows() {
+        return repository.findAllFacetRows();
+    }
+
+    @Override
+    public List<AccommodationLocation> findAllLocations() {
+        return repository.findAllLocations();
+    }
+
+    @Override
+    public List<AccommodationSearchDocument> findAllSearchDocuments() {
+        return repository.findAllSearchDocuments();
+    }
+
+    @Override
+    public void refreshRoomSummary(Long accommodationId) {
+        repository.refreshRoomSummary(accommodationId);
+
+        // 네이티브 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 다시 읽어 엔티티(와 변경 이벤트)에 새 요약을 반영
+        Accommodation accommodation = entityManager.find(Accommodation.class, accommodationId);
+        if (accommodation != null) {
+            entityManager.refresh(accommodation);
+        }
+    }
+
+    @Override
+    public void refreshAllRoomSummaries() {
+        repository.refreshAllRoomSummaries();
+    }
+
+    @Override
+    public long countUnsetRoomSummaries() {
+        return repository.countWithUnsetRoomSummary();
+    }
+
     @Override
     public Accommodation save(Accommodation accommodation) {
         return repository.save(accommodation);
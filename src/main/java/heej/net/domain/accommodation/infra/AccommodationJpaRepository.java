@@ -2,9 +2,63 @@ package heej.net.domain.accommodation.infra;
 
 import heej.net.domain.accommodation.model.Accommodation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Repository
 public interface AccommodationJpaRepository extends JpaRepository<Accommodation, Long> {
-}
 
+    // 숙소 한 곳의 객실 요약(최저/최고 요금, 객실 수, 최대 수용 인원)을 객실 테이블에서 다시 집계
+    // 객실 등록/요금 변경 직후 호출하므로 변경 내용을 먼저 flush 함
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accommodations a SET " +
+                   "a.min_price_per_night = (SELECT MIN(r.price_per_night) FROM rooms r WHERE r.accommodation_id = a.id), " +
+                   "a.max_price_per_night = (SELECT MAX(r.price_per_night) FROM rooms r WHERE r.accommodation_id = a.id), " +
+                   "a.room_count = (SELECT COUNT(*) FROM rooms r WHERE r.accommodation_id = a.id), " +
+                   "a.max_room_capacity = (SELECT COALESCE(MAX(r.max_capacity), 0) FROM rooms r WHERE r.accommodation_id = a.id) " +
+                   "WHERE a.id = :accommodationId",
+           nativeQuery = true)
+    int refreshRoomSummary(@Param("accommodationId") Long accommodationId);
+
+    // 전체 숙소의 객실 요약 재집계 (초기 데이터 적재 등 객실을 직접 저장한 경우, 트랜잭션 밖에서도 호출 가능)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE accommodations a " +
+                   "LEFT JOIN (SELECT accommodation_id, MIN(price_per_night) AS min_price, " +
+                   "MAX(price_per_night) AS max_price, COUNT(*) AS room_count, MAX(max_capacity) AS max_capacity " +
+                   "FROM rooms GROUP BY accommodation_id) s ON s.accommodation_id = a.id " +
+                   "SET a.min_price_per_night = s.min_price, a.max_price_per_night = s.max_price, " +
+                   "a.room_count = COALESCE(s.room_count, 0), a.max_room_capacity = COALESCE(s.max_capacity, 0)",
+           nativeQuery = true)
+    int refreshAllRoomSummaries();
+
+    // 객실이 있는데 요약이 비어 있는 숙소 수 (요약 컬럼 도입 이전에 저장된 숙소)
+    @Query(value = "SELECT COUNT(*) FROM accommodations a " +
+                   "WHERE (a.room_count = 0 OR a.min_price_per_night IS NULL) " +
+                   "AND EXISTS (SELECT 1 FROM rooms r WHERE r.accommodation_id = a.id)",
+           nativeQuery = true)
+    long countWithUnsetRoomSummary();
+
+    // 키워드 검색 인덱스 적재용 - 텍스트 필드만 조회
+    @Query("SELECT new heej.net.domain.accommodation.infra.AccommodationSearchDocument(" +
+           "a.id, a.name, a.address, a.city, a.region) FROM Accommodation a")
+    List<AccommodationSearchDocument> findAllSearchDocuments();
+
+    // 주변 검색 인덱스 적재용 - 좌표가 있는 숙소의 좌표/필터 필드만 조회
+    @Query("SELECT new heej.net.domain.accommodation.infra.AccommodationLocation(" +
+           "a.id, a.latitude, a.longitude, a.city, a.type, a.rating) FROM Accommodation a " +
+           "WHERE a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    List<AccommodationLocation> findAllLocations();
+
+    // 검색 집계 인덱스 적재용 - 필터/집계/정렬 필드만 조회
+    @Query("SELECT new heej.net.domain.accommodation.infra.AccommodationFacetRow(" +
+           "a.id, a.city, a.region, a.type, a.rating, a.minPricePerNight, a.maxPricePerNight, a.maxRoomCapacity, " +
+           "a.latitude, a.longitude, a.createdAt) " +
+           "FROM Accommodation a")
+    List<AccommodationFacetRow> findAllFacetRows();
+}
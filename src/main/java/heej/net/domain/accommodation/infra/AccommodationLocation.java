@@ -0,0 +1,21 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 주변 검색 인덱스에 넣을 좌표와 필터 필드만 담는 조회 전용 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationLocation {
+    private Long id;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private String city;
+    private AccommodationType type;
+    private Integer rating;
+}
@@ -0,0 +1,16 @@
+package heej.net.domain.accommodation.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 정렬 검색 결과 - 조건을 만족하는 전체 숙소 수와 정렬 순서상 앞쪽 숙소 ID (요청한 개수까지만)
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationRanking {
+    private long total;
+    private List<Long> accommodationIds;
+}
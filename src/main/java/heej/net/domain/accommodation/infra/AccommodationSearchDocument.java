@@ -0,0 +1,17 @@
+package heej.net.domain.accommodation.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키워드 검색 인덱스에 넣을 텍스트 필드만 담는 조회 전용 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class AccommodationSearchDocument {
+    private Long id;
+    private String name;
+    private String address;
+    private String city;
+    private String region;
+}
@@ -0,0 +1,236 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.common.index.SnapshotIndex;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 숙소 키워드 검색용 글자 bigram 역색인 (메모리)
+ *
+ * - 이름/주소/도시/지역을 공백·기호 기준으로 자른 뒤 각 단어를 연속된 두 글자(bigram)로 쪼개 색인합니다.
+ *   형태소 분석 없이도 "강남구", "테헤란로" 같은 한글 부분 문자열 검색이 가능합니다.
+ * - 검색어의 bigram 을 모두 포함하는 숙소만 남기도록 posting list 를 짧은 것부터 교집합하고,
+ *   BM25 점수(이름 필드 가중치 NAME_WEIGHT)로 정렬한 숙소 ID 목록을 반환합니다.
+ * - 갱신은 숙소 등록/수정 커밋 이후 이벤트로 반영하며, 주기적으로 DB 기준으로 재구성합니다 (SnapshotIndex).
+ * - 비활성화되었거나 아직 로딩되지 않았거나 검색어가 한 글자뿐이면 Optional.empty() 를 반환하고,
+ *   호출 측이 DB LIKE 검색으로 대체(fallback)해야 합니다.
+ */
+@Component
+public class AccommodationSearchIndex extends SnapshotIndex<AccommodationSearchIndex.Snapshot> {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 이름에 나온 bigram 은 주소/도시/지역보다 가중치를 높게 줌
+    private static final int NAME_WEIGHT = 3;
+
+    public AccommodationSearchIndex(
+            @Value("${accommodation.search-index.enabled:true}") boolean enabled) {
+        super("Accommodation search index", enabled);
+    }
+
+    /**
+     * 검색어의 bigram 을 모두 포함하는 숙소 ID 를 BM25 점수 내림차순(같으면 ID 내림차순)으로 반환합니다.
+     * 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    public Optional<List<Long>> search(String keyword) {
+        return score(keyword).map(scores -> {
+            List<Long> ranked = new ArrayList<>(scores.keySet());
+            ranked.sort(Comparator.<Long>comparingDouble(scores::get).reversed()
+                    .thenComparing(Comparator.<Long>reverseOrder()));
+            return ranked;
+        });
+    }
+
+    /**
+     * 검색어의 bigram 을 모두 포함하는 숙소 ID 별 BM25 점수 (정렬하지 않음 - 관련도 정렬 검색에서 다른 조건과 함께 순위를 매길 때 사용)
+     * 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    public Optional<Map<Long, Double>> score(String keyword) {
+        Snapshot current = current();
+        if (current == null) {
+            return Optional.empty();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(keyword)) {
+            addBigrams(token, terms);
+        }
+        if (terms.isEmpty()) {
+            // 한 글자 검색어는 bigram 이 없으므로 DB 검색으로 대체
+            return Optional.empty();
+        }
+
+        List<Map<Long, Integer>> postings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> posting = current.postings.get(term);
+            if (posting == null || posting.isEmpty()) {
+                return Optional.of(Map.of());
+            }
+            postings.add(posting);
+        }
+        // 가장 짧은 posting list 를 기준으로 나머지에 모두 있는 ID 만 남김
+        postings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = Math.max(current.documents.size(), 1);
+        double averageLength = Math.max((double) current.totalLength.get() / documentCount, 1.0);
+        double[] idf = new double[postings.size()];
+        for (int i = 0; i < postings.size(); i++) {
+            int df = postings.get(i).size();
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        candidates:
+        for (Map.Entry<Long, Integer> entry : postings.get(0).entrySet()) {
+            Long id = entry.getKey();
+            Document document = current.documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            double norm = K1 * (1 - B + B * document.length / averageLength);
+            double score = idf[0] * entry.getValue() * (K1 + 1) / (entry.getValue() + norm);
+            for (int i = 1; i < postings.size(); i++) {
+                Integer tf = postings.get(i).get(id);
+                if (tf == null) {
+                    continue candidates;
+                }
+                score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+            scores.put(id, score);
+        }
+        return Optional.of(scores);
+    }
+
+    /**
+     * 숙소 등록/수정/삭제가 커밋된 이후에만 인덱스에 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        if (event.isRemoved()) {
+            remove(event.getAccommodationId());
+        } else {
+            put(new AccommodationSearchDocument(event.getAccommodationId(), event.getName(),
+                    event.getAddress(), event.getCity(), event.getRegion()));
+        }
+    }
+
+    public void put(AccommodationSearchDocument source) {
+        update(current -> {
+            current.remove(source.getId());
+            current.add(source);
+        });
+    }
+
+    public void remove(Long accommodationId) {
+        update(current -> current.remove(accommodationId));
+    }
+
+    /**
+     * DB에서 읽은 숙소 목록으로 인덱스를 새로 만듭니다.
+     */
+    public Snapshot build(List<AccommodationSearchDocument> sources) {
+        Snapshot built = new Snapshot();
+        sources.forEach(built::add);
+        return built;
+    }
+
+    @Override
+    protected String describe(Snapshot built) {
+        return "documents=" + built.documents.size() + ", terms=" + built.postings.size();
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String token : SEPARATOR.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String token, Set<String> terms) {
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            terms.add(token.substring(i, i + 2));
+        }
+    }
+
+    private static void addBigrams(String text, int weight, Map<String, Integer> termFrequencies) {
+        for (String token : tokenize(text)) {
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                termFrequencies.merge(token.substring(i, i + 2), weight, Integer::sum);
+            }
+        }
+    }
+
+    public static final class Snapshot {
+        private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final AtomicLong totalLength = new AtomicLong();
+
+        private Snapshot() {
+        }
+
+        private void add(AccommodationSearchDocument source) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            addBigrams(source.getName(), NAME_WEIGHT, termFrequencies);
+            addBigrams(source.getAddress(), 1, termFrequencies);
+            addBigrams(source.getCity(), 1, termFrequencies);
+            addBigrams(source.getRegion(), 1, termFrequencies);
+
+            int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+            termFrequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(source.getId(), tf));
+            documents.put(source.getId(), new Document(termFrequencies.keySet().toArray(new String[0]), length));
+            totalLength.addAndGet(length);
+        }
+
+        private void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String term : document.terms) {
+                postings.computeIfPresent(term, (t, posting) -> {
+                    posting.remove(id);
+                    return posting.isEmpty() ? null : posting;
+                });
+            }
+            totalLength.addAndGet(-document.length);
+        }
+    }
+
+    private static final class Document {
+        private final String[] terms;
+        private final int length;
+
+        private Document(String[] terms, int length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
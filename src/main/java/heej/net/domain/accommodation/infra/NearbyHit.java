@@ -0,0 +1,14 @@
+package heej.net.domain.accommodation.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주변 검색 결과 - 숙소 ID 와 기준 위치로부터의 거리(km)
+ */
+@Getter
+@AllArgsConstructor
+public class NearbyHit {
+    private Long accommodationId;
+    private double distanceKm;
+}
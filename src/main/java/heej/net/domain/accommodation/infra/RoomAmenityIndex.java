@@ -0,0 +1,134 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.common.index.SnapshotIndex;
+import heej.net.domain.accommodation.event.RoomAmenitiesChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실 편의시설 비트마스크 인덱스 (메모리)
+ *
+ * - 객실을 편의시설 비트마스크 값별로 묶어 보관합니다. 서로 다른 편의시설 조합의 수는 객실 수보다 훨씬 적으므로,
+ *   필터는 조합마다 (mask & required) == required 를 한 번씩 확인하고 통과한 조합의 객실만 모읍니다.
+ * - 편의시설이 없는 객실(마스크 0)은 어떤 편의시설 필터도 통과하지 않으므로 보관하지 않습니다.
+ * - 갱신은 객실 등록/수정 커밋 이후 이벤트로 반영하며, 주기적으로 DB 기준으로 재구성합니다 (SnapshotIndex).
+ * - 비활성화되었거나 아직 로딩되지 않았으면 Optional.empty() 를 반환하고, 호출 측이 DB 조회로 대체(fallback)해야 합니다.
+ */
+@Component
+public class RoomAmenityIndex extends SnapshotIndex<RoomAmenityIndex.Snapshot> {
+
+    public RoomAmenityIndex(
+            @Value("${accommodation.amenity-index.enabled:true}") boolean enabled) {
+        super("Room amenity index", enabled);
+    }
+
+    /**
+     * 요청한 편의시설을 모두 갖춘 객실이 하나라도 있는 숙소 ID. 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    public Optional<Set<Long>> findAccommodationIds(long requiredMask) {
+        Snapshot current = current();
+        if (current == null) {
+            return Optional.empty();
+        }
+        Set<Long> accommodationIds = new HashSet<>();
+        current.roomsByMask.forEach((mask, rooms) -> {
+            if ((mask & requiredMask) == requiredMask) {
+                accommodationIds.addAll(rooms.values());
+            }
+        });
+        return Optional.of(accommodationIds);
+    }
+
+    /**
+     * 요청한 편의시설을 모두 갖춘 객실 ID. 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    public Optional<Set<Long>> findRoomIds(long requiredMask) {
+        Snapshot current = current();
+        if (current == null) {
+            return Optional.empty();
+        }
+        Set<Long> roomIds = new HashSet<>();
+        current.roomsByMask.forEach((mask, rooms) -> {
+            if ((mask & requiredMask) == requiredMask) {
+                roomIds.addAll(rooms.keySet());
+            }
+        });
+        return Optional.of(roomIds);
+    }
+
+    /**
+     * 객실 등록/수정/삭제가 커밋된 이후에만 인덱스에 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomAmenitiesChanged(RoomAmenitiesChangedEvent event) {
+        if (event.isRemoved()) {
+            remove(event.getRoomId());
+        } else {
+            put(new RoomAmenityRow(event.getRoomId(), event.getAccommodationId(), event.getAmenityMask()));
+        }
+    }
+
+    public void put(RoomAmenityRow row) {
+        update(current -> {
+            current.remove(row.getRoomId());
+            current.add(row);
+        });
+    }
+
+    public void remove(Long roomId) {
+        update(current -> current.remove(roomId));
+    }
+
+    /**
+     * DB에서 읽은 객실 편의시설 목록으로 인덱스를 새로 만듭니다.
+     */
+    public Snapshot build(List<RoomAmenityRow> rows) {
+        Snapshot built = new Snapshot();
+        rows.forEach(built::add);
+        return built;
+    }
+
+    @Override
+    protected String describe(Snapshot built) {
+        return "rooms=" + built.maskByRoom.size() + ", combinations=" + built.roomsByMask.size();
+    }
+
+    public static final class Snapshot {
+        // 편의시설 조합(마스크) -> (객실 ID -> 숙소 ID)
+        private final Map<Long, Map<Long, Long>> roomsByMask = new ConcurrentHashMap<>();
+        private final Map<Long, Long> maskByRoom = new ConcurrentHashMap<>();
+
+        private Snapshot() {
+        }
+
+        private void add(RoomAmenityRow row) {
+            long mask = row.getAmenityMask() != null ? row.getAmenityMask() : 0L;
+            if (mask == 0L) {
+                return;
+            }
+            roomsByMask.computeIfAbsent(mask, key -> new ConcurrentHashMap<>())
+                    .put(row.getRoomId(), row.getAccommodationId());
+            maskByRoom.put(row.getRoomId(), mask);
+        }
+
+        private void remove(Long roomId) {
+            Long mask = maskByRoom.remove(roomId);
+            if (mask == null) {
+                return;
+            }
+            roomsByMask.computeIfPresent(mask, (key, rooms) -> {
+                rooms.remove(roomId);
+                return rooms.isEmpty() ? null : rooms;
+            });
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package heej.net.domain.accommodation.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 편의시설 인덱스에 넣을 객실 ID, 숙소 ID, 편의시설 비트마스크만 담는 조회 전용 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class RoomAmenityRow {
+    private Long roomId;
+    private Long accommodationId;
+    private Long amenityMask;
+}
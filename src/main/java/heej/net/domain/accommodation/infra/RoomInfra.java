@@ -4,22 +4,43 @@ import heej.net.domain.accommodation.model.Room;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface RoomInfra {
     Optional<Room> findById(Long id);
 
     Optional<Room> findByIdWithLock(Long id);
 
+    Optional<Room> findByIdWithVersionIncrement(Long id);
+
+    List<Room> findAllByIdWithLock(Collection<Long> ids);
+
     List<Room> findAll();
 
     Page<Room> findByAccommodationId(Long accommodationId, Pageable pageable);
 
     List<Room> findAllByAccommodationId(Long accommodationId);
 
+    List<Room> findAllByAccommodationIds(Collection<Long> accommodationIds);
+
     List<Room> findByMaxCapacityGreaterThanEqual(Integer guestCount);
 
+    List<Room> findAllById(Collection<Long> ids);
+
+    // 요청한 편의시설(비트마스크)을 모두 갖춘 객실 ID / 그런 객실이 있는 숙소 ID
+    Set<Long> findRoomIdsWithAmenities(long requiredMask);
+
+    Set<Long> findAccommodationIdsWithAmenities(long requiredMask);
+
+    // 편의시설 인덱스 적재용 전체 조회
+    List<RoomAmenityRow> findAllAmenityRows();
+
+    // 편의시설 JSON 은 있지만 비트마스크가 비어 있는 객실 (비트마스크 도입 이전 데이터)
+    List<Room> findAllWithUnmaskedAmenities();
+
     Room save(Room room);
 
     void delete(Room room);
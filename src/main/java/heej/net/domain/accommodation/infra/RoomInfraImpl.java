@@ -6,14 +6,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class RoomInfraImpl implements RoomInfra {
 
     private final RoomJpaRepository repository;
+    private final RoomAmenityIndex amenityIndex;
 
     @Override
     public Optional<Room> findById(Long id) {
@@ -25,6 +29,16 @@ public class RoomInfraImpl implements RoomInfra {
         return repository.findByIdWithLock(id);
     }
 
+    @Override
+    public Optional<Room> findByIdWithVersionIncrement(Long id) {
+        return repository.findByIdWithVersionIncrement(id);
+    }
+
+    @Override
+    public List<Room> findAllByIdWithLock(Collection<Long> ids) {
+        return repository.findAllByIdWithLock(ids);
+    }
+
     @Override
     public List<Room> findAll() {
         return repository.findAll();
@@ -40,11 +54,49 @@ public class RoomInfraImpl implements RoomInfra {
         return repository.findAllByAccommodationId(accommodationId);
     }
 
+    @Override
+    public List<Room> findAllByAccommodationIds(Collection<Long> accommodationIds) {
+        if (accommodationIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllByAccommodationIdIn(accommodationIds);
+    }
+
     @Override
     public List<Room> findByMaxCapacityGreaterThanEqual(Integer guestCount) {
         return repository.findByMaxCapacityGreaterThanEqual(guestCount);
     }
 
+    @Override
+    public List<Room> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(ids);
+    }
+
+    @Override
+    public Set<Long> findRoomIdsWithAmenities(long requiredMask) {
+        return amenityIndex.findRoomIds(requiredMask)
+                .orElseGet(() -> new HashSet<>(repository.findIdsByAmenityMask(requiredMask)));
+    }
+
+    @Override
+    public Set<Long> findAccommodationIdsWithAmenities(long requiredMask) {
+        return amenityIndex.findAccommodationIds(requiredMask)
+                .orElseGet(() -> new HashSet<>(repository.findAccommodationIdsByAmenityMask(requiredMask)));
+    }
+
+    @Override
+    public List<RoomAmenityRow> findAllAmenityRows() {
+        return repository.findAllAmenityRows();
+    }
+
+    @Override
+    public List<Room> findAllWithUnmaskedAmenities() {
+        return repository.findAllWithUnmaskedAmenities();
+    }
+
     @Override
     public Room save(Room room) {
         return repository.save(room);
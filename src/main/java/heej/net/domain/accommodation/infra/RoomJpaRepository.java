@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,11 +18,39 @@ import java.util.Optional;
 public interface RoomJpaRepository extends JpaRepository<Room, Long> {
     Page<Room> findByAccommodationId(Long accommodationId, Pageable pageable);
     List<Room> findAllByAccommodationId(Long accommodationId);
+    List<Room> findAllByAccommodationIdIn(Collection<Long> accommodationIds);
 
     List<Room> findByMaxCapacityGreaterThanEqual(Integer guestCount);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM Room r WHERE r.id = :roomId")
     Optional<Room> findByIdWithLock(@Param("roomId") Long roomId);
-}
 
+    // 여러 객실을 ID 오름차순으로 잠금 (교착 상태 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Room r WHERE r.id IN :roomIds ORDER BY r.id")
+    List<Room> findAllByIdWithLock(@Param("roomIds") Collection<Long> roomIds);
+
+    // 조회 시에는 락을 잡지 않고, 커밋 시점에 version을 강제로 증가시킴
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT r FROM Room r WHERE r.id = :roomId")
+    Optional<Room> findByIdWithVersionIncrement(@Param("roomId") Long roomId);
+
+    // 편의시설 인덱스 적재용 - 편의시설이 있는 객실의 ID/숙소 ID/비트마스크만 조회
+    @Query("SELECT new heej.net.domain.accommodation.infra.RoomAmenityRow(" +
+           "r.id, r.accommodation.id, r.amenityMask) FROM Room r WHERE r.amenityMask <> 0")
+    List<RoomAmenityRow> findAllAmenityRows();
+
+    // 편의시설 인덱스를 쓸 수 없을 때의 대체 조회 - 요청한 편의시설 비트를 모두 가진 객실
+    @Query(value = "SELECT id FROM rooms WHERE (amenity_mask & :mask) = :mask", nativeQuery = true)
+    List<Long> findIdsByAmenityMask(@Param("mask") long mask);
+
+    @Query(value = "SELECT DISTINCT accommodation_id FROM rooms WHERE (amenity_mask & :mask) = :mask",
+           nativeQuery = true)
+    List<Long> findAccommodationIdsByAmenityMask(@Param("mask") long mask);
+
+    // 편의시설 JSON 은 있지만 비트마스크가 비어 있는 객실 (amenity_mask 컬럼 추가 이전 데이터)
+    @Query("SELECT r FROM Room r WHERE r.amenityMask = 0 " +
+           "AND r.amenitiesJson IS NOT NULL AND r.amenitiesJson <> '' AND r.amenitiesJson <> '[]'")
+    List<Room> findAllWithUnmaskedAmenities();
+}
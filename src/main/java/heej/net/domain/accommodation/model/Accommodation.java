@@ -12,7 +12,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "accommodations")
+@Table(name = "accommodations", indexes = {
+        @Index(name = "idx_accommodation_created", columnList = "createdAt, id"),
+        @Index(name = "idx_accommodation_price", columnList = "minPricePerNight, maxPricePerNight")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -62,6 +65,21 @@ public class Accommodation {
     @Column(nullable = false)
     private Integer rating;
 
+    // 객실 요약 (객실 등록/요금 변경 시 DB에서 다시 집계) - 가격 필터/정렬을 객실 조인 없이 처리하기 위함
+    @Column(precision = 10, scale = 2)
+    private BigDecimal minPricePerNight;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal maxPricePerNight;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer roomCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer maxRoomCapacity = 0;
+
     @OneToMany(mappedBy = "accommodation", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Room> rooms = new ArrayList<>();
@@ -0,0 +1,9 @@
+package heej.net.domain.accommodation.model;
+
+public enum AccommodationSort {
+    LATEST,     // 최신 등록순 (기본)
+    PRICE,      // 최저 객실 요금 낮은 순
+    RATING,     // 평점 높은 순
+    RELEVANCE,  // 검색 키워드 관련도(BM25) 높은 순 - keyword 필요
+    DISTANCE    // 기준 좌표에서 가까운 순 - lat/lng 필요
+}
@@ -0,0 +1,120 @@
+package heej.net.domain.accommodation.model;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 편의시설 사전
+ *
+ * 객실의 편의시설은 화면 표시용 이름 목록(amenitiesJson)과 함께 bit 위치의 비트마스크(amenityMask)로 저장합니다.
+ * bit 값은 DB에 저장되므로 한 번 정한 값은 바꾸지 않습니다 (long 이므로 최대 64개).
+ */
+@Getter
+public enum Amenity {
+    WIFI(0, "wifi", "무료 Wi-Fi", "Wi-Fi", "와이파이"),
+    PARKING(1, "parking", "주차", "무료 주차", "주차장"),
+    AIR_CONDITIONER(2, "air-conditioner", "에어컨"),
+    TV(3, "tv", "TV"),
+    MINIBAR(4, "minibar", "미니바"),
+    HAIR_DRYER(5, "hair-dryer", "헤어드라이어"),
+    COFFEE_MACHINE(6, "coffee-machine", "커피머신"),
+    BATHTUB(7, "bathtub", "욕조"),
+    BALCONY(8, "balcony", "발코니"),
+    KITCHEN(9, "kitchen", "주방"),
+    SHARED_SHOWER(10, "shared-shower", "공용 샤워실"),
+    LOCKER(11, "locker", "사물함"),
+    BREAKFAST(12, "breakfast", "조식", "조식 포함"),
+    POOL(13, "pool", "수영장"),
+    FITNESS(14, "fitness", "피트니스", "헬스장"),
+    PET_FRIENDLY(15, "pet-friendly", "반려동물 동반");
+
+    private static final Map<String, Amenity> LOOKUP = new HashMap<>();
+
+    static {
+        for (Amenity amenity : values()) {
+            LOOKUP.put(normalize(amenity.code), amenity);
+            LOOKUP.put(normalize(amenity.name()), amenity);
+            LOOKUP.put(normalize(amenity.label), amenity);
+            for (String alias : amenity.aliases) {
+                LOOKUP.put(normalize(alias), amenity);
+            }
+        }
+    }
+
+    private final int bit;
+    private final String code;      // 검색 파라미터 값 (amenities=wifi,parking)
+    private final String label;     // 기본 표시 이름
+    private final String[] aliases;
+
+    Amenity(int bit, String code, String label, String... aliases) {
+        this.bit = bit;
+        this.code = code;
+        this.label = label;
+        this.aliases = aliases;
+    }
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    /**
+     * 코드, 이름 또는 표시 이름(대소문자/공백/기호 무시)으로 편의시설을 찾습니다. 사전에 없으면 Optional.empty()
+     */
+    public static Optional<Amenity> resolve(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(LOOKUP.get(normalize(value)));
+    }
+
+    /**
+     * 편의시설 이름 목록의 비트마스크. 사전에 없는 이름은 표시용으로만 남고 마스크에는 포함되지 않습니다.
+     */
+    public static long maskOf(Collection<String> values) {
+        long mask = 0L;
+        if (values == null) {
+            return mask;
+        }
+        for (String value : values) {
+            mask |= resolve(value).map(Amenity::mask).orElse(0L);
+        }
+        return mask;
+    }
+
+    /**
+     * 검색 조건의 편의시설 코드 목록을 비트마스크로 변환합니다. 사전에 없는 값이면 IllegalArgumentException
+     */
+    public static long requiredMaskOf(Collection<String> codes) {
+        long mask = 0L;
+        if (codes == null) {
+            return mask;
+        }
+        List<String> unknown = new ArrayList<>();
+        for (String code : codes) {
+            if (code == null || code.isBlank()) {
+                continue;
+            }
+            Optional<Amenity> amenity = resolve(code);
+            if (amenity.isPresent()) {
+                mask |= amenity.get().mask();
+            } else {
+                unknown.add(code.trim());
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 편의시설입니다: " + String.join(", ", unknown));
+        }
+        return mask;
+    }
+
+    private static String normalize(String value) {
+        return value.replaceAll("[\\s_\\-]", "").toLowerCase(Locale.ROOT);
+    }
+}
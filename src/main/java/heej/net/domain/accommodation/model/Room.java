@@ -12,6 +12,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Entity
@@ -59,6 +60,20 @@ public class Room {
     @Column(columnDefinition = "TEXT")
     private String amenitiesJson;
 
+    // 편의시설 비트마스크 (Amenity.bit) - 편의시설 필터는 JSON 을 읽지 않고 비트 AND 로 확인
+    @Column(nullable = false)
+    @Builder.Default
+    private Long amenityMask = 0L;
+
+    // amenitiesJson 을 파싱한 목록과 그 원본 (DB 컬럼 아님) - 원본이 바뀌면 다시 파싱
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private List<String> parsedAmenities;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private String parsedAmenitiesJson;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private RoomStatus status;
@@ -80,22 +95,47 @@ public class Room {
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
     public List<String> getAmenities() {
-        if (amenitiesJson == null || amenitiesJson.isEmpty()) {
-            return new ArrayList<>();
+        // 같은 JSON 문자열(참조 비교)이면 이전에 파싱한 목록을 그대로 사용
+        String json = amenitiesJson;
+        if (parsedAmenities != null && parsedAmenitiesJson == json) {
+            return parsedAmenities;
         }
-        try {
-            return objectMapper.readValue(amenitiesJson, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            return new ArrayList<>();
+        List<String> amenities;
+        if (json == null || json.isEmpty()) {
+            amenities = List.of();
+        } else {
+            try {
+                List<String> parsed = objectMapper.readValue(json, new TypeReference<List<String>>() {});
+                amenities = parsed != null ? Collections.unmodifiableList(parsed) : List.of();
+            } catch (JsonProcessingException e) {
+                amenities = List.of();
+            }
         }
+        this.parsedAmenities = amenities;
+        this.parsedAmenitiesJson = json;
+        return amenities;
     }
 
     public void setAmenities(List<String> amenities) {
+        List<String> values = amenities != null
+                ? Collections.unmodifiableList(new ArrayList<>(amenities))
+                : List.of();
         try {
-            this.amenitiesJson = objectMapper.writeValueAsString(amenities);
+            this.amenitiesJson = objectMapper.writeValueAsString(values);
         } catch (JsonProcessingException e) {
             this.amenitiesJson = "[]";
         }
+        this.amenityMask = Amenity.maskOf(values);
+        this.parsedAmenities = values;
+        this.parsedAmenitiesJson = this.amenitiesJson;
+    }
+
+    /**
+     * 요청한 편의시설(비트마스크)을 모두 갖췄는지 여부
+     */
+    public boolean hasAmenities(long requiredMask) {
+        long mask = amenityMask != null ? amenityMask : 0L;
+        return (mask & requiredMask) == requiredMask;
     }
 
     public void updateInfo(String name, String description, Integer capacity, Integer maxCapacity, Integer size) {
@@ -0,0 +1,39 @@
+package heej.net.domain.accommodation.scheduler;
+
+import heej.net.common.index.SnapshotIndexScheduler;
+import heej.net.domain.accommodation.infra.AccommodationFacetIndex;
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccommodationFacetIndexScheduler extends SnapshotIndexScheduler<AccommodationFacetIndex.Snapshot> {
+
+    private final AccommodationInfra accommodationInfra;
+    private final AccommodationFacetIndex facetIndex;
+
+    public AccommodationFacetIndexScheduler(AccommodationInfra accommodationInfra,
+                                            AccommodationFacetIndex facetIndex) {
+        super(facetIndex, "Accommodation facet index disabled. Search facets will not be returned.");
+        this.accommodationInfra = accommodationInfra;
+        this.facetIndex = facetIndex;
+    }
+
+    /**
+     * 전체 숙소로 검색 집계 인덱스를 만듭니다
+     */
+    @Override
+    protected AccommodationFacetIndex.Snapshot loadSnapshot() {
+        return facetIndex.build(accommodationInfra.findAllFacetRows());
+    }
+
+    /**
+     * 이벤트로 반영되지 않은 변경(평점 등)을 복구하고 삭제된 행을 정리하기 위해 주기적으로 DB 기준으로 재구성합니다
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${accommodation.facet-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${accommodation.facet-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+}
@@ -0,0 +1,38 @@
+package heej.net.domain.accommodation.scheduler;
+
+import heej.net.common.index.SnapshotIndexScheduler;
+import heej.net.domain.accommodation.infra.AccommodationGeoIndex;
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccommodationGeoIndexScheduler extends SnapshotIndexScheduler<AccommodationGeoIndex.Snapshot> {
+
+    private final AccommodationInfra accommodationInfra;
+    private final AccommodationGeoIndex geoIndex;
+
+    public AccommodationGeoIndexScheduler(AccommodationInfra accommodationInfra, AccommodationGeoIndex geoIndex) {
+        super(geoIndex, "Accommodation geo index disabled. Falling back to bounding-box queries.");
+        this.accommodationInfra = accommodationInfra;
+        this.geoIndex = geoIndex;
+    }
+
+    /**
+     * 좌표가 있는 숙소로 주변 검색 인덱스를 만듭니다
+     */
+    @Override
+    protected AccommodationGeoIndex.Snapshot loadSnapshot() {
+        return geoIndex.build(accommodationInfra.findAllLocations());
+    }
+
+    /**
+     * 이벤트로 반영되지 않은 변경을 복구하기 위해 주기적으로 DB 기준으로 재구성합니다
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${accommodation.geo-index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${accommodation.geo-index.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+}
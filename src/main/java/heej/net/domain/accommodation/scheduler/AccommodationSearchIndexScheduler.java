@@ -0,0 +1,39 @@
+package heej.net.domain.accommodation.scheduler;
+
+import heej.net.common.index.SnapshotIndexScheduler;
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import heej.net.domain.accommodation.infra.AccommodationSearchIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccommodationSearchIndexScheduler extends SnapshotIndexScheduler<AccommodationSearchIndex.Snapshot> {
+
+    private final AccommodationInfra accommodationInfra;
+    private final AccommodationSearchIndex searchIndex;
+
+    public AccommodationSearchIndexScheduler(AccommodationInfra accommodationInfra,
+                                             AccommodationSearchIndex searchIndex) {
+        super(searchIndex, "Accommodation search index disabled. Falling back to LIKE queries.");
+        this.accommodationInfra = accommodationInfra;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * 전체 숙소로 키워드 검색 인덱스를 만듭니다
+     */
+    @Override
+    protected AccommodationSearchIndex.Snapshot loadSnapshot() {
+        return searchIndex.build(accommodationInfra.findAllSearchDocuments());
+    }
+
+    /**
+     * 이벤트로 반영되지 않은 변경(직접 수정된 데이터 등)을 복구하기 위해 주기적으로 DB 기준으로 재구성합니다
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${accommodation.search-index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${accommodation.search-index.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+}
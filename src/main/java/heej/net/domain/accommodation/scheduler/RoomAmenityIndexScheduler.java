@@ -0,0 +1,67 @@
+package heej.net.domain.accommodation.scheduler;
+
+import heej.net.common.index.SnapshotIndexScheduler;
+import heej.net.domain.accommodation.infra.RoomAmenityIndex;
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Amenity;
+import heej.net.domain.accommodation.model.Room;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@Slf4j
+public class RoomAmenityIndexScheduler extends SnapshotIndexScheduler<RoomAmenityIndex.Snapshot> {
+
+    private final RoomInfra roomInfra;
+    private final RoomAmenityIndex amenityIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    public RoomAmenityIndexScheduler(RoomInfra roomInfra, RoomAmenityIndex amenityIndex,
+                                     TransactionTemplate transactionTemplate) {
+        super(amenityIndex, "Room amenity index disabled. Falling back to bitmask queries.");
+        this.roomInfra = roomInfra;
+        this.amenityIndex = amenityIndex;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 객실 편의시설 비트마스크로 편의시설 인덱스를 만듭니다
+     */
+    @Override
+    protected RoomAmenityIndex.Snapshot loadSnapshot() {
+        return amenityIndex.build(roomInfra.findAllAmenityRows());
+    }
+
+    /**
+     * 이벤트로 반영되지 않은 변경을 복구하기 위해 주기적으로 DB 기준으로 재구성합니다
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${accommodation.amenity-index.rebuild-interval-ms:1800000}",
+            initialDelayString = "${accommodation.amenity-index.rebuild-interval-ms:1800000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /**
+     * 비트마스크 컬럼 도입 이전에 저장된 객실은 편의시설 JSON 만 있으므로 다시 저장해 마스크를 채웁니다
+     * (사전에 없는 편의시설만 가진 객실은 그대로 둠, 인덱스를 쓰지 않아도 DB 비트마스크 조회에 필요하므로 항상 실행)
+     */
+    @Override
+    protected void beforeInitialLoad() {
+        Integer filled = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (Room room : roomInfra.findAllWithUnmaskedAmenities()) {
+                if (Amenity.maskOf(room.getAmenities()) != 0L) {
+                    room.setAmenities(room.getAmenities());
+                    count++;
+                }
+            }
+            return count;
+        });
+        if (filled != null && filled > 0) {
+            log.info("Room amenity masks backfilled: rooms={}", filled);
+        }
+    }
+}
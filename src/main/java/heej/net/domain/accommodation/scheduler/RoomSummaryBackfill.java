@@ -0,0 +1,31 @@
+package heej.net.domain.accommodation.scheduler;
+
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomSummaryBackfill {
+
+    private final AccommodationInfra accommodationInfra;
+
+    /**
+     * 애플리케이션 시작 시(요청을 받기 전, 검색 인덱스 적재 전) 객실 요약이 비어 있는 숙소가 있으면 전체 요약을 다시 집계합니다
+     *
+     * 스키마는 ddl-auto 로만 반영되어 기존 DB에는 요약 컬럼만 생기고(객실 수 0, 요금 NULL) V10 의 집계는 실행되지 않습니다.
+     * 그대로 두면 가격/인원 조건 검색에서 기존 숙소가 모두 빠지므로, 한 번 집계해 채웁니다 (이미 채워져 있으면 건너뜀).
+     */
+    @PostConstruct
+    public void backfill() {
+        long unset = accommodationInfra.countUnsetRoomSummaries();
+        if (unset == 0) {
+            return;
+        }
+        accommodationInfra.refreshAllRoomSummaries();
+        log.info("Room summaries backfilled for existing accommodations: accommodations={}", unset);
+    }
+}
@@ -0,0 +1,166 @@
+package heej.net.domain.accommodation.usecase;
+
+import heej.net.common.cache.CacheStats;
+import heej.net.common.cache.TaggedCache;
+import heej.net.domain.accommodation.api.dto.AccommodationResponse;
+import heej.net.domain.accommodation.api.dto.AccommodationSearchRequest;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.model.AccommodationType;
+import heej.net.domain.accommodation.model.Amenity;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 숙소 검색(페이지) 결과 캐시
+ *
+ * - 키는 정규화한 검색 조건(앞뒤 공백 제거, 키워드/도시/지역 소문자, 가격 스케일 통일, 편의시설 비트마스크)과 정렬입니다.
+ *   DB 의 도시/지역 비교는 대소문자를 구분하지 않으므로(MySQL 기본 collation) 태그도 소문자로 맞춥니다.
+ *   같은 조건으로 다음 페이지를 넘겨도 같은 순서로 계산되고, 반복 조회는 순위를 다시 매기지 않습니다.
+ * - 도시 조건이 있으면 "city:{도시}", 지역 조건만 있으면 "region:{지역}", 둘 다 없으면 "all" 태그를 붙입니다.
+ *   숙소 또는 객실 변경이 커밋되면 그 숙소의 도시/지역 태그와 "all" 태그 항목만 버립니다.
+ */
+@Component
+@Slf4j
+public class AccommodationSearchCache {
+
+    private static final String ALL_TAG = "all";
+
+    private final boolean enabled;
+    private final TaggedCache<SearchKey, Page<AccommodationResponse>> cache;
+
+    public AccommodationSearchCache(
+            @Value("${accommodation.search-cache.enabled:true}") boolean enabled,
+            @Value("${accommodation.search-cache.max-entries:10000}") int maxEntries,
+            @Value("${accommodation.search-cache.ttl-ms:60000}") long ttlMillis) {
+        this.enabled = enabled;
+        this.cache = new TaggedCache<>("accommodationSearch", maxEntries, Duration.ofMillis(ttlMillis));
+    }
+
+    public Page<AccommodationResponse> getOrLoad(AccommodationSearchRequest request,
+                                                 Supplier<Page<AccommodationResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        SearchKey key = SearchKey.of(request);
+        return cache.getOrLoad(key, key.tags(), loader);
+    }
+
+    /**
+     * 숙소 등록/수정, 객실 등록/요금 변경이 커밋된 이후 해당 숙소의 도시/지역 검색 결과만 무효화합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccommodationChanged(AccommodationChangedEvent event) {
+        List<String> tags = new ArrayList<>();
+        tags.add(ALL_TAG);
+        String city = fold(event.getCity());
+        String region = fold(event.getRegion());
+        if (city != null) {
+            tags.add("city:" + city);
+        }
+        if (region != null) {
+            tags.add("region:" + region);
+        }
+        if (event.isRemoved()) {
+            // 삭제 이벤트에는 도시/지역이 없으므로 전체 무효화
+            cache.clear();
+            return;
+        }
+        int removed = cache.invalidateTags(tags);
+        log.debug("Accommodation search cache invalidated: tags={}, removed={}", tags, removed);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 검색 조회와 같은 규칙으로 정리 (AccommodationUseCaseImpl 도 앞뒤 공백을 제거한 값으로 조회)
+    static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    // 캐시 키/태그용 - 대소문자만 다른 검색 조건은 DB 에서 같은 결과이므로 같은 키로 취급
+    private static String fold(String value) {
+        String normalized = normalize(value);
+        return normalized != null ? normalized.toLowerCase(Locale.ROOT) : null;
+    }
+
+    @EqualsAndHashCode
+    private static final class SearchKey {
+        private final String keyword;
+        private final String city;
+        private final String region;
+        private final AccommodationType type;
+        private final BigDecimal minPrice;
+        private final BigDecimal maxPrice;
+        private final Integer minRating;
+        private final long amenityMask;
+        private final AccommodationSort sort;
+        private final Double latitude;
+        private final Double longitude;
+        private final int page;
+        private final int size;
+
+        private SearchKey(String keyword, String city, String region, AccommodationType type,
+                          BigDecimal minPrice, BigDecimal maxPrice, Integer minRating, long amenityMask,
+                          AccommodationSort sort, Double latitude, Double longitude, int page, int size) {
+            this.keyword = keyword;
+            this.city = city;
+            this.region = region;
+            this.type = type;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            this.minRating = minRating;
+            this.amenityMask = amenityMask;
+            this.sort = sort;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.page = page;
+            this.size = size;
+        }
+
+        private static SearchKey of(AccommodationSearchRequest request) {
+            return new SearchKey(
+                    fold(request.getKeyword()),
+                    fold(request.getCity()),
+                    fold(request.getRegion()),
+                    request.getType(),
+                    request.getMinPrice() != null ? request.getMinPrice().stripTrailingZeros() : null,
+                    request.getMaxPrice() != null ? request.getMaxPrice().stripTrailingZeros() : null,
+                    request.getMinRating(),
+                    Amenity.requiredMaskOf(request.getAmenities()),
+                    request.getSort(),
+                    // 기준 좌표는 거리순일 때만 결과에 영향
+                    request.getSort() == AccommodationSort.DISTANCE ? request.getLatitude() : null,
+                    request.getSort() == AccommodationSort.DISTANCE ? request.getLongitude() : null,
+                    request.getPage(),
+                    request.getSize());
+        }
+
+        private Set<String> tags() {
+            if (city != null) {
+                return Set.of("city:" + city);
+            }
+            if (region != null) {
+                return Set.of("region:" + region);
+            }
+            return Set.of(ALL_TAG);
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package heej.net.domain.accommodation.usecase;
 
+import heej.net.common.pagination.CursorPage;
 import heej.net.domain.accommodation.api.dto.*;
 import org.springframework.data.domain.Page;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface AccommodationUseCase {
     // 숙소 목록 조회 (검색, 필터링, 페이징)
     Page<AccommodationResponse> searchAccommodations(AccommodationSearchRequest request);
 
+    // 숙소 목록 커서 페이지 조회 (최신 등록순)
+    CursorPage<AccommodationResponse> scrollAccommodations(AccommodationSearchRequest request);
+
+    // 반경 안의 숙소를 가까운 순으로 조회 (도시/타입/평점 필터)
+    List<NearbyAccommodationResponse> searchNearby(NearbySearchRequest request);
+
     // 숙소 상세 조회 (이미지 및 객실 목록 포함)
     AccommodationDetailResponse getAccommodationDetail(Long accommodationId);
 
@@ -26,4 +34,7 @@ public interface AccommodationUseCase {
 
     // 객실 등록
     RoomResponse createRoom(RoomCreateRequest request);
+
+    // 객실 1박 기본 요금 변경 (숙소 가격 요약도 함께 갱신)
+    RoomResponse updateRoomPrice(Long roomId, BigDecimal pricePerNight);
 }
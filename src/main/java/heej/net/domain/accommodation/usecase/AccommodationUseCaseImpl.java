@@ -1,21 +1,38 @@
 package heej.net.domain.accommodation.usecase;
 
+import heej.net.common.pagination.Cursor;
+import heej.net.common.pagination.CursorPage;
 import heej.net.domain.accommodation.api.dto.*;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import heej.net.domain.accommodation.event.RoomAmenitiesChangedEvent;
 import heej.net.domain.accommodation.infra.AccommodationInfra;
+import heej.net.domain.accommodation.infra.AccommodationRanking;
+import heej.net.domain.accommodation.infra.NearbyHit;
 import heej.net.domain.accommodation.infra.RoomInfra;
 import heej.net.domain.accommodation.model.Accommodation;
 import heej.net.domain.accommodation.model.AccommodationImage;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.model.Amenity;
 import heej.net.domain.accommodation.model.Room;
 import heej.net.domain.accommodation.model.RoomImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,17 +41,98 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AccommodationUseCaseImpl implements AccommodationUseCase {
 
+    // 주변 검색 최대 반경 (km) / 최대 조회 개수
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_LIMIT = 100;
+
     private final AccommodationInfra accommodationInfra;
     private final RoomInfra roomInfra;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccommodationSearchCache searchCache;
 
     @Override
     public Page<AccommodationResponse> searchAccommodations(AccommodationSearchRequest request) {
-        log.info("숙소 검색 요청: keyword={}, city={}, region={}, type={}",
+        log.info("숙소 검색 요청: keyword={}, city={}, region={}, type={}, sort={}",
+                request.getKeyword(), request.getCity(), request.getRegion(), request.getType(), request.getSort());
+
+        validatePriceRange(request);
+        AccommodationSort sort = request.getSort() != null ? request.getSort() : AccommodationSort.LATEST;
+        validateSort(request, sort);
+        long amenityMask = Amenity.requiredMaskOf(request.getAmenities());
+
+        // 같은 조건의 반복 검색은 캐시에서 응답 (숙소/객실 변경 시 해당 도시/지역만 무효화)
+        Page<AccommodationResponse> page = searchCache.getOrLoad(request, () -> {
+            // 최신순 외 정렬은 메모리 인덱스에서 (page+1)*size 건만 골라 순위를 매김 (DB 전체 정렬 없음)
+            if (sort != AccommodationSort.LATEST) {
+                Optional<Page<Accommodation>> ranked = searchRanked(request, sort, amenityMask);
+                if (ranked.isPresent()) {
+                    return ranked.get().map(this::toAccommodationResponse);
+                }
+            }
+
+            if (sort == AccommodationSort.DISTANCE) {
+                // 집계 인덱스 적재 전이거나 꺼져 있으면 거리식으로 DB 에서 정렬
+                return accommodationInfra.searchAccommodationsByDistance(
+                        AccommodationSearchCache.normalize(request.getKeyword()),
+                        AccommodationSearchCache.normalize(request.getCity()),
+                        AccommodationSearchCache.normalize(request.getRegion()),
+                        request.getType(),
+                        request.getMinPrice(),
+                        request.getMaxPrice(),
+                        request.getMinRating(),
+                        findAccommodationIdsWithAmenities(amenityMask),
+                        request.getLatitude(),
+                        request.getLongitude(),
+                        PageRequest.of(request.getPage(), request.getSize())
+                ).map(this::toAccommodationResponse);
+            }
+
+            Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), toDatabaseSort(sort));
+
+            Page<Accommodation> accommodations = accommodationInfra.searchAccommodations(
+                    AccommodationSearchCache.normalize(request.getKeyword()),
+                    AccommodationSearchCache.normalize(request.getCity()),
+                    AccommodationSearchCache.normalize(request.getRegion()),
+                    request.getType(),
+                    request.getMinPrice(),
+                    request.getMaxPrice(),
+                    request.getMinRating(),
+                    findAccommodationIdsWithAmenities(amenityMask),
+                    pageable
+            );
+
+            return accommodations.map(this::toAccommodationResponse);
+        });
+        if (!request.isIncludeFacets()) {
+            return page;
+        }
+
+        // 집계는 메모리 열 저장소에서 한 번의 순회로 계산 (집계용 추가 쿼리 없음)
+        AccommodationFacetResponse facets = accommodationInfra.countFacets(
+                        AccommodationSearchCache.normalize(request.getKeyword()),
+                        AccommodationSearchCache.normalize(request.getCity()),
+                        AccommodationSearchCache.normalize(request.getRegion()),
+                        request.getType(),
+                        request.getMinPrice(),
+                        request.getMaxPrice(),
+                        request.getMinRating(),
+                        findAccommodationIdsWithAmenities(amenityMask))
+                .map(AccommodationFacetResponse::from)
+                .orElse(null);
+        return new AccommodationSearchResponse(page, facets);
+    }
+
+    @Override
+    public CursorPage<AccommodationResponse> scrollAccommodations(AccommodationSearchRequest request) {
+        log.info("숙소 커서 검색 요청: keyword={}, city={}, region={}, type={}",
                 request.getKeyword(), request.getCity(), request.getRegion(), request.getType());
 
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+        int size = request.getSize();
+        CursorPage.validateSize(size);
+        validatePriceRange(request);
+        long amenityMask = Amenity.requiredMaskOf(request.getAmenities());
 
-        Page<Accommodation> accommodations = accommodationInfra.searchAccommodations(
+        List<Accommodation> fetched = accommodationInfra.searchAccommodationsAfter(
                 request.getKeyword(),
                 request.getCity(),
                 request.getRegion(),
@@ -42,10 +140,54 @@ public class AccommodationUseCaseImpl implements AccommodationUseCase {
                 request.getMinPrice(),
                 request.getMaxPrice(),
                 request.getMinRating(),
-                pageable
+                findAccommodationIdsWithAmenities(amenityMask),
+                Cursor.decode(request.getCursor()),
+                size + 1
         );
 
-        return accommodations.map(this::toAccommodationResponse);
+        return CursorPage.of(fetched, size, accommodation -> new Cursor(accommodation.getCreatedAt(), accommodation.getId()))
+                .map(this::toAccommodationResponse);
+    }
+
+    @Override
+    public List<NearbyAccommodationResponse> searchNearby(NearbySearchRequest request) {
+        log.info("숙소 주변 검색 요청: lat={}, lng={}, radiusKm={}, city={}, type={}",
+                request.getLatitude(), request.getLongitude(), request.getRadiusKm(),
+                request.getCity(), request.getType());
+
+        if (request.getLatitude() == null || request.getLatitude() < -90 || request.getLatitude() > 90) {
+            throw new IllegalArgumentException("위도는 -90 ~ 90 사이여야 합니다.");
+        }
+        if (request.getLongitude() == null || request.getLongitude() < -180 || request.getLongitude() > 180) {
+            throw new IllegalArgumentException("경도는 -180 ~ 180 사이여야 합니다.");
+        }
+        if (request.getRadiusKm() == null || request.getRadiusKm() <= 0 || request.getRadiusKm() > MAX_NEARBY_RADIUS_KM) {
+            throw new IllegalArgumentException("검색 반경은 0km 초과 " + (int) MAX_NEARBY_RADIUS_KM + "km 이하여야 합니다.");
+        }
+        if (request.getLimit() == null || request.getLimit() < 1 || request.getLimit() > MAX_NEARBY_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 ~ " + MAX_NEARBY_LIMIT + " 사이여야 합니다.");
+        }
+
+        List<NearbyHit> hits = accommodationInfra.findNearby(
+                request.getLatitude(),
+                request.getLongitude(),
+                request.getRadiusKm(),
+                request.getCity(),
+                request.getType(),
+                request.getMinRating(),
+                request.getLimit()
+        );
+
+        // 상위 limit 건만 엔티티로 로딩한 뒤 거리순을 유지
+        Map<Long, Accommodation> loaded = accommodationInfra.findAllById(
+                        hits.stream().map(NearbyHit::getAccommodationId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> loaded.containsKey(hit.getAccommodationId()))
+                .map(hit -> toNearbyResponse(loaded.get(hit.getAccommodationId()), hit.getDistanceKm()))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -105,6 +247,7 @@ public class AccommodationUseCaseImpl implements AccommodationUseCase {
                         .map(RoomImage::getImageUrl)
                         .collect(Collectors.toList()))
                 .status(room.getStatus())
+                .amenities(room.getAmenities())
                 .createdAt(room.getCreatedAt())
                 .updatedAt(room.getUpdatedAt())
                 .build();
@@ -152,6 +295,9 @@ public class AccommodationUseCaseImpl implements AccommodationUseCase {
         Accommodation saved = accommodationInfra.save(accommodation);
         log.info("숙소 등록 완료: id={}", saved.getId());
 
+        // 커밋 이후 검색 인덱스/검색 캐시에 반영
+        eventPublisher.publishEvent(AccommodationChangedEvent.saved(saved));
+
         return toAccommodationResponse(saved);
     }
 
@@ -176,13 +322,115 @@ public class AccommodationUseCaseImpl implements AccommodationUseCase {
                 .mainImage(request.getMainImage())
                 .status(heej.net.domain.accommodation.model.RoomStatus.AVAILABLE)
                 .build();
+        room.setAmenities(request.getAmenities());
 
         Room saved = roomInfra.save(room);
         log.info("객실 등록 완료: id={}", saved.getId());
 
+        // 숙소의 최저/최고 요금 등 객실 요약 갱신
+        accommodationInfra.refreshRoomSummary(accommodation.getId());
+        eventPublisher.publishEvent(AccommodationChangedEvent.saved(accommodation));
+        eventPublisher.publishEvent(RoomAmenitiesChangedEvent.saved(saved));
+
         return toRoomResponse(saved);
     }
 
+    @Override
+    @Transactional
+    public RoomResponse updateRoomPrice(Long roomId, BigDecimal pricePerNight) {
+        log.info("객실 요금 변경 요청: roomId={}, pricePerNight={}", roomId, pricePerNight);
+
+        Room room = roomInfra.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다: " + roomId));
+        room.updatePrice(pricePerNight);
+        roomInfra.save(room);
+
+        accommodationInfra.refreshRoomSummary(room.getAccommodation().getId());
+        eventPublisher.publishEvent(AccommodationChangedEvent.saved(room.getAccommodation()));
+        return toRoomResponse(room);
+    }
+
+    /**
+     * 정렬 순서상 요청 페이지까지의 숙소 ID 만 메모리 인덱스에서 골라 해당 페이지만 로딩합니다.
+     * 인덱스로 답할 수 없으면 Optional.empty()
+     */
+    private Optional<Page<Accommodation>> searchRanked(AccommodationSearchRequest request, AccommodationSort sort,
+                                                       long amenityMask) {
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+
+        Optional<AccommodationRanking> ranking = accommodationInfra.rankAccommodations(
+                AccommodationSearchCache.normalize(request.getKeyword()),
+                AccommodationSearchCache.normalize(request.getCity()),
+                AccommodationSearchCache.normalize(request.getRegion()),
+                request.getType(),
+                request.getMinPrice(),
+                request.getMaxPrice(),
+                request.getMinRating(),
+                findAccommodationIdsWithAmenities(amenityMask),
+                sort,
+                request.getLatitude(),
+                request.getLongitude(),
+                limit
+        );
+        if (ranking.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Long> rankedIds = ranking.get().getAccommodationIds();
+        List<Long> pageIds = rankedIds.subList((int) Math.min(pageable.getOffset(), rankedIds.size()), rankedIds.size());
+        Map<Long, Accommodation> loaded = accommodationInfra.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+        List<Accommodation> content = pageIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return Optional.of(new PageImpl<>(content, pageable, ranking.get().getTotal()));
+    }
+
+    /**
+     * 메모리 인덱스를 쓸 수 없을 때 DB 정렬 (같은 값은 ID 내림차순, 거리순은 searchAccommodationsByDistance)
+     * 최신순은 등록 시각 내림차순을 명시하고, 정렬 없음(unsorted)은 관련도순에만 써서 키워드 역색인(BM25) 순서를 따릅니다.
+     * 역색인도 쓸 수 없으면 관련도순도 최신순으로 대체됩니다.
+     */
+    private Sort toDatabaseSort(AccommodationSort sort) {
+        switch (sort) {
+            case PRICE:
+                return Sort.by(Sort.Order.asc("minPricePerNight").nullsLast());
+            case RATING:
+                return Sort.by(Sort.Order.desc("rating"));
+            case RELEVANCE:
+                return Sort.unsorted();
+            default:
+                return Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        }
+    }
+
+    private void validateSort(AccommodationSearchRequest request, AccommodationSort sort) {
+        if (sort == AccommodationSort.RELEVANCE && AccommodationSearchCache.normalize(request.getKeyword()) == null) {
+            throw new IllegalArgumentException("관련도순 정렬은 검색 키워드가 필요합니다.");
+        }
+        if (sort == AccommodationSort.DISTANCE
+                && (request.getLatitude() == null || request.getLatitude() < -90 || request.getLatitude() > 90
+                || request.getLongitude() == null || request.getLongitude() < -180 || request.getLongitude() > 180)) {
+            throw new IllegalArgumentException("거리순 정렬은 기준 위도(-90 ~ 90)와 경도(-180 ~ 180)가 필요합니다.");
+        }
+    }
+
+    /**
+     * 요청한 편의시설을 모두 갖춘 객실이 있는 숙소 ID (편의시설 인덱스의 비트 AND). 편의시설 조건이 없으면 null
+     */
+    private Set<Long> findAccommodationIdsWithAmenities(long amenityMask) {
+        return amenityMask != 0L ? roomInfra.findAccommodationIdsWithAmenities(amenityMask) : null;
+    }
+
+    private void validatePriceRange(AccommodationSearchRequest request) {
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice().compareTo(request.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
     private AccommodationResponse toAccommodationResponse(Accommodation accommodation) {
         return AccommodationResponse.builder()
                 .id(accommodation.getId())
@@ -198,11 +446,30 @@ public class AccommodationUseCaseImpl implements AccommodationUseCase {
                 .mainImage(accommodation.getMainImage())
                 .status(accommodation.getStatus())
                 .rating(accommodation.getRating())
+                .minPricePerNight(accommodation.getMinPricePerNight())
+                .maxPricePerNight(accommodation.getMaxPricePerNight())
+                .roomCount(accommodation.getRoomCount())
                 .createdAt(accommodation.getCreatedAt())
                 .updatedAt(accommodation.getUpdatedAt())
                 .build();
     }
 
+    private NearbyAccommodationResponse toNearbyResponse(Accommodation accommodation, double distanceKm) {
+        return NearbyAccommodationResponse.builder()
+                .id(accommodation.getId())
+                .name(accommodation.getName())
+                .type(accommodation.getType())
+                .address(accommodation.getAddress())
+                .city(accommodation.getCity())
+                .region(accommodation.getRegion())
+                .latitude(accommodation.getLatitude())
+                .longitude(accommodation.getLongitude())
+                .mainImage(accommodation.getMainImage())
+                .rating(accommodation.getRating())
+                .distanceKm(Math.round(distanceKm * 100) / 100.0)
+                .build();
+    }
+
     private RoomResponse toRoomResponse(Room room) {
         return RoomResponse.builder()
                 .id(room.getId())
@@ -217,6 +484,7 @@ public class AccommodationUseCaseImpl implements AccommodationUseCase {
                 .size(room.getSize())
                 .mainImage(room.getMainImage())
                 .status(room.getStatus())
+                .amenities(room.getAmenities())
                 .createdAt(room.getCreatedAt())
                 .updatedAt(room.getUpdatedAt())
                 .build();
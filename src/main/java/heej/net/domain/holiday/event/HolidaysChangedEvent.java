@@ -0,0 +1,15 @@
+package heej.net.domain.holiday.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공휴일이 추가/동기화되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 공휴일 달력(메모리)이 이 이벤트를 받아 다시 적재합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class HolidaysChangedEvent {
+
+    private final int changedCount;
+}
@@ -0,0 +1,90 @@
+package heej.net.domain.holiday.infra;
+
+import heej.net.domain.holiday.event.HolidaysChangedEvent;
+import heej.net.domain.holiday.model.Holiday;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 공휴일 달력 (메모리)
+ *
+ * - 연도마다 BitSet 하나를 두고, bit 위치는 (dayOfYear - 1) 입니다. 이름 등 상세 정보는 날짜순 맵으로 보관합니다.
+ * - 공휴일 변경이 커밋되면 DB에서 전체를 다시 읽어 새 스냅샷을 만든 뒤 한 번에 교체합니다.
+ *   (공휴일은 연간 수십 건 수준이므로 전체 재적재로 충분)
+ * - 아직 로딩되지 않았으면 호출 측이 DB 조회로 대체(fallback)해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HolidayCalendar {
+
+    private final HolidayInfra holidayInfra;
+
+    private volatile Snapshot snapshot;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public boolean contains(LocalDate date) {
+        BitSet days = snapshot.years.get(date.getYear());
+        return days != null && days.get(date.getDayOfYear() - 1);
+    }
+
+    public Optional<Holiday> find(LocalDate date) {
+        return Optional.ofNullable(snapshot.holidays.get(date));
+    }
+
+    /**
+     * 기간(시작일, 종료일 포함) 내 공휴일 목록 (날짜순)
+     */
+    public List<Holiday> findBetween(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        return new ArrayList<>(snapshot.holidays.subMap(startDate, true, endDate, true).values());
+    }
+
+    /**
+     * 공휴일 추가/동기화가 커밋된 이후 다시 적재합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        reload();
+    }
+
+    public void reload() {
+        Snapshot built = new Snapshot();
+        for (Holiday holiday : holidayInfra.findAll()) {
+            LocalDate date = holiday.getHolidayDate();
+            built.years.computeIfAbsent(date.getYear(), year -> new BitSet(366)).set(date.getDayOfYear() - 1);
+            built.holidays.put(date, holiday);
+        }
+        this.snapshot = built.freeze();
+        log.info("Holiday calendar loaded: holidays={}", built.holidays.size());
+    }
+
+    private static final class Snapshot {
+        private Map<Integer, BitSet> years = new HashMap<>();
+        private NavigableMap<LocalDate, Holiday> holidays = new TreeMap<>();
+
+        private Snapshot freeze() {
+            years = Collections.unmodifiableMap(years);
+            holidays = Collections.unmodifiableNavigableMap(holidays);
+            return this;
+        }
+    }
+}
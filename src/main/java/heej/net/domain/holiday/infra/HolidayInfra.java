@@ -12,6 +12,8 @@ public interface HolidayInfra {
 
     Optional<Holiday> findById(Long id);
 
+    List<Holiday> findAll();
+
     Optional<Holiday> findByDate(LocalDate date);
 
     List<Holiday> findByYearAndMonth(Integer year, Integer month);
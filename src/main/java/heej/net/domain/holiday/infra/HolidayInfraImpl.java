@@ -24,6 +24,11 @@ public class HolidayInfraImpl implements HolidayInfra {
         return holidayJpaRepository.findById(id);
     }
 
+    @Override
+    public List<Holiday> findAll() {
+        return holidayJpaRepository.findAll();
+    }
+
     @Override
     public Optional<Holiday> findByDate(LocalDate date) {
         return holidayJpaRepository.findByHolidayDate(date);
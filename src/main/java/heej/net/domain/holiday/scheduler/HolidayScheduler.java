@@ -1,5 +1,6 @@
 package heej.net.domain.holiday.scheduler;
 
+import heej.net.domain.holiday.infra.HolidayCalendar;
 import heej.net.domain.holiday.usecase.HolidayUseCase;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.time.LocalDate;
 public class HolidayScheduler {
 
     private final HolidayUseCase holidayUseCase;
+    private final HolidayCalendar holidayCalendar;
 
     /**
      * 애플리케이션 시작 시 현재 연도와 다음 연도의 모든 공휴일을 동기화합니다
@@ -22,6 +24,8 @@ public class HolidayScheduler {
     @PostConstruct
     public void initHolidays() {
         log.info("=== Initializing holidays on application startup ===");
+        // 외부 API 동기화가 실패해도 DB에 저장된 공휴일로 달력을 먼저 적재
+        holidayCalendar.reload();
         syncYearHolidays(LocalDate.now().getYear());
         syncYearHolidays(LocalDate.now().getYear() + 1);
         log.info("=== Holiday initialization completed ===");
@@ -2,11 +2,14 @@ package heej.net.domain.holiday.usecase;
 
 import heej.net.domain.holiday.api.dto.HolidayResponse;
 import heej.net.domain.holiday.api.dto.PublicHolidayApiResponse;
+import heej.net.domain.holiday.event.HolidaysChangedEvent;
+import heej.net.domain.holiday.infra.HolidayCalendar;
 import heej.net.domain.holiday.infra.HolidayInfra;
 import heej.net.domain.holiday.infra.PublicHolidayApiClient;
 import heej.net.domain.holiday.model.Holiday;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,8 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
 
     private final HolidayInfra holidayInfra;
     private final PublicHolidayApiClient publicHolidayApiClient;
+    private final HolidayCalendar holidayCalendar;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -67,6 +72,10 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
                 }
             }
 
+            if (savedCount > 0) {
+                eventPublisher.publishEvent(new HolidaysChangedEvent(savedCount));
+            }
+
             log.info("Successfully synced {} holidays for year={}, month={}", savedCount, year, month);
             return savedCount;
 
@@ -78,6 +87,9 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
 
     @Override
     public boolean isHoliday(LocalDate date) {
+        if (holidayCalendar.isLoaded()) {
+            return holidayCalendar.contains(date);
+        }
         return holidayInfra.isHoliday(date);
     }
 
@@ -97,7 +109,9 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
 
     @Override
     public List<HolidayResponse> getHolidaysByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<Holiday> holidays = holidayInfra.findByDateRange(startDate, endDate);
+        List<Holiday> holidays = holidayCalendar.isLoaded()
+                ? holidayCalendar.findBetween(startDate, endDate)
+                : holidayInfra.findByDateRange(startDate, endDate);
         return holidays.stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
@@ -105,6 +119,11 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
 
     @Override
     public HolidayResponse getHoliday(LocalDate date) {
+        if (holidayCalendar.isLoaded()) {
+            return holidayCalendar.find(date)
+                    .map(this::toResponse)
+                    .orElse(null);
+        }
         return holidayInfra.findByDate(date)
                 .map(this::toResponse)
                 .orElse(null);
@@ -118,7 +137,7 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
         // 이미 존재하는지 확인
         if (holidayInfra.isHoliday(date)) {
             log.warn("Holiday already exists for date: {}", date);
-            return getHoliday(date);
+            return holidayInfra.findByDate(date).map(this::toResponse).orElse(null);
         }
 
         Holiday holiday = Holiday.builder()
@@ -130,6 +149,7 @@ public class HolidayUseCaseImpl implements HolidayUseCase {
                 .build();
 
         Holiday saved = holidayInfra.save(holiday);
+        eventPublisher.publishEvent(new HolidaysChangedEvent(1));
         log.info("Holiday added manually: id={}, date={}, name={}", saved.getId(), date, name);
 
         return toResponse(saved);
@@ -0,0 +1,81 @@
+package heej.net.domain.pricing.api;
+
+import heej.net.domain.pricing.api.dto.PriceQuoteResponse;
+import heej.net.domain.pricing.api.dto.PricingRuleRequest;
+import heej.net.domain.pricing.api.dto.PricingRuleResponse;
+import heej.net.domain.pricing.api.dto.RoomRateRequest;
+import heej.net.domain.pricing.usecase.PricingUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/pricing")
+@RequiredArgsConstructor
+@Slf4j
+public class PricingEndpoint {
+
+    private final PricingUseCase pricingUseCase;
+
+    /**
+     * 요금 규칙 등록 (주말/공휴일/시즌 할증·할인)
+     * POST /api/pricing/rules
+     */
+    @PostMapping("/rules")
+    public ResponseEntity<PricingRuleResponse> createRule(@Valid @RequestBody PricingRuleRequest request) {
+        log.info("Creating pricing rule: type={}, roomId={}", request.getType(), request.getRoomId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(pricingUseCase.createRule(request));
+    }
+
+    @GetMapping("/rules")
+    public ResponseEntity<List<PricingRuleResponse>> getRules() {
+        return ResponseEntity.ok(pricingUseCase.getRules());
+    }
+
+    @DeleteMapping("/rules/{ruleId}")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long ruleId) {
+        pricingUseCase.deleteRule(ruleId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 객실 날짜별 요금 지정 (규칙보다 우선)
+     * PUT /api/pricing/rooms/{roomId}/rates
+     */
+    @PutMapping("/rooms/{roomId}/rates")
+    public ResponseEntity<Map<String, Object>> setRoomRates(
+            @PathVariable Long roomId,
+            @Valid @RequestBody RoomRateRequest request) {
+
+        log.info("Setting room rates: roomId={}, dates: {} ~ {}",
+                roomId, request.getStartDate(), request.getEndDate());
+        int count = pricingUseCase.setRoomRates(roomId, request);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("roomId", roomId);
+        response.put("updatedDays", count);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 숙박 기간 총 요금 조회
+     * GET /api/pricing/quote?roomId=1&checkInDate=2026-01-01&checkOutDate=2026-01-03
+     */
+    @GetMapping("/quote")
+    public ResponseEntity<PriceQuoteResponse> quote(
+            @RequestParam Long roomId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate checkInDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate checkOutDate) {
+        return ResponseEntity.ok(pricingUseCase.quote(roomId, checkInDate, checkOutDate));
+    }
+}
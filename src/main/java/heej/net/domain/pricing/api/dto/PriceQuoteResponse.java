@@ -0,0 +1,22 @@
+package heej.net.domain.pricing.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PriceQuoteResponse {
+    private Long roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer nights;
+    private BigDecimal basePricePerNight;
+    private BigDecimal totalPrice;
+}
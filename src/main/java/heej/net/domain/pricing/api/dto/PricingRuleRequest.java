@@ -0,0 +1,40 @@
+package heej.net.domain.pricing.api.dto;
+
+import heej.net.domain.pricing.model.PricingRuleType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRuleRequest {
+
+    // 객실 ID (선택사항 - null이면 전체 객실)
+    private Long roomId;
+
+    @NotNull(message = "규칙 종류는 필수입니다")
+    private PricingRuleType type;
+
+    @NotBlank(message = "규칙 이름은 필수입니다")
+    private String name;
+
+    // SEASON 규칙만 사용
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    @NotNull(message = "요금 조정률은 필수입니다")
+    @Min(value = -100, message = "요금 조정률은 -100% 이상이어야 합니다")
+    private Integer adjustmentPercent;
+}
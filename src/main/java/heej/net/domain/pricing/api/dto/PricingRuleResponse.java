@@ -0,0 +1,23 @@
+package heej.net.domain.pricing.api.dto;
+
+import heej.net.domain.pricing.model.PricingRuleType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PricingRuleResponse {
+    private Long id;
+    private Long roomId;
+    private PricingRuleType type;
+    private String name;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer adjustmentPercent;
+}
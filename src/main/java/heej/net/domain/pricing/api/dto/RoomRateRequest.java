@@ -0,0 +1,32 @@
+package heej.net.domain.pricing.api.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomRateRequest {
+
+    // 적용 기간 (시작일, 종료일 포함)
+    @NotNull(message = "시작일은 필수입니다")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    @NotNull(message = "종료일은 필수입니다")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;
+
+    @NotNull(message = "1박 요금은 필수입니다")
+    @Positive(message = "1박 요금은 양수여야 합니다")
+    private BigDecimal price;
+}
@@ -0,0 +1,31 @@
+package heej.net.domain.pricing.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 요금 규칙 또는 객실 날짜별 요금이 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 요금 계산기가 이 이벤트를 받아 해당 객실(또는 전체)의 요금표를 버립니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PricingChangedEvent {
+
+    // 비어 있으면 전체 객실
+    private final Set<Long> roomIds;
+
+    public static PricingChangedEvent allRooms() {
+        return new PricingChangedEvent(Set.of());
+    }
+
+    public static PricingChangedEvent rooms(Set<Long> roomIds) {
+        return new PricingChangedEvent(Set.copyOf(roomIds));
+    }
+
+    public boolean isAllRooms() {
+        return roomIds.isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package heej.net.domain.pricing.infra;
+
+import heej.net.domain.pricing.model.PricingRule;
+import heej.net.domain.pricing.model.RoomRate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PricingInfra {
+
+    PricingRule saveRule(PricingRule rule);
+
+    Optional<PricingRule> findRuleById(Long id);
+
+    List<PricingRule> findAllRules();
+
+    void deleteRule(PricingRule rule);
+
+    List<RoomRate> saveRates(List<RoomRate> rates);
+
+    List<RoomRate> findRates(Long roomId, LocalDate from, LocalDate to);
+
+    // 여러 객실의 기간 내 날짜별 요금 (한 번의 쿼리)
+    List<RoomRate> findRates(Collection<Long> roomIds, LocalDate from, LocalDate to);
+}
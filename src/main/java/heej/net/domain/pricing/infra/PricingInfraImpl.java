@@ -0,0 +1,54 @@
+package heej.net.domain.pricing.infra;
+
+import heej.net.domain.pricing.model.PricingRule;
+import heej.net.domain.pricing.model.RoomRate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PricingInfraImpl implements PricingInfra {
+
+    private final PricingRuleJpaRepository pricingRuleJpaRepository;
+    private final RoomRateJpaRepository roomRateJpaRepository;
+
+    @Override
+    public PricingRule saveRule(PricingRule rule) {
+        return pricingRuleJpaRepository.save(rule);
+    }
+
+    @Override
+    public Optional<PricingRule> findRuleById(Long id) {
+        return pricingRuleJpaRepository.findById(id);
+    }
+
+    @Override
+    public List<PricingRule> findAllRules() {
+        return pricingRuleJpaRepository.findAll();
+    }
+
+    @Override
+    public void deleteRule(PricingRule rule) {
+        pricingRuleJpaRepository.delete(rule);
+    }
+
+    @Override
+    public List<RoomRate> saveRates(List<RoomRate> rates) {
+        return roomRateJpaRepository.saveAll(rates);
+    }
+
+    @Override
+    public List<RoomRate> findRates(Long roomId, LocalDate from, LocalDate to) {
+        return roomRateJpaRepository.findByRoomIdAndRateDateBetween(roomId, from, to);
+    }
+
+    @Override
+    public List<RoomRate> findRates(Collection<Long> roomIds, LocalDate from, LocalDate to) {
+        return roomRateJpaRepository.findByRoomIdInAndRateDateBetween(roomIds, from, to);
+    }
+}
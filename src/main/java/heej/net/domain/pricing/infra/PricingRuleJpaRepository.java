@@ -0,0 +1,7 @@
+package heej.net.domain.pricing.infra;
+
+import heej.net.domain.pricing.model.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PricingRuleJpaRepository extends JpaRepository<PricingRule, Long> {
+}
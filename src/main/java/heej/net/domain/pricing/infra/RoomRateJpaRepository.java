@@ -0,0 +1,21 @@
+package heej.net.domain.pricing.infra;
+
+import heej.net.domain.pricing.model.RoomRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomRateJpaRepository extends JpaRepository<RoomRate, Long> {
+
+    List<RoomRate> findByRoomIdAndRateDateBetween(Long roomId, LocalDate from, LocalDate to);
+
+    @Query("SELECT r FROM RoomRate r WHERE r.roomId IN :roomIds AND r.rateDate BETWEEN :from AND :to")
+    List<RoomRate> findByRoomIdInAndRateDateBetween(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+}
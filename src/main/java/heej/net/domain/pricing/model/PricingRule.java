@@ -0,0 +1,54 @@
+package heej.net.domain.pricing.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 요금 규칙 - 조건에 맞는 날짜의 1박 기본 요금을 adjustmentPercent 만큼 조정합니다. (20 = +20%, -10 = -10%)
+ *
+ * roomId 가 null 이면 전체 객실에 적용됩니다.
+ */
+@Entity
+@Table(name = "pricing_rules")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class PricingRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PricingRuleType type;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // SEASON 규칙의 적용 기간 (포함)
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private Integer adjustmentPercent;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean appliesTo(Long roomId) {
+        return this.roomId == null || this.roomId.equals(roomId);
+    }
+}
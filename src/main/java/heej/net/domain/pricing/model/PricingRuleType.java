@@ -0,0 +1,7 @@
+package heej.net.domain.pricing.model;
+
+public enum PricingRuleType {
+    WEEKEND,   // 금/토요일 숙박
+    HOLIDAY,   // 공휴일 숙박
+    SEASON     // 시작일 ~ 종료일 기간 숙박 (성수기/비수기)
+}
@@ -0,0 +1,38 @@
+package heej.net.domain.pricing.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 객실 날짜별 요금 지정 - 해당 날짜는 규칙과 관계없이 이 요금을 사용합니다.
+ */
+@Entity
+@Table(name = "room_rates", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_room_rate_room_date", columnNames = {"room_id", "rate_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RoomRate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    public void changePrice(BigDecimal price) {
+        this.price = price;
+    }
+}
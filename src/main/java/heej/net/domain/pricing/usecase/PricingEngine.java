@@ -0,0 +1,275 @@
+package heej.net.domain.pricing.usecase;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.holiday.api.dto.HolidayResponse;
+import heej.net.domain.holiday.event.HolidaysChangedEvent;
+import heej.net.domain.holiday.usecase.HolidayUseCase;
+import heej.net.domain.pricing.event.PricingChangedEvent;
+import heej.net.domain.pricing.infra.PricingInfra;
+import heej.net.domain.pricing.model.PricingRule;
+import heej.net.domain.pricing.model.PricingRuleType;
+import heej.net.domain.pricing.model.RoomRate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 날짜별 객실 요금 계산
+ *
+ * - 1박 요금 = 날짜별 지정 요금(room_rates)이 있으면 그 요금, 없으면 기본 요금에 규칙 하나를 적용한 요금입니다.
+ *   규칙 우선순위: HOLIDAY > SEASON > WEEKEND, 같은 종류면 객실 전용 규칙이 전체 규칙보다 우선합니다.
+ * - 객실마다 [어제, 어제 + horizon-days) 구간의 1박 요금을 최소 단위(1/100) 정수로 누적한 prefix-sum 배열로
+ *   미리 계산해 두므로, 숙박 총액은 배열 조회 두 번(prefix[체크아웃] - prefix[체크인])입니다.
+ * - 요금/규칙/공휴일이 바뀌거나 table-ttl-ms 가 지나면 다시 계산합니다. 구간을 벗어난 숙박은 그때그때 계산합니다.
+ */
+@Component
+@Slf4j
+public class PricingEngine {
+
+    private static final int MINOR_UNIT_SCALE = 2;
+
+    private final PricingInfra pricingInfra;
+    private final HolidayUseCase holidayUseCase;
+    private final int horizonDays;
+    private final long tableTtlMillis;
+
+    private final Map<Long, PriceTable> tables = new ConcurrentHashMap<>();
+    private volatile List<PricingRule> rules;
+
+    // 무효화 횟수 - 계산 도중 요금이 바뀌었으면 그 결과를 캐시에 넣지 않기 위해 사용
+    private final AtomicLong generation = new AtomicLong();
+
+    public PricingEngine(
+            PricingInfra pricingInfra,
+            HolidayUseCase holidayUseCase,
+            @Value("${pricing.horizon-days:400}") int horizonDays,
+            @Value("${pricing.table-ttl-ms:600000}") long tableTtlMillis) {
+        this.pricingInfra = pricingInfra;
+        this.holidayUseCase = holidayUseCase;
+        this.horizonDays = horizonDays;
+        this.tableTtlMillis = tableTtlMillis;
+    }
+
+    /**
+     * 숙박 총액 (체크인 ~ 체크아웃 전날 숙박)
+     */
+    public BigDecimal quote(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return toAmount(quoteMinor(room, checkInDate, checkOutDate));
+    }
+
+    public long quoteMinor(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        PriceTable table = tables.get(room.getId());
+        if (!isValid(table, room)) {
+            table = compile(List.of(room)).get(room.getId());
+        }
+        if (table.covers(checkInDate, checkOutDate)) {
+            return table.total(checkInDate, checkOutDate);
+        }
+        return computeDirect(room, checkInDate, checkOutDate);
+    }
+
+    /**
+     * 요금표가 없거나 오래된 객실의 요금표를 한 번에 계산합니다. (날짜별 요금은 한 번의 쿼리로 조회)
+     */
+    public void warm(Collection<Room> rooms) {
+        List<Room> stale = rooms.stream()
+                .filter(room -> !isValid(tables.get(room.getId()), room))
+                .collect(Collectors.toList());
+        if (!stale.isEmpty()) {
+            compile(stale);
+        }
+    }
+
+    private Map<Long, PriceTable> compile(List<Room> stale) {
+        long expectedGeneration = generation.get();
+        LocalDate origin = LocalDate.now().minusDays(1);
+        LocalDate last = origin.plusDays(horizonDays - 1L);
+        Map<Long, Map<LocalDate, Long>> overrides = loadOverrides(
+                stale.stream().map(Room::getId).collect(Collectors.toSet()), origin, last);
+        Set<LocalDate> holidays = loadHolidays(origin, last);
+        List<PricingRule> currentRules = rules();
+
+        Map<Long, PriceTable> compiled = new HashMap<>();
+        for (Room room : stale) {
+            long baseMinor = toMinor(room.getPricePerNight());
+            Map<LocalDate, Long> roomOverrides = overrides.getOrDefault(room.getId(), Map.of());
+            long[] prefix = new long[horizonDays + 1];
+            LocalDate date = origin;
+            for (int i = 0; i < horizonDays; i++, date = date.plusDays(1)) {
+                prefix[i + 1] = prefix[i] + nightlyMinor(room.getId(), baseMinor, date, roomOverrides, holidays, currentRules);
+            }
+            compiled.put(room.getId(), new PriceTable(baseMinor, origin.toEpochDay(), prefix, System.currentTimeMillis()));
+        }
+        if (generation.get() == expectedGeneration) {
+            tables.putAll(compiled);
+        }
+        log.debug("Price tables compiled: rooms={}, origin={}, days={}", stale.size(), origin, horizonDays);
+        return compiled;
+    }
+
+    public void invalidate(Collection<Long> roomIds) {
+        generation.incrementAndGet();
+        roomIds.forEach(tables::remove);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        rules = null;
+        tables.clear();
+    }
+
+    /**
+     * 요금/규칙 변경이 커밋된 이후에 요금표를 버립니다. (커밋 전 값으로 다시 계산되는 것을 방지)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPricingChanged(PricingChangedEvent event) {
+        if (event.isAllRooms()) {
+            invalidateAll();
+        } else {
+            invalidate(event.getRoomIds());
+        }
+    }
+
+    /**
+     * 공휴일이 바뀌면 공휴일 요금이 달라지므로 전체 요금표를 다시 계산합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidaysChanged(HolidaysChangedEvent event) {
+        invalidateAll();
+    }
+
+    public static BigDecimal toAmount(long minor) {
+        return BigDecimal.valueOf(minor, MINOR_UNIT_SCALE);
+    }
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(MINOR_UNIT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // 요금표 구간 밖의 숙박 - 해당 기간만 조회해 바로 계산
+    private long computeDirect(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        LocalDate last = checkOutDate.minusDays(1);
+        Map<LocalDate, Long> roomOverrides = loadOverrides(Set.of(room.getId()), checkInDate, last)
+                .getOrDefault(room.getId(), Map.of());
+        Set<LocalDate> holidays = loadHolidays(checkInDate, last);
+        List<PricingRule> currentRules = rules();
+        long baseMinor = toMinor(room.getPricePerNight());
+
+        long total = 0;
+        for (LocalDate date = checkInDate; date.isBefore(checkOutDate); date = date.plusDays(1)) {
+            total += nightlyMinor(room.getId(), baseMinor, date, roomOverrides, holidays, currentRules);
+        }
+        return total;
+    }
+
+    private long nightlyMinor(Long roomId, long baseMinor, LocalDate date, Map<LocalDate, Long> overrides,
+                              Set<LocalDate> holidays, List<PricingRule> currentRules) {
+        Long override = overrides.get(date);
+        if (override != null) {
+            return override;
+        }
+
+        PricingRule applied = null;
+        for (PricingRule rule : currentRules) {
+            if (rule.appliesTo(roomId) && matches(rule, date, holidays)
+                    && (applied == null || precedence(rule) > precedence(applied))) {
+                applied = rule;
+            }
+        }
+        if (applied == null) {
+            return baseMinor;
+        }
+        // 반올림: (기본 요금 x (100 + 조정률) + 50) / 100
+        return Math.floorDiv(baseMinor * (100 + applied.getAdjustmentPercent()) + 50, 100);
+    }
+
+    private boolean matches(PricingRule rule, LocalDate date, Set<LocalDate> holidays) {
+        return switch (rule.getType()) {
+            case WEEKEND -> date.getDayOfWeek() == DayOfWeek.FRIDAY || date.getDayOfWeek() == DayOfWeek.SATURDAY;
+            case HOLIDAY -> holidays.contains(date);
+            case SEASON -> rule.getStartDate() != null && rule.getEndDate() != null
+                    && !date.isBefore(rule.getStartDate()) && !date.isAfter(rule.getEndDate());
+        };
+    }
+
+    // 종류 우선순위 x 2 + 객실 전용 여부
+    private int precedence(PricingRule rule) {
+        int typeRank = switch (rule.getType()) {
+            case HOLIDAY -> 3;
+            case SEASON -> 2;
+            case WEEKEND -> 1;
+        };
+        return typeRank * 2 + (rule.getRoomId() != null ? 1 : 0);
+    }
+
+    private boolean isValid(PriceTable table, Room room) {
+        return table != null
+                && table.baseMinor == toMinor(room.getPricePerNight())
+                && System.currentTimeMillis() - table.compiledAtMillis < tableTtlMillis;
+    }
+
+    private List<PricingRule> rules() {
+        List<PricingRule> current = rules;
+        if (current == null) {
+            current = List.copyOf(pricingInfra.findAllRules());
+            rules = current;
+        }
+        return current;
+    }
+
+    private Map<Long, Map<LocalDate, Long>> loadOverrides(Set<Long> roomIds, LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, Long>> overrides = new HashMap<>();
+        for (RoomRate rate : pricingInfra.findRates(roomIds, from, to)) {
+            overrides.computeIfAbsent(rate.getRoomId(), id -> new HashMap<>())
+                    .put(rate.getRateDate(), toMinor(rate.getPrice()));
+        }
+        return overrides;
+    }
+
+    private Set<LocalDate> loadHolidays(LocalDate from, LocalDate to) {
+        Set<LocalDate> holidays = new HashSet<>();
+        for (HolidayResponse holiday : holidayUseCase.getHolidaysByDateRange(from, to)) {
+            holidays.add(holiday.getHolidayDate());
+        }
+        return holidays;
+    }
+
+    private static final class PriceTable {
+        private final long baseMinor;
+        private final long originEpochDay;
+        private final long[] prefix;
+        private final long compiledAtMillis;
+
+        private PriceTable(long baseMinor, long originEpochDay, long[] prefix, long compiledAtMillis) {
+            this.baseMinor = baseMinor;
+            this.originEpochDay = originEpochDay;
+            this.prefix = prefix;
+            this.compiledAtMillis = compiledAtMillis;
+        }
+
+        private boolean covers(LocalDate checkInDate, LocalDate checkOutDate) {
+            return checkInDate.toEpochDay() >= originEpochDay
+                    && checkOutDate.toEpochDay() - originEpochDay < prefix.length;
+        }
+
+        private long total(LocalDate checkInDate, LocalDate checkOutDate) {
+            return prefix[(int) (checkOutDate.toEpochDay() - originEpochDay)]
+                    - prefix[(int) (checkInDate.toEpochDay() - originEpochDay)];
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package heej.net.domain.pricing.usecase;
+
+import heej.net.domain.pricing.api.dto.PriceQuoteResponse;
+import heej.net.domain.pricing.api.dto.PricingRuleRequest;
+import heej.net.domain.pricing.api.dto.PricingRuleResponse;
+import heej.net.domain.pricing.api.dto.RoomRateRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PricingUseCase {
+
+    PricingRuleResponse createRule(PricingRuleRequest request);
+
+    List<PricingRuleResponse> getRules();
+
+    void deleteRule(Long ruleId);
+
+    // 객실의 기간 내 날짜별 요금 지정 (이미 있으면 변경), 지정된 날짜 수 반환
+    int setRoomRates(Long roomId, RoomRateRequest request);
+
+    PriceQuoteResponse quote(Long roomId, LocalDate checkInDate, LocalDate checkOutDate);
+}
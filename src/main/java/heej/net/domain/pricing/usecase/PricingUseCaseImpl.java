@@ -0,0 +1,158 @@
+package heej.net.domain.pricing.usecase;
+
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.pricing.api.dto.PriceQuoteResponse;
+import heej.net.domain.pricing.api.dto.PricingRuleRequest;
+import heej.net.domain.pricing.api.dto.PricingRuleResponse;
+import heej.net.domain.pricing.api.dto.RoomRateRequest;
+import heej.net.domain.pricing.event.PricingChangedEvent;
+import heej.net.domain.pricing.infra.PricingInfra;
+import heej.net.domain.pricing.model.PricingRule;
+import heej.net.domain.pricing.model.PricingRuleType;
+import heej.net.domain.pricing.model.RoomRate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PricingUseCaseImpl implements PricingUseCase {
+
+    // 한 번에 지정할 수 있는 최대 기간 (일)
+    private static final int MAX_RATE_DAYS = 366;
+
+    private final PricingInfra pricingInfra;
+    private final RoomInfra roomInfra;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public PricingRuleResponse createRule(PricingRuleRequest request) {
+        if (request.getType() == PricingRuleType.SEASON) {
+            if (request.getStartDate() == null || request.getEndDate() == null) {
+                throw new IllegalArgumentException("시즌 규칙은 시작일과 종료일이 필요합니다.");
+            }
+            if (request.getEndDate().isBefore(request.getStartDate())) {
+                throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+            }
+        }
+        if (request.getRoomId() != null && roomInfra.findById(request.getRoomId()).isEmpty()) {
+            throw new IllegalArgumentException("객실을 찾을 수 없습니다.");
+        }
+
+        PricingRule saved = pricingInfra.saveRule(PricingRule.builder()
+                .roomId(request.getRoomId())
+                .type(request.getType())
+                .name(request.getName())
+                .startDate(request.getType() == PricingRuleType.SEASON ? request.getStartDate() : null)
+                .endDate(request.getType() == PricingRuleType.SEASON ? request.getEndDate() : null)
+                .adjustmentPercent(request.getAdjustmentPercent())
+                .build());
+        log.info("Pricing rule created: id={}, type={}, roomId={}, adjustment={}%",
+                saved.getId(), saved.getType(), saved.getRoomId(), saved.getAdjustmentPercent());
+
+        eventPublisher.publishEvent(PricingChangedEvent.allRooms());
+        return toRuleResponse(saved);
+    }
+
+    @Override
+    public List<PricingRuleResponse> getRules() {
+        return pricingInfra.findAllRules().stream()
+                .map(this::toRuleResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(Long ruleId) {
+        PricingRule rule = pricingInfra.findRuleById(ruleId)
+                .orElseThrow(() -> new IllegalArgumentException("요금 규칙을 찾을 수 없습니다."));
+        pricingInfra.deleteRule(rule);
+        log.info("Pricing rule deleted: id={}", ruleId);
+
+        eventPublisher.publishEvent(PricingChangedEvent.allRooms());
+    }
+
+    @Override
+    @Transactional
+    public int setRoomRates(Long roomId, RoomRateRequest request) {
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= MAX_RATE_DAYS) {
+            throw new IllegalArgumentException("요금은 한 번에 최대 " + MAX_RATE_DAYS + "일까지 지정할 수 있습니다.");
+        }
+        if (roomInfra.findById(roomId).isEmpty()) {
+            throw new IllegalArgumentException("객실을 찾을 수 없습니다.");
+        }
+
+        Map<LocalDate, RoomRate> existing = pricingInfra.findRates(roomId, request.getStartDate(), request.getEndDate())
+                .stream()
+                .collect(Collectors.toMap(RoomRate::getRateDate, Function.identity()));
+
+        List<RoomRate> rates = new ArrayList<>();
+        for (LocalDate date = request.getStartDate(); !date.isAfter(request.getEndDate()); date = date.plusDays(1)) {
+            RoomRate rate = existing.get(date);
+            if (rate != null) {
+                rate.changePrice(request.getPrice());
+            } else {
+                rates.add(RoomRate.builder()
+                        .roomId(roomId)
+                        .rateDate(date)
+                        .price(request.getPrice())
+                        .build());
+            }
+        }
+        pricingInfra.saveRates(rates);
+        log.info("Room rates set: roomId={}, dates: {} ~ {}, price={}",
+                roomId, request.getStartDate(), request.getEndDate(), request.getPrice());
+
+        eventPublisher.publishEvent(PricingChangedEvent.rooms(Set.of(roomId)));
+        return (int) ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+    }
+
+    @Override
+    public PriceQuoteResponse quote(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜 이후여야 합니다.");
+        }
+        Room room = roomInfra.findById(roomId)
+                .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다."));
+
+        return PriceQuoteResponse.builder()
+                .roomId(roomId)
+                .checkInDate(checkInDate)
+                .checkOutDate(checkOutDate)
+                .nights((int) ChronoUnit.DAYS.between(checkInDate, checkOutDate))
+                .basePricePerNight(room.getPricePerNight())
+                .totalPrice(pricingEngine.quote(room, checkInDate, checkOutDate))
+                .build();
+    }
+
+    private PricingRuleResponse toRuleResponse(PricingRule rule) {
+        return PricingRuleResponse.builder()
+                .id(rule.getId())
+                .roomId(rule.getRoomId())
+                .type(rule.getType())
+                .name(rule.getName())
+                .startDate(rule.getStartDate())
+                .endDate(rule.getEndDate())
+                .adjustmentPercent(rule.getAdjustmentPercent())
+                .build();
+    }
+}
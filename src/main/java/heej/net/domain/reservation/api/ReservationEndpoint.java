@@ -1,15 +1,25 @@
 package heej.net.domain.reservation.api;
 
+import heej.net.common.idempotency.IdempotencyExecutor;
+import heej.net.common.pagination.CursorPage;
+import heej.net.domain.member.model.MemberRole;
 import heej.net.domain.reservation.api.dto.*;
+import heej.net.domain.reservation.model.ExportFormat;
 import heej.net.domain.reservation.usecase.ReservationUseCase;
 import heej.net.security.util.SecurityUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -18,36 +28,133 @@ import java.util.List;
 @Slf4j
 public class ReservationEndpoint {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ReservationUseCase reservationUseCase;
+    private final IdempotencyExecutor idempotencyExecutor;
 
     /**
      * 예약 생성 (공휴일 체크 포함)
      * POST /api/reservations
+     * Idempotency-Key 헤더를 보내면 재시도 시 처음 응답을 그대로 반환합니다.
      */
     @PostMapping
     public ResponseEntity<ReservationResponse> createReservation(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateReservationRequest request) {
 
         Long memberId = SecurityUtil.getCurrentMemberId();
         log.info("Creating reservation for member: {}", memberId);
 
-        ReservationResponse response = reservationUseCase.createReservation(memberId, request);
+        ReservationResponse response = idempotencyExecutor.execute(
+                "reservation:create:" + memberId, idempotencyKey, request, ReservationResponse.class,
+                () -> reservationUseCase.createReservation(memberId, request));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 여러 객실 단체 예약 (전부 성공 또는 전부 실패)
+     * POST /api/reservations/group
+     */
+    @PostMapping("/group")
+    public ResponseEntity<GroupReservationResponse> createGroupReservation(
+            @Valid @RequestBody GroupReservationRequest request) {
+
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        log.info("Creating group reservation for member: {}, rooms: {}", memberId, request.getItems().size());
+
+        GroupReservationResponse response = reservationUseCase.createGroupReservation(memberId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 예약 요청 대기열 등록 (비동기)
+     * POST /api/reservations/async -> 202 Accepted + 티켓 ID
+     */
+    @PostMapping("/async")
+    public ResponseEntity<BookingTicketResponse> submitReservation(
+            @Valid @RequestBody CreateReservationRequest request) {
+
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        log.info("Queueing reservation for member: {}", memberId);
+
+        BookingTicketResponse response = reservationUseCase.submitReservation(memberId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/reservations/tickets/" + response.getTicketId()))
+                .body(response);
+    }
+
+    /**
+     * 비동기 예약 처리 결과 조회
+     * GET /api/reservations/tickets/{ticketId}
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<BookingTicketResponse> getBookingTicket(@PathVariable String ticketId) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        return ResponseEntity.ok(reservationUseCase.getBookingTicket(memberId, ticketId));
+    }
+
+    /**
+     * 내 예약 목록 조회 (includeArchived=true 면 보관된 지난 예약 포함)
+     * GET /api/reservations/my?includeArchived=true
+     */
     @GetMapping("/my")
-    public ResponseEntity<List<ReservationResponse>> getMyReservations() {
+    public ResponseEntity<List<ReservationResponse>> getMyReservations(
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         Long memberId = SecurityUtil.getCurrentMemberId();
-        List<ReservationResponse> reservations = reservationUseCase.getMyReservations(memberId);
+        List<ReservationResponse> reservations = reservationUseCase.getMyReservations(memberId, includeArchived);
         return ResponseEntity.ok(reservations);
     }
 
+    /**
+     * 내 예약 내역 커서 페이지 조회 (최신순)
+     * GET /api/reservations/my/history?size=20&cursor={nextCursor}&includeArchived=true
+     */
+    @GetMapping("/my/history")
+    public ResponseEntity<CursorPage<ReservationResponse>> getMyReservationHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        return ResponseEntity.ok(reservationUseCase.getMyReservations(memberId, cursor, size, includeArchived));
+    }
+
+    /**
+     * 예약 내역 내보내기 (CSV / NDJSON 스트리밍)
+     * GET /api/reservations/export?format=CSV&status=CONFIRMED&fromDate=2025-01-01&toDate=2025-12-31
+     * 일반 회원은 본인 예약만, 관리자는 memberId 로 특정 회원 또는 전체를 내보낼 수 있습니다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @ModelAttribute ReservationExportRequest request) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        Long targetMemberId = SecurityUtil.hasAuthority(MemberRole.ADMIN.getKey())
+                ? request.getMemberId()
+                : memberId;
+        boolean csv = request.getFormat() != ExportFormat.NDJSON;
+        // 200 응답이 나간 뒤에는 400 으로 바꿀 수 없으므로 본문을 만들기 전에 검증
+        reservationUseCase.validateExportRequest(request);
+
+        log.info("Export reservations requested: requester={}, target={}, format={}",
+                memberId, targetMemberId, request.getFormat());
+
+        StreamingResponseBody body = out -> reservationUseCase.exportReservations(targetMemberId, request, out);
+        return ResponseEntity.ok()
+                .contentType(csv
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reservations." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{reservationId}")
     public ResponseEntity<ReservationResponse> getReservation(
-            @PathVariable Long reservationId) {
+            @PathVariable Long reservationId,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         Long memberId = SecurityUtil.getCurrentMemberId();
-        ReservationResponse response = reservationUseCase.getReservation(memberId, reservationId);
+        ReservationResponse response = reservationUseCase.getReservation(memberId, reservationId, includeArchived);
         return ResponseEntity.ok(response);
     }
 
@@ -73,39 +180,72 @@ public class ReservationEndpoint {
     public ResponseEntity<List<CheckAvailabilityResponse>> checkAvailability(
             @Valid @ModelAttribute CheckAvailabilityRequest request) {
 
-        log.info("Checking availability: accommodationId={}, checkIn={}, checkOut={}, guests={}",
+        log.info("Checking availability: accommodationId={}, checkIn={}, checkOut={}, guests={}, amenities={}",
                 request.getAccommodationId(), request.getCheckInDate(), request.getCheckOutDate(),
-                request.getGuestCount());
+                request.getGuestCount(), request.getAmenities());
 
         List<CheckAvailabilityResponse> availableRooms =
             reservationUseCase.checkAvailability(
                     request.getAccommodationId(),
                     request.getCheckInDate(),
                     request.getCheckOutDate(),
-                    request.getGuestCount()
+                    request.getGuestCount(),
+                    request.getAmenities()
             );
 
         return ResponseEntity.ok(availableRooms);
     }
 
+    /**
+     * 유연 날짜 검색 - 기간 안에서 N박 예약 가능한 객실/날짜를 가장 싼(CHEAPEST) 또는 이른(EARLIEST) 순으로 조회
+     * GET /api/reservations/flexible-dates?fromDate=2026-01-05&toDate=2026-02-15&nights=3&guestCount=2&sort=CHEAPEST&limit=10
+     */
+    @GetMapping("/flexible-dates")
+    public ResponseEntity<List<FlexibleStayResponse>> searchFlexibleStays(
+            @Valid @ModelAttribute FlexibleStaySearchRequest request) {
+
+        log.info("Flexible stay search: accommodationId={}, roomId={}, {} ~ {}, nights={}, sort={}",
+                request.getAccommodationId(), request.getRoomId(), request.getFromDate(), request.getToDate(),
+                request.getNights(), request.getSort());
+        return ResponseEntity.ok(reservationUseCase.searchFlexibleStays(request));
+    }
+
+    /**
+     * 숙박 가능 숙소 검색 - 숙소 조건과 날짜/인원을 함께 적용해 빈 객실이 있는 숙소만 최신 등록순으로 조회
+     * (숙소별로 조건에 맞는 가장 싼 빈 객실과 숙박 총액 포함)
+     * GET /api/reservations/available-accommodations?city=제주&checkInDate=2026-01-05&checkOutDate=2026-01-07&guestCount=2&amenities=wifi&page=0&size=10
+     */
+    @GetMapping("/available-accommodations")
+    public ResponseEntity<Slice<AvailableAccommodationResponse>> searchAvailableAccommodations(
+            @Valid @ModelAttribute AvailableAccommodationSearchRequest request) {
+
+        log.info("Available accommodation search: keyword={}, city={}, region={}, type={}, {} ~ {}, guests={}",
+                request.getKeyword(), request.getCity(), request.getRegion(), request.getType(),
+                request.getCheckInDate(), request.getCheckOutDate(), request.getGuestCount());
+        return ResponseEntity.ok(reservationUseCase.searchAvailableAccommodations(request));
+    }
+
     @PostMapping("/cancel/{reservationId}")
     public ResponseEntity<ReservationCancelResponse> cancelReservationById(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @PathVariable Long reservationId,
             @Valid @RequestBody ReservationCancelRequest request
             ){
         Long memberId = SecurityUtil.getCurrentMemberId();
 
-        reservationUseCase.cancelReservation(memberId, reservationId, request.getCancelReason());
-        ReservationResponse reservationInfo = reservationUseCase.getReservation(memberId, reservationId);
-        ReservationCancelResponse response =
-                ReservationCancelResponse.builder()
-                        .success(true)
-                        .message("예약이 취소되었습니다.")
-                        .reservationId(String.valueOf(reservationId))
-                        .cancelReason(request.getCancelReason())
-                        .roomName(reservationInfo.getRoomName())
-                        .build();
+        ReservationCancelResponse response = idempotencyExecutor.execute(
+                "reservation:cancel:" + memberId + ":" + reservationId, idempotencyKey, request,
+                ReservationCancelResponse.class, () -> {
+                    ReservationResponse reservationInfo =
+                            reservationUseCase.cancelReservation(memberId, reservationId, request.getCancelReason());
+                    return ReservationCancelResponse.builder()
+                            .success(true)
+                            .message("예약이 취소되었습니다.")
+                            .reservationId(String.valueOf(reservationId))
+                            .cancelReason(request.getCancelReason())
+                            .roomName(reservationInfo.getRoomName())
+                            .build();
+                });
         return ResponseEntity.ok(response);
     }
 }
-
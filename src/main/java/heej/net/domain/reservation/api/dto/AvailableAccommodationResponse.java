@@ -0,0 +1,39 @@
+package heej.net.domain.reservation.api.dto;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailableAccommodationResponse {
+
+    private Long accommodationId;
+    private String accommodationName;
+    private AccommodationType accommodationType;
+    private String city;
+    private String region;
+    private String address;
+    private Integer rating;
+    private String mainImage;
+
+    // 조건에 맞는 빈 객실 중 숙박 총액이 가장 싼 객실
+    private Long roomId;
+    private String roomName;
+    private String roomType;
+    private Integer maxOccupancy;
+    private BigDecimal pricePerNight;
+    private BigDecimal totalPrice;
+
+    private Integer availableRoomCount;  // 조건에 맞는 빈 객실 수
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer nights;
+}
@@ -0,0 +1,51 @@
+package heej.net.domain.reservation.api.dto;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableAccommodationSearchRequest {
+
+    // 숙소 검색 조건 (숙소 목록 검색과 동일)
+    private String keyword;
+    private String city;
+    private String region;
+    private AccommodationType type;
+    private BigDecimal minPrice;         // 객실 1박 요금 하한
+    private BigDecimal maxPrice;         // 객실 1박 요금 상한
+    private Integer minRating;
+    private List<String> amenities;      // 편의시설 코드 (예: wifi,parking)
+
+    @NotNull(message = "체크인 날짜는 필수입니다")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate checkInDate;
+
+    @NotNull(message = "체크아웃 날짜는 필수입니다")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate checkOutDate;
+
+    @NotNull(message = "투숙 인원은 필수입니다")
+    @Min(value = 1, message = "투숙 인원은 최소 1명 이상이어야 합니다")
+    private Integer guestCount;
+
+    @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다")
+    private int page = 0;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 50, message = "페이지 크기는 50 이하여야 합니다")
+    private int size = 10;
+}
@@ -0,0 +1,23 @@
+package heej.net.domain.reservation.api.dto;
+
+import heej.net.domain.reservation.model.BookingTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingTicketResponse {
+    private String ticketId;
+    private BookingTicketStatus status;
+    private Integer queueDepth;              // 등록 시점의 대기열 길이
+    private ReservationResponse reservation; // SUCCEEDED 인 경우
+    private String message;                  // FAILED 인 경우 실패 사유
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+}
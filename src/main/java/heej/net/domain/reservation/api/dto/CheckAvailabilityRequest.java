@@ -10,6 +10,7 @@ import lombok.Setter;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Getter
 @Setter
@@ -36,4 +37,7 @@ public class CheckAvailabilityRequest {
 
     // 특정 객실 타입 조회시 사용 (선택사항)
     private Long roomId;
+
+    // 편의시설 코드 - 모두 갖춘 객실만 조회 (선택사항, 예: amenities=wifi,parking)
+    private List<String> amenities;
 }
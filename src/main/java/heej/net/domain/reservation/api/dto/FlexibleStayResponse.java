@@ -0,0 +1,25 @@
+package heej.net.domain.reservation.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlexibleStayResponse {
+
+    private Long roomId;
+    private String roomName;
+    private String roomType;
+    private Long accommodationId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer nights;
+    private BigDecimal totalPrice;
+}
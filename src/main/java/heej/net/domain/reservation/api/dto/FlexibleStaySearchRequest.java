@@ -0,0 +1,50 @@
+package heej.net.domain.reservation.api.dto;
+
+import heej.net.domain.reservation.model.StayWindowSort;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlexibleStaySearchRequest {
+
+    // 숙소 ID (선택사항 - null이면 모든 숙소)
+    private Long accommodationId;
+
+    // 특정 객실만 검색 (선택사항)
+    private Long roomId;
+
+    @Min(value = 1, message = "투숙 인원은 최소 1명 이상이어야 합니다")
+    private Integer guestCount;
+
+    // 가장 이른 체크인 날짜
+    @NotNull(message = "검색 시작일은 필수입니다")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate;
+
+    // 가장 늦은 체크아웃 날짜
+    @NotNull(message = "검색 종료일은 필수입니다")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate toDate;
+
+    @NotNull(message = "숙박일수는 필수입니다")
+    @Min(value = 1, message = "숙박일수는 최소 1박 이상이어야 합니다")
+    @Max(value = 30, message = "최대 30일까지만 예약 가능합니다")
+    private Integer nights;
+
+    private StayWindowSort sort = StayWindowSort.CHEAPEST;
+
+    @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다")
+    @Max(value = 50, message = "조회 개수는 50 이하여야 합니다")
+    private int limit = 10;
+}
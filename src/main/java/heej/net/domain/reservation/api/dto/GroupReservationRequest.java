@@ -0,0 +1,21 @@
+package heej.net.domain.reservation.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupReservationRequest {
+
+    @NotEmpty(message = "예약할 객실 목록은 필수입니다.")
+    @Size(max = 20, message = "한 번에 최대 20개 객실까지 예약할 수 있습니다.")
+    @Valid
+    private List<CreateReservationRequest> items;
+}
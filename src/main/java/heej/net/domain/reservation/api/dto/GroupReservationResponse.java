@@ -0,0 +1,18 @@
+package heej.net.domain.reservation.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupReservationResponse {
+    private List<ReservationResponse> reservations;
+    private BigDecimal totalPrice;   // 전체 객실 합계 금액
+}
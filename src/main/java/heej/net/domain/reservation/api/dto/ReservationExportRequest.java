@@ -0,0 +1,34 @@
+package heej.net.domain.reservation.api.dto;
+
+import heej.net.domain.reservation.model.ExportFormat;
+import heej.net.domain.reservation.model.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationExportRequest {
+
+    // 회원 ID (관리자만 지정 가능, 일반 회원은 항상 본인으로 고정)
+    private Long memberId;
+
+    private Long accommodationId;
+
+    private ReservationStatus status;
+
+    // 체크인 날짜 기준 조회 기간 (선택사항)
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate toDate;
+
+    private ExportFormat format = ExportFormat.CSV;
+}
@@ -0,0 +1,44 @@
+package heej.net.domain.reservation.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 객실 달력 - 같은 상태가 이어지는 날짜를 하나의 구간으로 묶어 반환 (run-length)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomCalendarResponse {
+    private Long roomId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Range> ranges;
+
+    public enum DayStatus {
+        FREE,       // 예약 가능
+        OCCUPIED,   // 예약됨 (체크인 ~ 체크아웃 당일)
+        HOLIDAY     // 공휴일 (예약 불가)
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Range {
+        private LocalDate start;      // 시작일 (포함)
+        private LocalDate end;        // 종료일 (포함)
+        private DayStatus status;
+        private String holidayName;   // HOLIDAY 인 경우
+
+        public void extendTo(LocalDate date) {
+            this.end = date;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package heej.net.domain.reservation.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 생성/취소로 객실의 점유 기간이 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 가용성 인덱스, 캐시 등이 이 이벤트를 받아 갱신합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RoomAvailabilityChangedEvent {
+
+    private final Long roomId;
+    private final LocalDate checkInDate;
+    private final LocalDate checkOutDate;
+    private final boolean occupied;   // true: 점유(예약 생성), false: 해제(예약 취소)
+
+    public static RoomAvailabilityChangedEvent occupied(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        return new RoomAvailabilityChangedEvent(roomId, checkInDate, checkOutDate, true);
+    }
+
+    public static RoomAvailabilityChangedEvent released(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        return new RoomAvailabilityChangedEvent(roomId, checkInDate, checkOutDate, false);
+    }
+}
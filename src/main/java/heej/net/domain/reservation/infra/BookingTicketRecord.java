@@ -0,0 +1,28 @@
+package heej.net.domain.reservation.infra;
+
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.model.BookingTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 대기열 티켓의 조회용 상태 - 티켓 저장소에 저장되어 어느 인스턴스에서든 조회할 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingTicketRecord {
+
+    private String ticketId;
+    private Long memberId;
+    private BookingTicketStatus status;
+    private ReservationResponse reservation; // SUCCEEDED 인 경우
+    private String message;                  // FAILED 인 경우 실패 사유
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,21 @@
+package heej.net.domain.reservation.infra;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 예약 대기열 티켓 저장소 - 기본은 메모리, redis.enabled=true 면 Redis
+ *
+ * 대기열과 워커는 인스턴스마다 따로 돌지만, 티켓을 Redis 에 두면 등록한 인스턴스가 아니어도 결과를 조회할 수 있습니다.
+ */
+public interface BookingTicketStore {
+
+    /**
+     * 티켓 상태를 저장(덮어쓰기)합니다. ttl 이 지나면 조회되지 않습니다.
+     */
+    void save(BookingTicketRecord record, Duration ttl);
+
+    Optional<BookingTicketRecord> find(String ticketId);
+
+    void remove(String ticketId);
+}
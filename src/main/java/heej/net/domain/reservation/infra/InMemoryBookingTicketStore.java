@@ -0,0 +1,63 @@
+package heej.net.domain.reservation.infra;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 티켓 저장소 (단일 인스턴스용)
+ *
+ * 여러 인스턴스로 운영하면 티켓을 등록한 인스턴스에서만 조회되므로 redis.enabled=true 로 Redis 저장소를 사용해야 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "redis.enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryBookingTicketStore implements BookingTicketStore {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(BookingTicketRecord record, Duration ttl) {
+        entries.put(record.getTicketId(), new Entry(record, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public Optional<BookingTicketRecord> find(String ticketId) {
+        Entry entry = entries.get(ticketId);
+        if (entry == null || entry.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.record);
+    }
+
+    @Override
+    public void remove(String ticketId) {
+        entries.remove(ticketId);
+    }
+
+    /**
+     * 만료된 티켓 정리
+     */
+    @Scheduled(fixedDelayString = "${reservation.booking-queue.ticket-ttl-ms:600000}")
+    public void evictExpired() {
+        entries.values().removeIf(Entry::isExpired);
+    }
+
+    private static final class Entry {
+        private final BookingTicketRecord record;
+        private final long expiresAtMillis;
+
+        private Entry(BookingTicketRecord record, long expiresAtMillis) {
+            this.record = record;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package heej.net.domain.reservation.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 티켓 저장소 (여러 인스턴스 간 공유)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "redis.enabled", havingValue = "true", matchIfMissing = false)
+public class RedisBookingTicketStore implements BookingTicketStore {
+
+    private static final String KEY_PREFIX = "BOOKING_TICKET:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void save(BookingTicketRecord record, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + record.getTicketId(), write(record),
+                ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<BookingTicketRecord> find(String ticketId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + ticketId);
+        return Optional.ofNullable(value).map(this::read);
+    }
+
+    @Override
+    public void remove(String ticketId) {
+        redisTemplate.delete(KEY_PREFIX + ticketId);
+    }
+
+    private String write(BookingTicketRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 요청 정보를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private BookingTicketRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, BookingTicketRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("예약 요청 정보를 읽을 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package heej.net.domain.reservation.infra;
+
+import heej.net.common.pagination.Cursor;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationArchiveInfra {
+
+    List<ReservationResponse> findResponsesByMemberId(Long memberId);
+
+    // (createdAt, id) 내림차순 키셋 페이지 - cursor 가 null 이면 첫 페이지
+    List<ReservationResponse> findResponsePageByMemberId(Long memberId, Cursor cursor, int limit);
+
+    Optional<ReservationResponse> findResponseByIdAndMemberId(Long reservationId, Long memberId);
+
+    /**
+     * 생성 후 threshold 가 지난 종료 상태 예약을 최대 limit 건 reservations_archive 로 옮기고 옮긴 건수를 반환합니다.
+     * (보관 테이블 복사 → 점유일 삭제 → 원본 삭제, 호출 측 트랜잭션 안에서 실행)
+     */
+    int archiveTerminalReservations(LocalDateTime threshold, int limit);
+}
@@ -0,0 +1,52 @@
+package heej.net.domain.reservation.infra;
+
+import heej.net.common.pagination.Cursor;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationArchiveInfraImpl implements ReservationArchiveInfra {
+
+    private final ReservationArchiveJpaRepository reservationArchiveJpaRepository;
+    private final RoomNightJpaRepository roomNightJpaRepository;
+
+    @Override
+    public List<ReservationResponse> findResponsesByMemberId(Long memberId) {
+        return reservationArchiveJpaRepository.findResponsesByMemberId(memberId);
+    }
+
+    @Override
+    public List<ReservationResponse> findResponsePageByMemberId(Long memberId, Cursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return reservationArchiveJpaRepository.findResponsePageByMemberId(memberId, pageRequest);
+        }
+        return reservationArchiveJpaRepository.findResponsePageByMemberIdAfter(
+                memberId, cursor.getCreatedAt(), cursor.getId(), pageRequest);
+    }
+
+    @Override
+    public Optional<ReservationResponse> findResponseByIdAndMemberId(Long reservationId, Long memberId) {
+        return reservationArchiveJpaRepository.findResponseByIdAndMemberId(reservationId, memberId);
+    }
+
+    @Override
+    public int archiveTerminalReservations(LocalDateTime threshold, int limit) {
+        List<Long> ids = reservationArchiveJpaRepository.findArchivableIdsForUpdate(threshold, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        reservationArchiveJpaRepository.copyFromReservations(ids, LocalDateTime.now());
+        // 완료된 예약의 지난 점유일 행도 함께 정리
+        roomNightJpaRepository.deleteByReservationIdIn(ids);
+        reservationArchiveJpaRepository.deleteFromReservations(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,77 @@
+package heej.net.domain.reservation.infra;
+
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.model.ReservationArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationArchiveJpaRepository extends JpaRepository<ReservationArchive, Long> {
+
+    // 조회 응답용 프로젝션 - ReservationJpaRepository.RESPONSE_PROJECTION 과 같은 모양
+    String RESPONSE_PROJECTION =
+            "SELECT new heej.net.domain.reservation.api.dto.ReservationResponse(" +
+            "r.id, m.id, m.name, rm.id, rm.name, a.name, r.checkInDate, r.checkOutDate, r.guestCount, " +
+            "r.totalPrice, r.status, r.specialRequests, r.cancellationReason, r.createdAt, r.updatedAt) " +
+            "FROM ReservationArchive r JOIN r.member m JOIN r.room rm JOIN rm.accommodation a ";
+
+    @Query(RESPONSE_PROJECTION +
+           "WHERE m.id = :memberId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationResponse> findResponsesByMemberId(@Param("memberId") Long memberId);
+
+    @Query(RESPONSE_PROJECTION +
+           "WHERE m.id = :memberId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationResponse> findResponsePageByMemberId(
+            @Param("memberId") Long memberId,
+            Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION +
+           "WHERE m.id = :memberId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationResponse> findResponsePageByMemberIdAfter(
+            @Param("memberId") Long memberId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION +
+           "WHERE r.id = :reservationId AND m.id = :memberId")
+    Optional<ReservationResponse> findResponseByIdAndMemberId(
+            @Param("reservationId") Long reservationId,
+            @Param("memberId") Long memberId);
+
+    // 보관 대상 - 생성된 지 threshold 가 지난 종료 상태 예약 (idx_reservation_status_created, 잠긴 행은 건너뜀)
+    @Query(value = "SELECT id FROM reservations " +
+                   "WHERE status IN ('CANCELLED', 'COMPLETED', 'NO_SHOW') AND created_at < :threshold " +
+                   "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> findArchivableIdsForUpdate(
+            @Param("threshold") LocalDateTime threshold,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO reservations_archive " +
+                   "(id, member_id, room_id, check_in_date, check_out_date, guest_count, total_price, status, " +
+                   "special_requests, cancellation_reason, created_at, updated_at, archived_at) " +
+                   "SELECT id, member_id, room_id, check_in_date, check_out_date, guest_count, total_price, status, " +
+                   "special_requests, cancellation_reason, created_at, updated_at, :archivedAt " +
+                   "FROM reservations WHERE id IN :ids",
+           nativeQuery = true)
+    int copyFromReservations(
+            @Param("ids") Collection<Long> ids,
+            @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM reservations WHERE id IN :ids", nativeQuery = true)
+    int deleteFromReservations(@Param("ids") Collection<Long> ids);
+}
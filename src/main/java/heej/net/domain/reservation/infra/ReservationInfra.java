@@ -1,19 +1,41 @@
 package heej.net.domain.reservation.infra;
 
+import heej.net.common.pagination.Cursor;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
 import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.ReservationStatus;
+import heej.net.domain.reservation.model.RoomNight;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ReservationInfra {
 
     Reservation save(Reservation reservation);
 
+    List<Reservation> saveAll(List<Reservation> reservations);
+
     Optional<Reservation> findById(Long id);
 
     List<Reservation> findByMemberId(Long memberId);
 
+    // 조회 응답 프로젝션 (회원/객실/숙소 조인, 단일 쿼리)
+    List<ReservationResponse> findResponsesByMemberId(Long memberId);
+
+    // (createdAt, id) 내림차순 키셋 페이지 - cursor 가 null 이면 첫 페이지
+    List<ReservationResponse> findResponsePageByMemberId(Long memberId, Cursor cursor, int limit);
+
+    // 조건에 맞는 예약을 전방향 스트림으로 조회 (트랜잭션 안에서 소비하고 반드시 close)
+    Stream<ReservationResponse> streamResponses(Long memberId, Long accommodationId, ReservationStatus status,
+                                                LocalDate fromDate, LocalDate toDate);
+
+    Optional<ReservationResponse> findResponseByIdAndMemberId(Long reservationId, Long memberId);
+
     List<Reservation> findByRoomId(Long roomId);
 
     List<Reservation> findOverlappingReservations(Long roomId, LocalDate checkInDate, LocalDate checkOutDate);
@@ -23,5 +45,51 @@ public interface ReservationInfra {
     boolean hasOverlappingReservation(Long roomId, LocalDate checkInDate, LocalDate checkOutDate);
 
     boolean hasOverlappingReservationWithLock(Long roomId, LocalDate checkInDate, LocalDate checkOutDate);
-}
 
+    // 주어진 객실 중 해당 기간에 겹치는 예약이 있는 객실 ID 목록
+    Set<Long> findConflictingRoomIds(Collection<Long> roomIds, LocalDate checkInDate, LocalDate checkOutDate);
+
+    // DB 기준 중복 예약 여부 (가용성 인덱스를 거치지 않음)
+    boolean hasOverlappingReservationInDatabase(Long roomId, LocalDate checkInDate, LocalDate checkOutDate);
+
+    List<ReservationStay> findActiveStaysFrom(LocalDate fromDate);
+
+    // 기간에 걸친 객실의 활성 예약 (체크인 순)
+    List<ReservationStay> findActiveStaysByRoomId(Long roomId, LocalDate from, LocalDate to);
+
+    // 기간에 걸친 여러 객실의 활성 예약 (단일 쿼리)
+    List<ReservationStay> findActiveStaysByRoomIds(Collection<Long> roomIds, LocalDate from, LocalDate to);
+
+    // 예약 기간의 객실 점유일을 등록 (이미 점유된 날짜가 있으면 IllegalArgumentException)
+    void occupyRoomNights(Reservation reservation);
+
+    // 여러 예약의 점유일을 한 번의 배치 INSERT로 등록
+    void occupyRoomNights(List<Reservation> reservations);
+
+    // 여러 객실의 기간 내 점유일을 잠금과 함께 한 번에 조회
+    List<RoomNight> findOccupiedNightsWithLock(Collection<Long> roomIds, LocalDate from, LocalDate to);
+
+    void releaseRoomNights(Long reservationId);
+
+    // 점유일이 없는 활성 예약의 점유일을 채우고 추가된 점유일 수를 반환 (여러 번 실행해도 같은 결과)
+    int backfillRoomNights();
+
+    // 점유일이 하나도 없는 활성 예약 ID
+    List<Long> findActiveReservationIdsWithoutRoomNights();
+
+    void releaseRoomNights(Collection<Long> reservationIds);
+
+    // 생성 후 threshold 가 지난 PENDING 예약을 최대 limit 건 잠금 조회 (잠긴 행은 건너뜀)
+    List<ReservationLifecycleTarget> findStalePendingForUpdate(LocalDateTime threshold, int limit);
+
+    // 본인의 활성 예약이면 취소하고 true, 조건이 맞지 않으면(없음/타인/종료 상태) false
+    boolean cancelIfActive(Long reservationId, Long memberId, String reason);
+
+    boolean existsById(Long reservationId);
+
+    int expirePending(Collection<Long> reservationIds, String reason);
+
+    // 체크아웃이 지난 활성(PENDING/CONFIRMED) 예약을 최대 limit 건 COMPLETED 로 변경하고 변경 건수를 반환
+    // 확정 절차 없이 PENDING 으로 남은 예약도 숙박이 끝났으면 활성 상태에서 내보냄
+    int completeCheckedOut(LocalDate today, int limit);
+}
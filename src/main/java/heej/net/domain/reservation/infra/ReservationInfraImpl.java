@@ -1,24 +1,47 @@
 package heej.net.domain.reservation.infra;
 
+import heej.net.common.pagination.Cursor;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
 import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.ReservationStatus;
+import heej.net.domain.reservation.model.RoomNight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class ReservationInfraImpl implements ReservationInfra {
 
+    // IN 절 파라미터 개수 제한
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final ReservationJpaRepository reservationJpaRepository;
+    private final RoomNightJpaRepository roomNightJpaRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
 
     @Override
     public Reservation save(Reservation reservation) {
         return reservationJpaRepository.save(reservation);
     }
 
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        return reservationJpaRepository.saveAll(reservations);
+    }
+
     @Override
     public Optional<Reservation> findById(Long id) {
         return reservationJpaRepository.findById(id);
@@ -29,6 +52,32 @@ public class ReservationInfraImpl implements ReservationInfra {
         return reservationJpaRepository.findByMemberId(memberId);
     }
 
+    @Override
+    public List<ReservationResponse> findResponsesByMemberId(Long memberId) {
+        return reservationJpaRepository.findResponsesByMemberId(memberId);
+    }
+
+    @Override
+    public List<ReservationResponse> findResponsePageByMemberId(Long memberId, Cursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return reservationJpaRepository.findResponsePageByMemberId(memberId, pageRequest);
+        }
+        return reservationJpaRepository.findResponsePageByMemberIdAfter(
+                memberId, cursor.getCreatedAt(), cursor.getId(), pageRequest);
+    }
+
+    @Override
+    public Stream<ReservationResponse> streamResponses(Long memberId, Long accommodationId, ReservationStatus status,
+                                                       LocalDate fromDate, LocalDate toDate) {
+        return reservationJpaRepository.streamResponses(memberId, accommodationId, status, fromDate, toDate);
+    }
+
+    @Override
+    public Optional<ReservationResponse> findResponseByIdAndMemberId(Long reservationId, Long memberId) {
+        return reservationJpaRepository.findResponseByIdAndMemberId(reservationId, memberId);
+    }
+
     @Override
     public List<Reservation> findByRoomId(Long roomId) {
         return reservationJpaRepository.findByRoomId(roomId);
@@ -36,24 +85,151 @@ public class ReservationInfraImpl implements ReservationInfra {
 
     @Override
     public List<Reservation> findOverlappingReservations(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
-        return reservationJpaRepository.findOverlappingReservations(roomId, checkInDate, checkOutDate);
+        return roomNightJpaRepository.findReservationsByRoomIdAndStayDateBetween(roomId, checkInDate, checkOutDate);
     }
 
     @Override
     public List<Reservation> findOverlappingReservationsWithLock(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
-        return reservationJpaRepository.findOverlappingReservationsWithLock(roomId, checkInDate, checkOutDate);
+        return roomNightJpaRepository.findByRoomIdAndStayDateBetweenWithLock(roomId, checkInDate, checkOutDate).stream()
+                .map(RoomNight::getReservation)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean hasOverlappingReservation(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
-        List<Reservation> overlapping = findOverlappingReservations(roomId, checkInDate, checkOutDate);
-        return !overlapping.isEmpty();
+        // 인덱스가 답할 수 있으면 SQL 없이 판단
+        if (roomAvailabilityIndex.covers(checkInDate, checkOutDate)) {
+            return roomAvailabilityIndex.hasOccupancy(roomId, checkInDate, checkOutDate);
+        }
+        return hasOverlappingReservationInDatabase(roomId, checkInDate, checkOutDate);
+    }
+
+    @Override
+    public Set<Long> findConflictingRoomIds(Collection<Long> roomIds, LocalDate checkInDate, LocalDate checkOutDate) {
+        Set<Long> conflicting = new HashSet<>();
+        if (roomIds.isEmpty()) {
+            return conflicting;
+        }
+
+        if (roomAvailabilityIndex.covers(checkInDate, checkOutDate)) {
+            for (Long roomId : roomIds) {
+                if (roomAvailabilityIndex.hasOccupancy(roomId, checkInDate, checkOutDate)) {
+                    conflicting.add(roomId);
+                }
+            }
+            return conflicting;
+        }
+
+        List<Long> ids = new ArrayList<>(roomIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            conflicting.addAll(roomNightJpaRepository.findOccupiedRoomIds(chunk, checkInDate, checkOutDate));
+        }
+        return conflicting;
+    }
+
+    @Override
+    public boolean hasOverlappingReservationInDatabase(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        return roomNightJpaRepository.existsByRoomIdAndStayDateBetween(roomId, checkInDate, checkOutDate);
     }
 
     @Override
     public boolean hasOverlappingReservationWithLock(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
-        List<Reservation> overlapping = findOverlappingReservationsWithLock(roomId, checkInDate, checkOutDate);
-        return !overlapping.isEmpty();
+        return !roomNightJpaRepository.findByRoomIdAndStayDateBetweenWithLock(roomId, checkInDate, checkOutDate).isEmpty();
+    }
+
+    @Override
+    public List<ReservationStay> findActiveStaysFrom(LocalDate fromDate) {
+        return reservationJpaRepository.findActiveStaysFrom(fromDate);
     }
-}
 
+    @Override
+    public List<ReservationStay> findActiveStaysByRoomId(Long roomId, LocalDate from, LocalDate to) {
+        return reservationJpaRepository.findActiveStaysByRoomId(roomId, from, to);
+    }
+
+    @Override
+    public List<ReservationStay> findActiveStaysByRoomIds(Collection<Long> roomIds, LocalDate from, LocalDate to) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        return reservationJpaRepository.findActiveStaysByRoomIds(roomIds, from, to);
+    }
+
+    @Override
+    public void occupyRoomNights(Reservation reservation) {
+        occupyRoomNights(List.of(reservation));
+    }
+
+    @Override
+    public void occupyRoomNights(List<Reservation> reservations) {
+        List<RoomNight> nights = new ArrayList<>();
+        for (Reservation reservation : reservations) {
+            for (LocalDate date = reservation.getCheckInDate();
+                 !date.isAfter(reservation.getCheckOutDate());
+                 date = date.plusDays(1)) {
+                nights.add(RoomNight.of(reservation, date));
+            }
+        }
+
+        // 배치 INSERT - (room_id, stay_date) 중복이면 이미 점유된 날짜
+        try {
+            roomNightJpaRepository.saveAllAndFlush(nights);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("해당 기간에 이미 예약이 있습니다.");
+        }
+    }
+
+    @Override
+    public List<RoomNight> findOccupiedNightsWithLock(Collection<Long> roomIds, LocalDate from, LocalDate to) {
+        return roomNightJpaRepository.findByRoomIdInAndStayDateBetweenWithLock(roomIds, from, to);
+    }
+
+    @Override
+    public void releaseRoomNights(Long reservationId) {
+        roomNightJpaRepository.deleteByReservationId(reservationId);
+    }
+
+    @Override
+    public int backfillRoomNights() {
+        return roomNightJpaRepository.backfillActiveReservations();
+    }
+
+    @Override
+    public List<Long> findActiveReservationIdsWithoutRoomNights() {
+        return roomNightJpaRepository.findActiveReservationIdsWithoutNights();
+    }
+
+    @Override
+    public void releaseRoomNights(Collection<Long> reservationIds) {
+        roomNightJpaRepository.deleteByReservationIdIn(reservationIds);
+    }
+
+    @Override
+    public List<ReservationLifecycleTarget> findStalePendingForUpdate(LocalDateTime threshold, int limit) {
+        return reservationJpaRepository.findStalePendingForUpdate(threshold, limit);
+    }
+
+    @Override
+    public boolean cancelIfActive(Long reservationId, Long memberId, String reason) {
+        return reservationJpaRepository.cancelIfActive(reservationId, memberId, ReservationStatus.CANCELLED,
+                List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED), reason, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public boolean existsById(Long reservationId) {
+        return reservationJpaRepository.existsById(reservationId);
+    }
+
+    @Override
+    public int expirePending(Collection<Long> reservationIds, String reason) {
+        return reservationJpaRepository.updateCancelledByIds(
+                reservationIds, ReservationStatus.CANCELLED, reason, LocalDateTime.now());
+    }
+
+    @Override
+    public int completeCheckedOut(LocalDate today, int limit) {
+        return reservationJpaRepository.completeCheckedOut(today, LocalDateTime.now(), limit);
+    }
+}
@@ -1,15 +1,23 @@
 package heej.net.domain.reservation.infra;
 
+import heej.net.domain.reservation.api.dto.ReservationResponse;
 import heej.net.domain.reservation.model.Reservation;
 import heej.net.domain.reservation.model.ReservationStatus;
-import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationJpaRepository extends JpaRepository<Reservation, Long> {
 
@@ -17,26 +25,132 @@ public interface ReservationJpaRepository extends JpaRepository<Reservation, Lon
 
     List<Reservation> findByRoomId(Long roomId);
 
-    @Query("SELECT r FROM Reservation r WHERE r.room.id = :roomId " +
-           "AND r.status IN ('PENDING', 'CONFIRMED') " +
-           "AND ((r.checkInDate <= :checkOutDate AND r.checkOutDate >= :checkInDate))")
-    List<Reservation> findOverlappingReservations(
-            @Param("roomId") Long roomId,
-            @Param("checkInDate") LocalDate checkInDate,
-            @Param("checkOutDate") LocalDate checkOutDate);
+    // 조회 응답용 프로젝션 - 회원/객실/숙소를 조인하여 한 번의 쿼리로 응답 필드만 조회
+    String RESPONSE_PROJECTION =
+            "SELECT new heej.net.domain.reservation.api.dto.ReservationResponse(" +
+            "r.id, m.id, m.name, rm.id, rm.name, a.name, r.checkInDate, r.checkOutDate, r.guestCount, " +
+            "r.totalPrice, r.status, r.specialRequests, r.cancellationReason, r.createdAt, r.updatedAt) " +
+            "FROM Reservation r JOIN r.member m JOIN r.room rm JOIN rm.accommodation a ";
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT r FROM Reservation r WHERE r.room.id = :roomId " +
-           "AND r.status IN ('PENDING', 'CONFIRMED') " +
-           "AND ((r.checkInDate <= :checkOutDate AND r.checkOutDate >= :checkInDate))")
-    List<Reservation> findOverlappingReservationsWithLock(
-            @Param("roomId") Long roomId,
-            @Param("checkInDate") LocalDate checkInDate,
-            @Param("checkOutDate") LocalDate checkOutDate);
+    @Query(RESPONSE_PROJECTION +
+           "WHERE m.id = :memberId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationResponse> findResponsesByMemberId(@Param("memberId") Long memberId);
+
+    // 키셋 페이지네이션 - 첫 페이지 (pageable 은 조회 건수 제한에만 사용)
+    @Query(RESPONSE_PROJECTION +
+           "WHERE m.id = :memberId " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationResponse> findResponsePageByMemberId(
+            @Param("memberId") Long memberId,
+            Pageable pageable);
+
+    // 키셋 페이지네이션 - 커서 (createdAt, id) 이후 페이지, idx_reservation_member_created 인덱스 사용
+    @Query(RESPONSE_PROJECTION +
+           "WHERE m.id = :memberId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationResponse> findResponsePageByMemberIdAfter(
+            @Param("memberId") Long memberId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // 내보내기용 전방향 스트림 - Integer.MIN_VALUE 페치 크기로 MySQL 드라이버가 행을 하나씩 전달 (전체를 메모리에 적재하지 않음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(RESPONSE_PROJECTION +
+           "WHERE (:memberId IS NULL OR m.id = :memberId) " +
+           "AND (:accommodationId IS NULL OR a.id = :accommodationId) " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "AND (:fromDate IS NULL OR r.checkInDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR r.checkInDate <= :toDate) " +
+           "ORDER BY r.id")
+    Stream<ReservationResponse> streamResponses(
+            @Param("memberId") Long memberId,
+            @Param("accommodationId") Long accommodationId,
+            @Param("status") ReservationStatus status,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    // 본인 예약 여부를 조회 조건에 포함
+    @Query(RESPONSE_PROJECTION +
+           "WHERE r.id = :reservationId AND m.id = :memberId")
+    Optional<ReservationResponse> findResponseByIdAndMemberId(
+            @Param("reservationId") Long reservationId,
+            @Param("memberId") Long memberId);
 
     @Query("SELECT r FROM Reservation r WHERE r.member.id = :memberId AND r.status = :status")
     List<Reservation> findByMemberIdAndStatus(
             @Param("memberId") Long memberId,
             @Param("status") ReservationStatus status);
-}
 
+    // 가용성 인덱스 적재용 - 기준일 이후에 걸쳐있는 활성 예약의 점유 기간만 조회
+    @Query("SELECT new heej.net.domain.reservation.infra.ReservationStay(r.room.id, r.checkInDate, r.checkOutDate) " +
+           "FROM Reservation r WHERE r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkOutDate >= :fromDate")
+    List<ReservationStay> findActiveStaysFrom(@Param("fromDate") LocalDate fromDate);
+
+    // 객실 달력용 - 기간에 걸친 활성 예약을 체크인 순으로 조회
+    @Query("SELECT new heej.net.domain.reservation.infra.ReservationStay(r.room.id, r.checkInDate, r.checkOutDate) " +
+           "FROM Reservation r WHERE r.room.id = :roomId " +
+           "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate <= :to AND r.checkOutDate >= :from " +
+           "ORDER BY r.checkInDate")
+    List<ReservationStay> findActiveStaysByRoomId(
+            @Param("roomId") Long roomId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // 유연 날짜 검색용 - 여러 객실의 기간에 걸친 활성 예약을 한 번에 조회
+    @Query("SELECT new heej.net.domain.reservation.infra.ReservationStay(r.room.id, r.checkInDate, r.checkOutDate) " +
+           "FROM Reservation r WHERE r.room.id IN :roomIds " +
+           "AND r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND r.checkInDate <= :to AND r.checkOutDate >= :from")
+    List<ReservationStay> findActiveStaysByRoomIds(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // 만료 대상 PENDING 예약을 잠그며 조회 - 다른 트랜잭션이 잡고 있는 행은 건너뜀 (idx_reservation_status_created)
+    @Query(value = "SELECT id, room_id AS roomId, check_in_date AS checkInDate, check_out_date AS checkOutDate " +
+                   "FROM reservations WHERE status = 'PENDING' AND created_at < :threshold " +
+                   "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<ReservationLifecycleTarget> findStalePendingForUpdate(
+            @Param("threshold") LocalDateTime threshold,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :status, r.cancellationReason = :reason, r.updatedAt = :now " +
+           "WHERE r.id IN :ids")
+    int updateCancelledByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") ReservationStatus status,
+            @Param("reason") String reason,
+            @Param("now") LocalDateTime now);
+
+    // 본인의 활성(PENDING/CONFIRMED) 예약일 때만 취소 - 변경된 행 수(0 또는 1) 반환
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :cancelled, r.cancellationReason = :reason, r.updatedAt = :now " +
+           "WHERE r.id = :reservationId AND r.member.id = :memberId AND r.status IN :activeStatuses")
+    int cancelIfActive(
+            @Param("reservationId") Long reservationId,
+            @Param("memberId") Long memberId,
+            @Param("cancelled") ReservationStatus cancelled,
+            @Param("activeStatuses") Collection<ReservationStatus> activeStatuses,
+            @Param("reason") String reason,
+            @Param("now") LocalDateTime now);
+
+    // 체크아웃이 지난 활성(PENDING/CONFIRMED) 예약을 최대 limit 건 완료 처리 (idx_reservation_status_checkout)
+    @Modifying
+    @Query(value = "UPDATE reservations SET status = 'COMPLETED', updated_at = :now " +
+                   "WHERE status IN ('PENDING', 'CONFIRMED') AND check_out_date < :today LIMIT :limit",
+           nativeQuery = true)
+    int completeCheckedOut(
+            @Param("today") LocalDate today,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+}
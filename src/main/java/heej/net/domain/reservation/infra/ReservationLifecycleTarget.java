@@ -0,0 +1,17 @@
+package heej.net.domain.reservation.infra;
+
+import java.time.LocalDate;
+
+/**
+ * 상태 일괄 변경(만료/완료) 대상 예약의 점유 정보 (네이티브 쿼리 프로젝션)
+ */
+public interface ReservationLifecycleTarget {
+
+    Long getId();
+
+    Long getRoomId();
+
+    LocalDate getCheckInDate();
+
+    LocalDate getCheckOutDate();
+}
@@ -0,0 +1,17 @@
+package heej.net.domain.reservation.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 객실 점유 기간만 담는 조회 전용 프로젝션 (Reservation 엔티티 전체를 로딩하지 않기 위함)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationStay {
+    private Long roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+}
@@ -0,0 +1,171 @@
+package heej.net.domain.reservation.infra;
+
+import heej.net.common.index.SnapshotIndex;
+import heej.net.domain.reservation.event.RoomAvailabilityChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 객실별 점유일 비트맵 인덱스 (메모리)
+ *
+ * - 객실마다 BitSet 하나를 두고, bit 위치는 (epochDay - originEpochDay) 입니다.
+ * - 기존 중복 예약 쿼리(checkInDate <= :checkOutDate AND checkOutDate >= :checkInDate)와
+ *   결과가 같도록 체크인~체크아웃 당일까지 점유로 표시합니다.
+ * - 갱신은 BitSet 복사 후 교체(copy-on-write)로 처리해 조회는 락 없이 동작합니다.
+ *   (쓰기와 교체는 SnapshotIndex 의 쓰기 락으로 단독 실행)
+ * - 비활성화되었거나 아직 로딩되지 않았거나 조회 범위가 인덱스 범위를 벗어나면
+ *   호출 측이 DB 조회로 대체(fallback)해야 합니다.
+ */
+@Component
+public class RoomAvailabilityIndex extends SnapshotIndex<RoomAvailabilityIndex.Snapshot> {
+
+    public RoomAvailabilityIndex(
+            @Value("${reservation.availability-index.enabled:true}") boolean enabled) {
+        super("Room availability index", enabled);
+    }
+
+    /**
+     * 조회 범위를 인덱스가 답할 수 있는지 확인합니다.
+     */
+    public boolean covers(LocalDate checkInDate, LocalDate checkOutDate) {
+        Snapshot current = current();
+        return current != null
+                && checkInDate.toEpochDay() >= current.originEpochDay
+                && !checkOutDate.isBefore(checkInDate);
+    }
+
+    /**
+     * 해당 기간에 점유된 날이 하나라도 있으면 true (covers()가 true일 때만 호출)
+     */
+    public boolean hasOccupancy(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        Snapshot current = current();
+        BitSet bits = current.rooms.get(roomId);
+        if (bits == null) {
+            return false;
+        }
+        int from = current.offset(checkInDate);
+        int to = current.offset(checkOutDate);
+        int next = bits.nextSetBit(from);
+        return next >= 0 && next <= to;
+    }
+
+    /**
+     * 예약 생성/취소가 커밋된 이후에만 인덱스에 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트도 즉시 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(RoomAvailabilityChangedEvent event) {
+        if (event.isOccupied()) {
+            occupy(event.getRoomId(), event.getCheckInDate(), event.getCheckOutDate());
+        } else {
+            release(event.getRoomId(), event.getCheckInDate(), event.getCheckOutDate());
+        }
+    }
+
+    public void occupy(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        update(roomId, checkInDate, checkOutDate, true);
+    }
+
+    public void release(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        update(roomId, checkInDate, checkOutDate, false);
+    }
+
+    private void update(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, boolean occupied) {
+        update(current -> {
+            // 인덱스 시작일 이전 구간은 보관하지 않음
+            int from = Math.max(current.offset(checkInDate), 0);
+            int to = current.offset(checkOutDate);
+            if (to < from) {
+                return;
+            }
+
+            current.rooms.compute(roomId, (id, bits) -> {
+                BitSet copy = bits == null ? new BitSet() : (BitSet) bits.clone();
+                copy.set(from, to + 1, occupied);
+                return copy.isEmpty() ? null : copy;
+            });
+        });
+    }
+
+    /**
+     * DB에서 읽은 활성 예약 목록으로 인덱스를 새로 만듭니다.
+     */
+    public Snapshot build(LocalDate origin, List<ReservationStay> stays) {
+        Snapshot built = new Snapshot(origin.toEpochDay());
+        for (ReservationStay stay : stays) {
+            int from = Math.max(built.offset(stay.getCheckInDate()), 0);
+            int to = built.offset(stay.getCheckOutDate());
+            if (to < from) {
+                continue;
+            }
+            built.rooms.computeIfAbsent(stay.getRoomId(), id -> new BitSet()).set(from, to + 1);
+        }
+        return built;
+    }
+
+    @Override
+    protected String describe(Snapshot built) {
+        return "origin=" + LocalDate.ofEpochDay(built.originEpochDay) + ", rooms=" + built.rooms.size();
+    }
+
+    /**
+     * 현재 인덱스와 DB 기준 스냅샷을 비교해 불일치한 객실 ID 목록을 반환합니다.
+     */
+    public Set<Long> diff(Snapshot expected) {
+        Snapshot current = current();
+        Set<Long> mismatched = new HashSet<>();
+        if (current == null) {
+            mismatched.addAll(expected.rooms.keySet());
+            return mismatched;
+        }
+
+        Map<Long, BitSet> actual = new HashMap<>(current.rooms);
+        long shift = expected.originEpochDay - current.originEpochDay;
+        for (Map.Entry<Long, BitSet> entry : expected.rooms.entrySet()) {
+            BitSet actualBits = actual.remove(entry.getKey());
+            if (!entry.getValue().equals(rebase(actualBits, shift))) {
+                mismatched.add(entry.getKey());
+            }
+        }
+        // DB에는 없는데 인덱스에만 남아있는 점유
+        for (Map.Entry<Long, BitSet> entry : actual.entrySet()) {
+            if (!rebase(entry.getValue(), shift).isEmpty()) {
+                mismatched.add(entry.getKey());
+            }
+        }
+        return mismatched;
+    }
+
+    private BitSet rebase(BitSet bits, long shift) {
+        if (bits == null) {
+            return new BitSet();
+        }
+        if (shift <= 0) {
+            return bits;
+        }
+        return bits.get((int) shift, Math.max(bits.length(), (int) shift));
+    }
+
+    public static final class Snapshot {
+        private final long originEpochDay;
+        private final Map<Long, BitSet> rooms = new ConcurrentHashMap<>();
+
+        private Snapshot(long originEpochDay) {
+            this.originEpochDay = originEpochDay;
+        }
+
+        private int offset(LocalDate date) {
+            return (int) (date.toEpochDay() - originEpochDay);
+        }
+    }
+}
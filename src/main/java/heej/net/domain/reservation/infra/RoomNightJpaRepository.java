@@ -0,0 +1,80 @@
+package heej.net.domain.reservation.infra;
+
+import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.RoomNight;
+import heej.net.domain.reservation.model.RoomNightId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomNightJpaRepository extends JpaRepository<RoomNight, RoomNightId> {
+
+    boolean existsByRoomIdAndStayDateBetween(Long roomId, LocalDate from, LocalDate to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM RoomNight n WHERE n.roomId = :roomId " +
+           "AND n.stayDate BETWEEN :from AND :to")
+    List<RoomNight> findByRoomIdAndStayDateBetweenWithLock(
+            @Param("roomId") Long roomId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM RoomNight n WHERE n.roomId IN :roomIds " +
+           "AND n.stayDate BETWEEN :from AND :to")
+    List<RoomNight> findByRoomIdInAndStayDateBetweenWithLock(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("SELECT DISTINCT n.reservation FROM RoomNight n WHERE n.roomId = :roomId " +
+           "AND n.stayDate BETWEEN :from AND :to")
+    List<Reservation> findReservationsByRoomIdAndStayDateBetween(
+            @Param("roomId") Long roomId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("SELECT DISTINCT n.roomId FROM RoomNight n WHERE n.roomId IN :roomIds " +
+           "AND n.stayDate BETWEEN :from AND :to")
+    List<Long> findOccupiedRoomIds(
+            @Param("roomIds") Collection<Long> roomIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // 점유일이 없는 활성 예약(room_nights 도입 이전 예약)의 점유일 채우기 - 이미 점유된 날짜는 건너뜀 (V5 와 같은 규칙)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO room_nights (room_id, stay_date, reservation_id) " +
+           "WITH RECURSIVE stay AS (" +
+           "SELECT r.id AS reservation_id, r.room_id, r.check_in_date AS stay_date, r.check_out_date " +
+           "FROM reservations r " +
+           "WHERE r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND NOT EXISTS (SELECT 1 FROM room_nights n WHERE n.reservation_id = r.id) " +
+           "UNION ALL " +
+           "SELECT reservation_id, room_id, stay_date + INTERVAL 1 DAY, check_out_date FROM stay " +
+           "WHERE stay_date < check_out_date" +
+           ") SELECT room_id, stay_date, reservation_id FROM stay",
+           nativeQuery = true)
+    int backfillActiveReservations();
+
+    // 점유일이 하나도 없는 활성 예약 ID (채우기 후에도 남아 있으면 다른 예약과 기간이 겹치는 기존 중복 예약)
+    @Query(value = "SELECT r.id FROM reservations r " +
+           "WHERE r.status IN ('PENDING', 'CONFIRMED') " +
+           "AND NOT EXISTS (SELECT 1 FROM room_nights n WHERE n.reservation_id = r.id)",
+           nativeQuery = true)
+    List<Long> findActiveReservationIdsWithoutNights();
+
+    @Modifying
+    @Query("DELETE FROM RoomNight n WHERE n.reservation.id = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    @Modifying
+    @Query("DELETE FROM RoomNight n WHERE n.reservation.id IN :reservationIds")
+    int deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+}
@@ -0,0 +1,7 @@
+package heej.net.domain.reservation.model;
+
+public enum BookingMode {
+    PESSIMISTIC,  // 객실 행 비관적 락 (기본값)
+    OPTIMISTIC,   // 객실 version 기반 낙관적 락 + 재시도
+    ROOM_NIGHTS   // 락 없이 점유일(room_nights) 기본키 중복으로 충돌 판정
+}
@@ -0,0 +1,7 @@
+package heej.net.domain.reservation.model;
+
+public enum BookingTicketStatus {
+    QUEUED,     // 대기열 등록
+    SUCCEEDED,  // 예약 완료
+    FAILED      // 예약 실패
+}
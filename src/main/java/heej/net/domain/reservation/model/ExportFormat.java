@@ -0,0 +1,6 @@
+package heej.net.domain.reservation.model;
+
+public enum ExportFormat {
+    CSV,     // text/csv, 첫 줄 헤더
+    NDJSON   // application/x-ndjson, 한 줄에 예약 하나(JSON)
+}
@@ -15,8 +15,11 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "reservations", indexes = {
         @Index(name = "idx_reservation_member", columnList = "member_id"),
+        @Index(name = "idx_reservation_member_created", columnList = "member_id, createdAt, id"),
         @Index(name = "idx_reservation_room", columnList = "room_id"),
-        @Index(name = "idx_reservation_dates", columnList = "checkInDate, checkOutDate")
+        @Index(name = "idx_reservation_dates", columnList = "checkInDate, checkOutDate"),
+        @Index(name = "idx_reservation_status_created", columnList = "status, createdAt"),
+        @Index(name = "idx_reservation_status_checkout", columnList = "status, checkOutDate")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,71 @@
+package heej.net.domain.reservation.model;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive)된 예약 - 종료 상태(취소/완료/노쇼)가 된 지 오래된 예약을 reservations 에서 옮겨 보관합니다.
+ *
+ * 예약 ID는 원본 그대로 유지하며, 배치에서 INSERT ... SELECT 로만 적재하므로 읽기 전용으로 매핑합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "reservations_archive", indexes = {
+        @Index(name = "idx_reservation_archive_member_created", columnList = "member_id, createdAt, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationArchive {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Room room;
+
+    @Column(nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(nullable = false)
+    private Integer guestCount;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(length = 500)
+    private String specialRequests;
+
+    @Column(length = 500)
+    private String cancellationReason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
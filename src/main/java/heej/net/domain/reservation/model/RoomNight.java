@@ -0,0 +1,65 @@
+package heej.net.domain.reservation.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+
+/**
+ * 객실 점유일 재고 (객실 x 날짜 당 1행)
+ *
+ * (room_id, stay_date)가 기본키이므로 같은 날짜를 두 예약이 점유하려 하면
+ * 중복 키 오류가 발생합니다. 기존 중복 판정 규칙과 동일하게 체크인~체크아웃 당일까지 저장합니다.
+ */
+@Entity
+@Table(name = "room_nights", indexes = {
+        @Index(name = "idx_room_night_reservation", columnList = "reservation_id")
+})
+@IdClass(RoomNightId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomNight implements Persistable<RoomNightId> {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Id
+    @Column(name = "stay_date")
+    private LocalDate stayDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private Reservation reservation;
+
+    // 키를 직접 할당하므로 save() 시 merge(SELECT) 대신 바로 INSERT 하도록 표시
+    @Transient
+    private boolean newEntity = true;
+
+    public static RoomNight of(Reservation reservation, LocalDate stayDate) {
+        RoomNight night = new RoomNight();
+        night.roomId = reservation.getRoom().getId();
+        night.stayDate = stayDate;
+        night.reservation = reservation;
+        return night;
+    }
+
+    @Override
+    public RoomNightId getId() {
+        return new RoomNightId(roomId, stayDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,18 @@
+package heej.net.domain.reservation.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RoomNightId implements Serializable {
+    private Long roomId;
+    private LocalDate stayDate;
+}
@@ -0,0 +1,6 @@
+package heej.net.domain.reservation.model;
+
+public enum StayWindowSort {
+    CHEAPEST,  // 총액 낮은 순 (같으면 체크인 빠른 순)
+    EARLIEST   // 체크인 빠른 순 (같으면 총액 낮은 순)
+}
@@ -0,0 +1,65 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.common.index.SnapshotIndexScheduler;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.infra.ReservationStay;
+import heej.net.domain.reservation.infra.RoomAvailabilityIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@Slf4j
+public class AvailabilityIndexScheduler extends SnapshotIndexScheduler<RoomAvailabilityIndex.Snapshot> {
+
+    private final ReservationInfra reservationInfra;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+
+    public AvailabilityIndexScheduler(ReservationInfra reservationInfra,
+                                      RoomAvailabilityIndex roomAvailabilityIndex) {
+        super(roomAvailabilityIndex, "Room availability index disabled. Falling back to database queries.");
+        this.reservationInfra = reservationInfra;
+        this.roomAvailabilityIndex = roomAvailabilityIndex;
+    }
+
+    /**
+     * 활성 예약으로 가용성 인덱스를 만듭니다 (어제 이후 구간만 인덱싱 - 그 이전 날짜 조회는 DB로 대체)
+     */
+    @Override
+    protected RoomAvailabilityIndex.Snapshot loadSnapshot() {
+        LocalDate origin = LocalDate.now().minusDays(1);
+        List<ReservationStay> stays = reservationInfra.findActiveStaysFrom(origin);
+        return roomAvailabilityIndex.build(origin, stays);
+    }
+
+    /**
+     * 주기적으로 DB와 인덱스를 비교하여 불일치가 있으면 DB 기준으로 재적재합니다
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${reservation.availability-index.reconcile-interval-ms:600000}",
+            initialDelayString = "${reservation.availability-index.reconcile-interval-ms:600000}")
+    public void rebuild() {
+        if (!roomAvailabilityIndex.isEnabled()) {
+            return;
+        }
+
+        long modCountBefore = roomAvailabilityIndex.getModCount();
+        RoomAvailabilityIndex.Snapshot expected = loadSnapshot();
+        Set<Long> mismatched = roomAvailabilityIndex.diff(expected);
+
+        // 기준일(origin)도 함께 앞당겨지도록 불일치가 없어도 교체
+        if (!roomAvailabilityIndex.replaceIfUnchanged(expected, modCountBefore)) {
+            // 조회 도중 예약 변경이 반영됨 - 다음 주기에 다시 비교
+            log.info("Availability index changed during reconciliation. Retrying next cycle.");
+            return;
+        }
+
+        if (!mismatched.isEmpty()) {
+            log.warn("Availability index mismatch repaired: rooms={}", mismatched);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.domain.reservation.infra.ReservationArchiveInfra;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 예약 보관 배치
+ *
+ * 취소/완료/노쇼 상태로 생성된 지 retention-days 가 지난 예약을 reservations_archive 로 옮겨
+ * 예약 경로가 사용하는 reservations 테이블과 인덱스가 활성 예약 규모로 유지되도록 합니다.
+ * batch-size 건씩 트랜잭션을 나눠 옮깁니다.
+ */
+@Component
+@Slf4j
+public class ReservationArchiveScheduler {
+
+    private final ReservationArchiveInfra reservationArchiveInfra;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public ReservationArchiveScheduler(
+            ReservationArchiveInfra reservationArchiveInfra,
+            TransactionTemplate transactionTemplate,
+            @Value("${reservation.archive.enabled:true}") boolean enabled,
+            @Value("${reservation.archive.retention-days:90}") long retentionDays,
+            @Value("${reservation.archive.batch-size:500}") int batchSize,
+            @Value("${reservation.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.reservationArchiveInfra = reservationArchiveInfra;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * 매일 새벽 2시에 보관 대상 예약을 옮깁니다
+     */
+    @Scheduled(cron = "${reservation.archive.cron:0 0 2 * * ?}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        long startedAt = System.currentTimeMillis();
+        int batches = 0;
+        int total = 0;
+
+        while (batches < maxBatchesPerRun) {
+            Integer archived = transactionTemplate.execute(
+                    status -> reservationArchiveInfra.archiveTerminalReservations(threshold, batchSize));
+            batches++;
+            total += archived;
+            log.debug("Reservation archive progress: batch={}, archived={}, total={}", batches, archived, total);
+            if (archived < batchSize) {
+                break;
+            }
+        }
+
+        log.info("Reservation archive completed: total={}, batches={}, threshold={}, elapsed={}ms",
+                total, batches, threshold, System.currentTimeMillis() - startedAt);
+    }
+}
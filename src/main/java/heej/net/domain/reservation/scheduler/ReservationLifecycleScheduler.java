@@ -0,0 +1,168 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.domain.reservation.event.RoomAvailabilityChangedEvent;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.infra.ReservationLifecycleTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 예약 상태 일괄 변경 배치
+ *
+ * - 결제/확정 없이 보류 시간(pending-hold-minutes)이 지난 PENDING 예약은 취소(만료) 처리하고 점유일을 해제합니다.
+ * - 체크아웃 날짜가 지난 활성 예약(PENDING/CONFIRMED)은 COMPLETED 로 변경합니다.
+ *   확정 절차가 없어 PENDING 으로 남은 예약도 숙박이 끝나면 활성 상태에서 빠집니다.
+ * - 엔티티를 하나씩 저장하지 않고 chunk-size 건씩 일괄 UPDATE 하며, chunk 마다 트랜잭션을 나눠
+ *   한 트랜잭션이 행 잠금을 잡는 시간을 chunk 크기로 제한합니다.
+ * - 실행 결과는 stats() 로 조회합니다 (GET /api/health/reservation-lifecycle).
+ */
+@Component
+@Slf4j
+public class ReservationLifecycleScheduler {
+
+    private static final String EXPIRED_REASON = "예약 대기 시간 초과로 자동 취소되었습니다.";
+
+    private final ReservationInfra reservationInfra;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final boolean expirePending;
+    private final long pendingHoldMinutes;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalExpired = new AtomicLong();
+    private final AtomicLong totalCompleted = new AtomicLong();
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastElapsedMillis;
+    private volatile int lastExpired;
+    private volatile int lastCompleted;
+
+    public ReservationLifecycleScheduler(
+            ReservationInfra reservationInfra,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${reservation.lifecycle.enabled:true}") boolean enabled,
+            @Value("${reservation.lifecycle.expire-pending:false}") boolean expirePending,
+            @Value("${reservation.lifecycle.pending-hold-minutes:30}") long pendingHoldMinutes,
+            @Value("${reservation.lifecycle.chunk-size:500}") int chunkSize,
+            @Value("${reservation.lifecycle.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.reservationInfra = reservationInfra;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.expirePending = expirePending;
+        this.pendingHoldMinutes = pendingHoldMinutes;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.lifecycle.interval-ms:60000}",
+            initialDelayString = "${reservation.lifecycle.interval-ms:60000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            lastExpired = expirePending ? expireStalePending() : 0;
+            lastCompleted = completePastStays();
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            throw e;
+        } finally {
+            runs.incrementAndGet();
+            lastRunAt = LocalDateTime.now();
+            lastElapsedMillis = System.currentTimeMillis() - startedAt;
+        }
+    }
+
+    public ReservationLifecycleStats stats() {
+        return new ReservationLifecycleStats(enabled, expirePending, runs.get(), lastRunAt, lastElapsedMillis,
+                lastExpired, lastCompleted, totalExpired.get(), totalCompleted.get(), failures.get());
+    }
+
+    /**
+     * 보류 시간이 지난 PENDING 예약 만료 (취소 + 점유일 해제). 만료 건수를 반환
+     */
+    public int expireStalePending() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(pendingHoldMinutes);
+        long startedAt = System.currentTimeMillis();
+        int chunks = 0;
+        int total = 0;
+
+        while (chunks < maxChunksPerRun) {
+            Integer expired = transactionTemplate.execute(status -> expireChunk(threshold));
+            chunks++;
+            total += expired;
+            totalExpired.addAndGet(expired);
+            log.debug("Pending expiration progress: chunk={}, expired={}, total={}", chunks, expired, total);
+            if (expired < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Expired stale pending reservations: total={}, chunks={}, threshold={}, elapsed={}ms",
+                    total, chunks, threshold, System.currentTimeMillis() - startedAt);
+        }
+        return total;
+    }
+
+    /**
+     * 체크아웃이 지난 활성 예약 완료 처리. 완료 건수를 반환
+     */
+    public int completePastStays() {
+        LocalDate today = LocalDate.now();
+        long startedAt = System.currentTimeMillis();
+        int chunks = 0;
+        int total = 0;
+
+        while (chunks < maxChunksPerRun) {
+            Integer completed = transactionTemplate.execute(
+                    status -> reservationInfra.completeCheckedOut(today, chunkSize));
+            chunks++;
+            total += completed;
+            totalCompleted.addAndGet(completed);
+            log.debug("Stay completion progress: chunk={}, completed={}, total={}", chunks, completed, total);
+            if (completed < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Completed checked-out reservations: total={}, chunks={}, elapsed={}ms",
+                    total, chunks, System.currentTimeMillis() - startedAt);
+        }
+        return total;
+    }
+
+    private int expireChunk(LocalDateTime threshold) {
+        // 대상 행을 잠근 상태로 조회하므로 그 사이 확정/취소되는 예약과 경합하지 않음
+        List<ReservationLifecycleTarget> targets = reservationInfra.findStalePendingForUpdate(threshold, chunkSize);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = targets.stream().map(ReservationLifecycleTarget::getId).toList();
+        reservationInfra.expirePending(ids, EXPIRED_REASON);
+        reservationInfra.releaseRoomNights(ids);
+
+        // 커밋 이후 가용성 인덱스에 반영
+        targets.forEach(target -> eventPublisher.publishEvent(RoomAvailabilityChangedEvent.released(
+                target.getRoomId(), target.getCheckInDate(), target.getCheckOutDate())));
+        return targets.size();
+    }
+}
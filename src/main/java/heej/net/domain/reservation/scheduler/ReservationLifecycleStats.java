@@ -0,0 +1,24 @@
+package heej.net.domain.reservation.scheduler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 상태 일괄 변경 배치 통계 스냅샷
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationLifecycleStats {
+    private final boolean enabled;
+    private final boolean expirePending;
+    private final long runs;
+    private final LocalDateTime lastRunAt;
+    private final long lastElapsedMillis;
+    private final int lastExpired;        // 마지막 실행에서 만료(취소)된 PENDING 예약 수
+    private final int lastCompleted;      // 마지막 실행에서 완료 처리된 예약 수
+    private final long totalExpired;
+    private final long totalCompleted;
+    private final long failures;          // 예외로 중단된 실행 수
+}
@@ -0,0 +1,39 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.domain.reservation.infra.ReservationInfra;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomNightBackfill {
+
+    private final ReservationInfra reservationInfra;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 애플리케이션 시작 시(요청을 받기 전) 점유일이 없는 활성 예약의 점유일을 채웁니다
+     *
+     * 스키마는 ddl-auto 로만 반영되어 기존 DB에는 room_nights 테이블만 생기고 V5 의 채우기는 실행되지 않습니다.
+     * 중복 예약 판정은 room_nights 만 보므로, 채우기가 실패하면 시작을 중단합니다.
+     */
+    @PostConstruct
+    public void backfill() {
+        Integer inserted = transactionTemplate.execute(status -> reservationInfra.backfillRoomNights());
+        if (inserted != null && inserted > 0) {
+            log.info("Room nights backfilled for existing reservations: nights={}", inserted);
+        }
+
+        // 남은 예약은 다른 예약과 날짜가 완전히 겹치는 기존 중복 예약 - 자동으로 정리하지 않고 알림
+        List<Long> missing = reservationInfra.findActiveReservationIdsWithoutRoomNights();
+        if (!missing.isEmpty()) {
+            log.warn("Active reservations without room nights (overlapping existing bookings): ids={}", missing);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.common.pagination.Cursor;
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.Amenity;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.pricing.usecase.PricingEngine;
+import heej.net.domain.reservation.api.dto.AvailableAccommodationResponse;
+import heej.net.domain.reservation.api.dto.AvailableAccommodationSearchRequest;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 숙박 가능 숙소 검색 - 숙소 조건, 날짜, 인원을 한 번에 적용해 빈 객실이 있는 숙소만 최신 등록순으로 찾습니다.
+ *
+ * - 숙소 단계: 검색 집계 열 저장소(메모리)에서 도시/지역/타입/평점/요금 범위/최대 수용 인원 조건을 만족하는 숙소 ID 를
+ *   최신 등록순으로 뽑습니다 (키워드/편의시설은 각 메모리 인덱스로 먼저 좁힘). 인덱스가 준비되지 않았으면 DB 키셋 조회로 대체합니다.
+ * - 객실 단계: 숙소 ID 를 CHUNK_SIZE 개씩 묶어 객실을 한 번에 조회하고 인원/편의시설/1박 요금 조건으로 거릅니다.
+ * - 가용성/요금 단계: 묶음의 객실 전체에 대해 예약 가용성 인덱스로 충돌 여부를 한 번에 확인하고,
+ *   빈 객실의 숙박 총액을 요금표(누적 합)로 계산해 숙소별로 가장 싼 객실을 고릅니다.
+ * - 요청한 페이지(+ 다음 페이지 확인용 1건)가 채워지면 남은 숙소는 보지 않습니다. 전체 건수는 세지 않으므로 Slice 로 응답합니다.
+ * 트랜잭션은 호출 측에서 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailableAccommodationSearch {
+
+    // 한 번에 객실/가용성을 확인할 숙소 수
+    private static final int CHUNK_SIZE = 100;
+
+    // 최대 숙박일수 (예약 검증과 동일)
+    private static final int MAX_NIGHTS = 30;
+
+    private final AccommodationInfra accommodationInfra;
+    private final RoomInfra roomInfra;
+    private final ReservationInfra reservationInfra;
+    private final ReservationBookingSupport bookingSupport;
+    private final PricingEngine pricingEngine;
+
+    public Slice<AvailableAccommodationResponse> search(AvailableAccommodationSearchRequest request) {
+        LocalDate checkInDate = request.getCheckInDate();
+        LocalDate checkOutDate = request.getCheckOutDate();
+        validate(request);
+        bookingSupport.validateNotHoliday(checkInDate, checkOutDate);
+
+        long amenityMask = Amenity.requiredMaskOf(request.getAmenities());
+        Set<Long> amenityAccommodationIds = amenityMask != 0L
+                ? roomInfra.findAccommodationIdsWithAmenities(amenityMask)
+                : null;
+
+        int offset = request.getPage() * request.getSize();
+        // 다음 페이지가 있는지 알기 위해 한 건 더 찾음
+        int wanted = offset + request.getSize() + 1;
+
+        CandidateSource candidates = candidateSource(request, amenityAccommodationIds);
+        List<Match> matches = new ArrayList<>();
+        int scanned = 0;
+        List<Long> chunk;
+        while (matches.size() < wanted && (chunk = candidates.next()) != null) {
+            scanned += chunk.size();
+            collectMatches(chunk, request, amenityMask, wanted, matches);
+        }
+
+        boolean hasNext = matches.size() > offset + request.getSize();
+        List<Match> pageMatches = matches.subList(Math.min(offset, matches.size()),
+                Math.min(offset + request.getSize(), matches.size()));
+        log.info("Available accommodation search: {} ~ {}, guests={}, scanned={}, matched={}, hasNext={}",
+                checkInDate, checkOutDate, request.getGuestCount(), scanned, matches.size(), hasNext);
+
+        Map<Long, Accommodation> accommodations = accommodationInfra.findAllById(
+                        pageMatches.stream().map(match -> match.accommodationId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Accommodation::getId, Function.identity()));
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+
+        List<AvailableAccommodationResponse> content = pageMatches.stream()
+                .filter(match -> accommodations.containsKey(match.accommodationId))
+                .map(match -> toResponse(accommodations.get(match.accommodationId), match,
+                        checkInDate, checkOutDate, nights))
+                .collect(Collectors.toList());
+        return new SliceImpl<>(content, PageRequest.of(request.getPage(), request.getSize()), hasNext);
+    }
+
+    /**
+     * 숙소 묶음의 객실을 한 번에 읽어 가용성/요금을 확인하고, 숙소 순서대로 결과를 추가합니다 (wanted 건이 되면 중단).
+     */
+    private void collectMatches(List<Long> accommodationIds, AvailableAccommodationSearchRequest request,
+                                long amenityMask, int wanted, List<Match> matches) {
+        List<Room> rooms = roomInfra.findAllByAccommodationIds(accommodationIds).stream()
+                .filter(room -> room.getMaxCapacity() >= request.getGuestCount())
+                .filter(room -> room.hasAmenities(amenityMask))
+                .filter(room -> withinPriceRange(room.getPricePerNight(), request.getMinPrice(), request.getMaxPrice()))
+                .collect(Collectors.toList());
+        if (rooms.isEmpty()) {
+            return;
+        }
+
+        Set<Long> conflicting = reservationInfra.findConflictingRoomIds(
+                rooms.stream().map(Room::getId).collect(Collectors.toList()),
+                request.getCheckInDate(), request.getCheckOutDate());
+        Map<Long, List<Room>> freeRoomsByAccommodation = rooms.stream()
+                .filter(room -> !conflicting.contains(room.getId()))
+                .collect(Collectors.groupingBy(room -> room.getAccommodation().getId()));
+        if (freeRoomsByAccommodation.isEmpty()) {
+            return;
+        }
+        pricingEngine.warm(freeRoomsByAccommodation.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+
+        for (Long accommodationId : accommodationIds) {
+            List<Room> freeRooms = freeRoomsByAccommodation.get(accommodationId);
+            if (freeRooms == null) {
+                continue;
+            }
+            Room cheapest = null;
+            long cheapestMinor = Long.MAX_VALUE;
+            for (Room room : freeRooms) {
+                long totalMinor = pricingEngine.quoteMinor(room, request.getCheckInDate(), request.getCheckOutDate());
+                if (totalMinor < cheapestMinor || (totalMinor == cheapestMinor && room.getId() < cheapest.getId())) {
+                    cheapest = room;
+                    cheapestMinor = totalMinor;
+                }
+            }
+            matches.add(new Match(accommodationId, cheapest, cheapestMinor, freeRooms.size()));
+            if (matches.size() >= wanted) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 메모리 인덱스로 숙소 후보를 뽑을 수 있으면 그 목록을, 아니면 DB 키셋 조회를 묶음 단위로 사용합니다.
+     */
+    private CandidateSource candidateSource(AvailableAccommodationSearchRequest request, Set<Long> amenityAccommodationIds) {
+        String keyword = trimToNull(request.getKeyword());
+        String city = trimToNull(request.getCity());
+        String region = trimToNull(request.getRegion());
+
+        return accommodationInfra.filterAccommodationIds(keyword, city, region, request.getType(),
+                        request.getMinPrice(), request.getMaxPrice(), request.getMinRating(),
+                        request.getGuestCount(), amenityAccommodationIds)
+                .<CandidateSource>map(ids -> {
+                    Iterator<Long> iterator = ids.iterator();
+                    return () -> {
+                        if (!iterator.hasNext()) {
+                            return null;
+                        }
+                        List<Long> chunk = new ArrayList<>(CHUNK_SIZE);
+                        while (iterator.hasNext() && chunk.size() < CHUNK_SIZE) {
+                            chunk.add(iterator.next());
+                        }
+                        return chunk;
+                    };
+                })
+                .orElseGet(() -> new DatabaseCandidates(keyword, city, region, request, amenityAccommodationIds));
+    }
+
+    private void validate(AvailableAccommodationSearchRequest request) {
+        if (!request.getCheckOutDate().isAfter(request.getCheckInDate())) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
+        }
+        if (request.getCheckInDate().isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("체크인 날짜는 오늘 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate()) > MAX_NIGHTS) {
+            throw new IllegalArgumentException("최대 " + MAX_NIGHTS + "일까지만 예약 가능합니다.");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice().compareTo(request.getMaxPrice()) > 0) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
+    private static boolean withinPriceRange(BigDecimal price, BigDecimal minPrice, BigDecimal maxPrice) {
+        return (minPrice == null || price.compareTo(minPrice) >= 0)
+                && (maxPrice == null || price.compareTo(maxPrice) <= 0);
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private AvailableAccommodationResponse toResponse(Accommodation accommodation, Match match,
+                                                      LocalDate checkInDate, LocalDate checkOutDate, int nights) {
+        Room room = match.room;
+        return AvailableAccommodationResponse.builder()
+                .accommodationId(accommodation.getId())
+                .accommodationName(accommodation.getName())
+                .accommodationType(accommodation.getType())
+                .city(accommodation.getCity())
+                .region(accommodation.getRegion())
+                .address(accommodation.getAddress())
+                .rating(accommodation.getRating())
+                .mainImage(accommodation.getMainImage())
+                .roomId(room.getId())
+                .roomName(room.getName())
+                .roomType(room.getType().toString())
+                .maxOccupancy(room.getMaxCapacity())
+                .pricePerNight(room.getPricePerNight())
+                .totalPrice(PricingEngine.toAmount(match.totalMinor))
+                .availableRoomCount(match.availableRoomCount)
+                .checkInDate(checkInDate)
+                .checkOutDate(checkOutDate)
+                .nights(nights)
+                .build();
+    }
+
+    /**
+     * 숙소 ID 를 묶음 단위로 돌려줍니다. 더 이상 없으면 null (빈 묶음은 다음 묶음이 있을 수 있음)
+     */
+    private interface CandidateSource {
+        List<Long> next();
+    }
+
+    /**
+     * 메모리 인덱스를 쓸 수 없을 때 - (createdAt, id) 내림차순 키셋 조회로 숙소를 묶음 단위로 읽음
+     */
+    private final class DatabaseCandidates implements CandidateSource {
+        private final String keyword;
+        private final String city;
+        private final String region;
+        private final AvailableAccommodationSearchRequest request;
+        private final Set<Long> amenityAccommodationIds;
+        private Cursor cursor;
+        private boolean exhausted;
+
+        private DatabaseCandidates(String keyword, String city, String region,
+                                   AvailableAccommodationSearchRequest request, Set<Long> amenityAccommodationIds) {
+            this.keyword = keyword;
+            this.city = city;
+            this.region = region;
+            this.request = request;
+            this.amenityAccommodationIds = amenityAccommodationIds;
+        }
+
+        @Override
+        public List<Long> next() {
+            if (exhausted) {
+                return null;
+            }
+            List<Accommodation> fetched = accommodationInfra.searchAccommodationsAfter(keyword, city, region,
+                    request.getType(), request.getMinPrice(), request.getMaxPrice(), request.getMinRating(),
+                    amenityAccommodationIds, cursor, CHUNK_SIZE);
+            if (fetched.size() < CHUNK_SIZE) {
+                exhausted = true;
+            }
+            if (fetched.isEmpty()) {
+                return null;
+            }
+            Accommodation last = fetched.get(fetched.size() - 1);
+            cursor = new Cursor(last.getCreatedAt(), last.getId());
+            return fetched.stream()
+                    .filter(accommodation -> accommodation.getMaxRoomCapacity() >= request.getGuestCount())
+                    .map(Accommodation::getId)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static final class Match {
+        private final Long accommodationId;
+        private final Room room;
+        private final long totalMinor;
+        private final int availableRoomCount;
+
+        private Match(Long accommodationId, Room room, long totalMinor, int availableRoomCount) {
+            this.accommodationId = accommodationId;
+            this.room = room;
+            this.totalMinor = totalMinor;
+            this.availableRoomCount = availableRoomCount;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.infra.BookingTicketRecord;
+import heej.net.domain.reservation.model.BookingTicketStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 예약 대기열에 등록된 요청 한 건과 그 처리 결과
+ * 조회는 티켓 저장소에 저장된 BookingTicketRecord 로 합니다.
+ */
+@Getter
+class BookingTicket {
+
+    private final String ticketId = UUID.randomUUID().toString();
+    private final Long memberId;
+    private final CreateReservationRequest request;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile BookingTicketStatus status = BookingTicketStatus.QUEUED;
+    private volatile ReservationResponse reservation;
+    private volatile String message;
+    private volatile LocalDateTime completedAt;
+
+    BookingTicket(Long memberId, CreateReservationRequest request) {
+        this.memberId = memberId;
+        this.request = request;
+    }
+
+    void succeed(ReservationResponse reservation) {
+        this.reservation = reservation;
+        this.completedAt = LocalDateTime.now();
+        this.status = BookingTicketStatus.SUCCEEDED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        this.completedAt = LocalDateTime.now();
+        this.status = BookingTicketStatus.FAILED;
+    }
+
+    BookingTicketRecord toRecord() {
+        return BookingTicketRecord.builder()
+                .ticketId(ticketId)
+                .memberId(memberId)
+                .status(status)
+                .reservation(reservation)
+                .message(message)
+                .requestedAt(requestedAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.holiday.api.dto.HolidayResponse;
+import heej.net.domain.holiday.usecase.HolidayUseCase;
+import heej.net.domain.pricing.usecase.PricingEngine;
+import heej.net.domain.reservation.api.dto.FlexibleStayResponse;
+import heej.net.domain.reservation.api.dto.FlexibleStaySearchRequest;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.infra.ReservationStay;
+import heej.net.domain.reservation.model.StayWindowSort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * 유연 날짜 검색 - 기간 안에서 N박이 비어 있는 (객실, 체크인) 조합 중 가장 싼/이른 것을 찾습니다.
+ *
+ * - 후보 객실의 활성 예약과 기간 내 공휴일을 각각 한 번의 쿼리로 읽어 일자별 비트맵으로 만든 뒤,
+ *   객실마다 누적 합 배열로 창(window)을 밀면서 체크인 날짜별 예약 가능 여부를 O(1)에 판정합니다.
+ *   전체 작업량은 객실 수 x 일수에 비례합니다.
+ * - 예약 검증과 같은 기준을 사용합니다: 기존 예약과는 체크인~체크아웃 당일까지 겹치면 안 되고,
+ *   숙박일(체크인~체크아웃 전날)에 공휴일이 있으면 안 됩니다.
+ * - 상위 limit 건만 크기가 제한된 힙으로 유지합니다.
+ * 트랜잭션은 호출 측에서 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FlexibleStaySearch {
+
+    // 검색 가능한 최대 기간 (일)
+    private static final int MAX_SEARCH_DAYS = 180;
+
+    private final RoomInfra roomInfra;
+    private final ReservationInfra reservationInfra;
+    private final HolidayUseCase holidayUseCase;
+    private final PricingEngine pricingEngine;
+
+    public List<FlexibleStayResponse> search(FlexibleStaySearchRequest request) {
+        LocalDate from = request.getFromDate();
+        LocalDate to = request.getToDate();
+        int nights = request.getNights();
+        validate(from, to);
+
+        // 일자 인덱스 0 = from, days - 1 = to (마지막 체크아웃 가능일)
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int lastCheckIn = days - 1 - nights;
+        List<Room> rooms = findCandidateRooms(request);
+        if (rooms.isEmpty() || lastCheckIn < 0) {
+            return List.of();
+        }
+
+        int[] holidayPrefix = buildHolidayPrefix(from, to, days);
+        Map<Long, BitSet> occupancy = buildOccupancy(rooms, from, to, days);
+        pricingEngine.warm(rooms);
+
+        Comparator<StayWindow> order = comparator(request.getSort());
+        PriorityQueue<StayWindow> best = new PriorityQueue<>(request.getLimit() + 1, order.reversed());
+        int[] occupiedPrefix = new int[days + 1];
+
+        for (Room room : rooms) {
+            BitSet occupied = occupancy.get(room.getId());
+            for (int i = 0; i < days; i++) {
+                occupiedPrefix[i + 1] = occupiedPrefix[i] + (occupied != null && occupied.get(i) ? 1 : 0);
+            }
+
+            for (int d = 0; d <= lastCheckIn; d++) {
+                if (occupiedPrefix[d + nights + 1] - occupiedPrefix[d] > 0
+                        || holidayPrefix[d + nights] - holidayPrefix[d] > 0) {
+                    continue;
+                }
+                // 이른 순이면 힙이 찬 뒤에는 최악보다 늦은 체크인은 볼 필요가 없음
+                if (request.getSort() == StayWindowSort.EARLIEST && best.size() == request.getLimit()
+                        && d > best.peek().dayIndex) {
+                    break;
+                }
+
+                LocalDate checkInDate = from.plusDays(d);
+                long totalMinor = pricingEngine.quoteMinor(room, checkInDate, checkInDate.plusDays(nights));
+                best.offer(new StayWindow(room, d, checkInDate, totalMinor));
+                if (best.size() > request.getLimit()) {
+                    best.poll();
+                }
+            }
+        }
+
+        List<StayWindow> windows = new ArrayList<>(best);
+        windows.sort(order);
+        log.info("Flexible stay search: rooms={}, days={}, nights={}, results={}",
+                rooms.size(), days, nights, windows.size());
+
+        return windows.stream()
+                .map(window -> FlexibleStayResponse.builder()
+                        .roomId(window.room.getId())
+                        .roomName(window.room.getName())
+                        .roomType(window.room.getType().toString())
+                        .accommodationId(window.room.getAccommodation().getId())
+                        .checkInDate(window.checkInDate)
+                        .checkOutDate(window.checkInDate.plusDays(nights))
+                        .nights(nights)
+                        .totalPrice(PricingEngine.toAmount(window.totalMinor))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private void validate(LocalDate from, LocalDate to) {
+        if (from.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("체크인 날짜는 오늘 이후여야 합니다.");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("검색 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_SEARCH_DAYS) {
+            throw new IllegalArgumentException("최대 " + MAX_SEARCH_DAYS + "일 기간까지 검색할 수 있습니다.");
+        }
+    }
+
+    private List<Room> findCandidateRooms(FlexibleStaySearchRequest request) {
+        List<Room> rooms;
+        if (request.getRoomId() != null) {
+            rooms = roomInfra.findById(request.getRoomId())
+                    .map(List::of)
+                    .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다."));
+        } else if (request.getAccommodationId() != null) {
+            rooms = roomInfra.findAllByAccommodationId(request.getAccommodationId());
+        } else if (request.getGuestCount() != null) {
+            rooms = roomInfra.findByMaxCapacityGreaterThanEqual(request.getGuestCount());
+        } else {
+            rooms = roomInfra.findAll();
+        }
+
+        return rooms.stream()
+                .filter(room -> request.getGuestCount() == null || room.getMaxCapacity() >= request.getGuestCount())
+                .filter(room -> request.getAccommodationId() == null
+                        || request.getAccommodationId().equals(room.getAccommodation().getId()))
+                .collect(Collectors.toList());
+    }
+
+    // holidayPrefix[i] = 일자 인덱스 [0, i) 중 공휴일 수
+    private int[] buildHolidayPrefix(LocalDate from, LocalDate to, int days) {
+        BitSet holidays = new BitSet(days);
+        for (HolidayResponse holiday : holidayUseCase.getHolidaysByDateRange(from, to)) {
+            holidays.set((int) ChronoUnit.DAYS.between(from, holiday.getHolidayDate()));
+        }
+        int[] prefix = new int[days + 1];
+        for (int i = 0; i < days; i++) {
+            prefix[i + 1] = prefix[i] + (holidays.get(i) ? 1 : 0);
+        }
+        return prefix;
+    }
+
+    // 객실별 점유일 비트맵 (체크인 ~ 체크아웃 당일, 검색 기간으로 잘라냄)
+    private Map<Long, BitSet> buildOccupancy(List<Room> rooms, LocalDate from, LocalDate to, int days) {
+        List<Long> roomIds = rooms.stream().map(Room::getId).collect(Collectors.toList());
+        Map<Long, BitSet> occupancy = new HashMap<>();
+        for (ReservationStay stay : reservationInfra.findActiveStaysByRoomIds(roomIds, from, to)) {
+            int start = (int) Math.max(ChronoUnit.DAYS.between(from, stay.getCheckInDate()), 0);
+            int end = (int) Math.min(ChronoUnit.DAYS.between(from, stay.getCheckOutDate()), days - 1);
+            if (end >= start) {
+                occupancy.computeIfAbsent(stay.getRoomId(), id -> new BitSet(days)).set(start, end + 1);
+            }
+        }
+        return occupancy;
+    }
+
+    private Comparator<StayWindow> comparator(StayWindowSort sort) {
+        Comparator<StayWindow> byPrice = Comparator.comparingLong(window -> window.totalMinor);
+        Comparator<StayWindow> byDate = Comparator.comparingInt(window -> window.dayIndex);
+        Comparator<StayWindow> primary = sort == StayWindowSort.EARLIEST
+                ? byDate.thenComparing(byPrice)
+                : byPrice.thenComparing(byDate);
+        return primary.thenComparing(window -> window.room.getId());
+    }
+
+    private static final class StayWindow {
+        private final Room room;
+        private final int dayIndex;
+        private final LocalDate checkInDate;
+        private final long totalMinor;
+
+        private StayWindow(Room room, int dayIndex, LocalDate checkInDate, long totalMinor) {
+            this.room = room;
+            this.dayIndex = dayIndex;
+            this.checkInDate = checkInDate;
+            this.totalMinor = totalMinor;
+        }
+    }
+}
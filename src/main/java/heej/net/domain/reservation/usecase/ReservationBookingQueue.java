@@ -0,0 +1,238 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.infra.MemberInfra;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.infra.BookingTicketRecord;
+import heej.net.domain.reservation.infra.BookingTicketStore;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 객실 단위 단일 작성자(single-writer) 예약 대기열
+ *
+ * - 객실 ID를 고정된 개수의 워커 중 하나에 해시하여, 같은 객실 요청은 항상 같은 워커가 순서대로 처리합니다.
+ * - 워커는 대기 중인 요청을 최대 batch-size 건까지 모아 한 트랜잭션으로 저장합니다.
+ *   충돌/검증은 쓰기 전에 메모리(배치 내 점유)와 DB에서 먼저 확인하므로 배치 중 한 건의 실패가
+ *   다른 요청을 롤백시키지 않습니다. 예상치 못한 저장 오류가 나면 건별 트랜잭션으로 다시 처리합니다.
+ * - 대기열이 가득 차면 즉시 거절하며, 대기열 길이가 곧 부하(backpressure) 지표입니다.
+ * - 대기열과 워커는 인스턴스마다 따로 동작하므로 같은 객실 요청의 직렬화는 인스턴스 안에서만 보장됩니다.
+ *   인스턴스 간 동시 저장은 room_nights 의 (room_id, stay_date) 기본키 충돌로 걸러지며,
+ *   티켓 상태는 BookingTicketStore(redis.enabled=true 면 Redis)에 저장해 어느 인스턴스에서든 조회할 수 있습니다.
+ */
+@Component
+@Slf4j
+public class ReservationBookingQueue {
+
+    private final ReservationInfra reservationInfra;
+    private final MemberInfra memberInfra;
+    private final RoomInfra roomInfra;
+    private final ReservationBookingSupport bookingSupport;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingTicketStore ticketStore;
+
+    private final int workerCount;
+    private final int capacity;
+    private final int batchSize;
+    private final Duration ticketTtl;
+
+    private final List<Worker> workers = new ArrayList<>();
+
+    public ReservationBookingQueue(
+            ReservationInfra reservationInfra,
+            MemberInfra memberInfra,
+            RoomInfra roomInfra,
+            ReservationBookingSupport bookingSupport,
+            TransactionTemplate transactionTemplate,
+            BookingTicketStore ticketStore,
+            @Value("${reservation.booking-queue.workers:8}") int workerCount,
+            @Value("${reservation.booking-queue.capacity:1000}") int capacity,
+            @Value("${reservation.booking-queue.batch-size:20}") int batchSize,
+            @Value("${reservation.booking-queue.ticket-ttl-ms:600000}") long ticketTtlMillis) {
+        this.reservationInfra = reservationInfra;
+        this.memberInfra = memberInfra;
+        this.roomInfra = roomInfra;
+        this.bookingSupport = bookingSupport;
+        this.transactionTemplate = transactionTemplate;
+        this.ticketStore = ticketStore;
+        this.workerCount = workerCount;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.ticketTtl = Duration.ofMillis(ticketTtlMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Worker worker = new Worker(i, new ArrayBlockingQueue<>(capacity));
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Reservation booking queue started: workers={}, capacity={}, batchSize={}",
+                workerCount, capacity, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 예약 요청을 대기열에 등록합니다. 대기열이 가득 차면 IllegalStateException
+     */
+    public BookingTicket submit(Long memberId, CreateReservationRequest request) {
+        BookingTicket ticket = new BookingTicket(memberId, request);
+        Worker worker = workers.get(Math.floorMod(request.getRoomId().hashCode(), workers.size()));
+
+        ticketStore.save(ticket.toRecord(), ticketTtl);
+        if (!worker.queue.offer(ticket)) {
+            ticketStore.remove(ticket.getTicketId());
+            log.warn("Booking queue full: worker={}, room={}", worker.index, request.getRoomId());
+            throw new IllegalStateException("예약 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return ticket;
+    }
+
+    public Optional<BookingTicketRecord> getTicket(String ticketId) {
+        return ticketStore.find(ticketId);
+    }
+
+    /**
+     * 전체 워커의 대기 중인 요청 수
+     */
+    public int getQueueDepth() {
+        return workers.stream().mapToInt(worker -> worker.queue.size()).sum();
+    }
+
+    private void processBatch(List<BookingTicket> batch) {
+        // 커밋 이후에 티켓 상태를 반영하기 위해 결과를 모아둠
+        Map<BookingTicket, ReservationResponse> succeeded = new LinkedHashMap<>();
+        Map<BookingTicket, String> failed = new LinkedHashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, List<LocalDate[]>> acceptedStays = new HashMap<>();
+                for (BookingTicket ticket : batch) {
+                    try {
+                        succeeded.put(ticket, book(ticket, acceptedStays));
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        failed.put(ticket, e.getMessage());
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // 검증 이후 저장 단계의 오류 - 배치 전체가 롤백되었으므로 건별로 다시 처리
+            log.warn("Booking batch failed, retrying individually: size={}, error={}", batch.size(), e.getMessage());
+            succeeded.clear();
+            failed.clear();
+            batch.forEach(this::processSingle);
+            return;
+        }
+
+        succeeded.forEach((ticket, response) -> {
+            ticket.succeed(response);
+            saveTicket(ticket);
+        });
+        failed.forEach((ticket, message) -> {
+            ticket.fail(message);
+            saveTicket(ticket);
+        });
+    }
+
+    private void processSingle(BookingTicket ticket) {
+        try {
+            ReservationResponse response = transactionTemplate.execute(
+                    status -> book(ticket, new HashMap<>()));
+            ticket.succeed(response);
+        } catch (RuntimeException e) {
+            ticket.fail(e instanceof IllegalArgumentException || e instanceof IllegalStateException
+                    ? e.getMessage()
+                    : "예약 처리 중 오류가 발생했습니다.");
+        }
+        saveTicket(ticket);
+    }
+
+    private void saveTicket(BookingTicket ticket) {
+        try {
+            ticketStore.save(ticket.toRecord(), ticketTtl);
+        } catch (RuntimeException e) {
+            // 예약 결과는 이미 커밋됨 - 티켓 조회만 실패하므로 다른 티켓 처리는 계속
+            log.error("Failed to save booking ticket: {}", ticket.getTicketId(), e);
+        }
+    }
+
+    private ReservationResponse book(BookingTicket ticket, Map<Long, List<LocalDate[]>> acceptedStays) {
+        CreateReservationRequest request = ticket.getRequest();
+        bookingSupport.validateReservationRequest(request);
+        bookingSupport.validateNotHoliday(request.getCheckInDate(), request.getCheckOutDate());
+
+        Member member = memberInfra.findById(ticket.getMemberId())
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+        Room room = roomInfra.findById(request.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다."));
+
+        // 같은 배치에서 먼저 받아들인 예약과의 충돌 (아직 커밋 전이므로 메모리에서 확인)
+        List<LocalDate[]> stays = acceptedStays.computeIfAbsent(room.getId(), id -> new ArrayList<>());
+        for (LocalDate[] stay : stays) {
+            if (!stay[0].isAfter(request.getCheckOutDate()) && !stay[1].isBefore(request.getCheckInDate())) {
+                throw new IllegalArgumentException("해당 기간에 이미 예약이 있습니다.");
+            }
+        }
+        if (reservationInfra.hasOverlappingReservationInDatabase(
+                room.getId(), request.getCheckInDate(), request.getCheckOutDate())) {
+            throw new IllegalArgumentException("해당 기간에 이미 예약이 있습니다.");
+        }
+
+        ReservationResponse response = bookingSupport.saveReservation(member, room, request);
+        stays.add(new LocalDate[]{request.getCheckInDate(), request.getCheckOutDate()});
+        return response;
+    }
+
+    private class Worker extends Thread {
+
+        private final int index;
+        private final BlockingQueue<BookingTicket> queue;
+
+        private Worker(int index, BlockingQueue<BookingTicket> queue) {
+            super("booking-worker-" + index);
+            this.index = index;
+            this.queue = queue;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!isInterrupted()) {
+                try {
+                    List<BookingTicket> batch = new ArrayList<>(batchSize);
+                    batch.add(queue.take());
+                    queue.drainTo(batch, batchSize - 1);
+                    processBatch(batch);
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error in booking worker {}", index, e);
+                }
+            }
+        }
+    }
+}
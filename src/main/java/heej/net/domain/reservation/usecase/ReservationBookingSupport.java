@@ -0,0 +1,152 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.holiday.api.dto.HolidayResponse;
+import heej.net.domain.holiday.usecase.HolidayUseCase;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.pricing.usecase.PricingEngine;
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.event.RoomAvailabilityChangedEvent;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 생성 경로(동기 API, 예약 대기열 워커 등)가 공통으로 사용하는 검증/저장/응답 변환
+ * 트랜잭션은 호출 측에서 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationBookingSupport {
+
+    private final ReservationInfra reservationInfra;
+    private final HolidayUseCase holidayUseCase;
+    private final PricingEngine pricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ReservationResponse saveReservation(Member member, Room room, CreateReservationRequest request) {
+        Reservation savedReservation = reservationInfra.save(buildReservation(member, room, request));
+        reservationInfra.occupyRoomNights(savedReservation);
+        log.info("Reservation created: id={}", savedReservation.getId());
+
+        eventPublisher.publishEvent(RoomAvailabilityChangedEvent.occupied(
+                room.getId(), savedReservation.getCheckInDate(), savedReservation.getCheckOutDate()));
+
+        return toResponse(savedReservation);
+    }
+
+    /**
+     * 수용 인원 확인 후 PENDING 상태의 예약을 생성합니다 (저장하지 않음)
+     */
+    public Reservation buildReservation(Member member, Room room, CreateReservationRequest request) {
+        if (request.getGuestCount() > room.getMaxCapacity()) {
+            throw new IllegalArgumentException(
+                    String.format("최대 수용 인원(%d명)을 초과했습니다.", room.getMaxCapacity()));
+        }
+
+        // 날짜별 요금/요금 규칙을 반영한 숙박 총액
+        BigDecimal totalPrice = pricingEngine.quote(room, request.getCheckInDate(), request.getCheckOutDate());
+
+        return Reservation.builder()
+                .member(member)
+                .room(room)
+                .checkInDate(request.getCheckInDate())
+                .checkOutDate(request.getCheckOutDate())
+                .guestCount(request.getGuestCount())
+                .totalPrice(totalPrice)
+                .status(ReservationStatus.PENDING)
+                .specialRequests(request.getSpecialRequests())
+                .build();
+    }
+
+    public void validateReservationRequest(CreateReservationRequest request) {
+        // 체크아웃이 체크인보다 이후인지 확인
+        if (!request.getCheckOutDate().isAfter(request.getCheckInDate())) {
+            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
+        }
+
+        // 오늘 이후 날짜인지 확인
+        LocalDate today = LocalDate.now();
+        if (request.getCheckInDate().isBefore(today)) {
+            throw new IllegalArgumentException("체크인 날짜는 오늘 이후여야 합니다.");
+        }
+
+        // 최대 30일 이내 예약만 가능
+        long nights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
+        if (nights > 30) {
+            throw new IllegalArgumentException("최대 30일까지만 예약 가능합니다.");
+        }
+    }
+
+    public void validateNotHoliday(LocalDate checkInDate, LocalDate checkOutDate) {
+        // 체크인 날짜부터 체크아웃 전날까지 공휴일 체크
+        LocalDate date = checkInDate;
+        while (date.isBefore(checkOutDate)) {
+            // 공휴일 달력(메모리)에서 조회 - 날짜당 한 번만 확인
+            HolidayResponse holiday = holidayUseCase.getHoliday(date);
+            if (holiday != null) {
+                log.warn("Holiday detected: date={}, name={}", date, holiday.getHolidayName());
+                throw new IllegalArgumentException(
+                        String.format("공휴일(%s, %s)에는 예약할 수 없습니다.",
+                                date, holiday.getHolidayName()));
+            }
+            date = date.plusDays(1);
+        }
+        log.info("No holidays found in reservation period: {} ~ {}", checkInDate, checkOutDate);
+    }
+
+    /**
+     * 여러 예약 항목의 공휴일 여부를 전체 기간에 대한 한 번의 조회로 확인합니다.
+     */
+    public void validateNotHoliday(List<CreateReservationRequest> requests) {
+        LocalDate from = requests.stream().map(CreateReservationRequest::getCheckInDate)
+                .min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = requests.stream().map(CreateReservationRequest::getCheckOutDate)
+                .max(LocalDate::compareTo).orElseThrow();
+
+        Map<LocalDate, String> holidays = holidayUseCase.getHolidaysByDateRange(from, to).stream()
+                .collect(Collectors.toMap(HolidayResponse::getHolidayDate, HolidayResponse::getHolidayName));
+
+        for (CreateReservationRequest request : requests) {
+            for (LocalDate date = request.getCheckInDate(); date.isBefore(request.getCheckOutDate()); date = date.plusDays(1)) {
+                if (holidays.containsKey(date)) {
+                    throw new IllegalArgumentException(
+                            String.format("공휴일(%s, %s)에는 예약할 수 없습니다.", date, holidays.get(date)));
+                }
+            }
+        }
+    }
+
+    public ReservationResponse toResponse(Reservation reservation) {
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .memberId(reservation.getMember().getId())
+                .memberName(reservation.getMember().getName())
+                .roomId(reservation.getRoom().getId())
+                .roomName(reservation.getRoom().getName())
+                .accommodationName(reservation.getRoom().getAccommodation().getName())
+                .checkInDate(reservation.getCheckInDate())
+                .checkOutDate(reservation.getCheckOutDate())
+                .guestCount(reservation.getGuestCount())
+                .totalPrice(reservation.getTotalPrice())
+                .status(reservation.getStatus())
+                .specialRequests(reservation.getSpecialRequests())
+                .cancellationReason(reservation.getCancellationReason())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+}
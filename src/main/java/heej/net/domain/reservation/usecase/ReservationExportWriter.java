@@ -0,0 +1,99 @@
+package heej.net.domain.reservation.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.model.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 예약 내보내기 - 스트림에서 한 행씩 읽어 바로 응답으로 씁니다. (전체 목록을 만들지 않음)
+ *
+ * 헤더와 일정 건수마다 flush 하여 조회가 끝나기 전에 클라이언트가 데이터를 받기 시작합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExportWriter {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final String CSV_HEADER = "id,memberId,memberName,roomId,roomName,accommodationName,"
+            + "checkInDate,checkOutDate,guestCount,totalPrice,status,specialRequests,cancellationReason,"
+            + "createdAt,updatedAt";
+
+    private final ObjectMapper objectMapper;
+
+    public long write(Stream<ReservationResponse> rows, ExportFormat format, OutputStream out) {
+        long count = 0;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == ExportFormat.CSV) {
+                // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+                writer.write('\uFEFF');
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                writer.flush();
+            }
+
+            Iterator<ReservationResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReservationResponse row = iterator.next();
+                writer.write(format == ExportFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등
+            log.warn("Reservation export aborted after {} rows: {}", count, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+        log.info("Reservation export completed: format={}, rows={}", format, count);
+        return count;
+    }
+
+    private String toCsvLine(ReservationResponse row) {
+        return String.join(",",
+                csv(row.getId()),
+                csv(row.getMemberId()),
+                csv(row.getMemberName()),
+                csv(row.getRoomId()),
+                csv(row.getRoomName()),
+                csv(row.getAccommodationName()),
+                csv(row.getCheckInDate()),
+                csv(row.getCheckOutDate()),
+                csv(row.getGuestCount()),
+                csv(row.getTotalPrice()),
+                csv(row.getStatus()),
+                csv(row.getSpecialRequests()),
+                csv(row.getCancellationReason()),
+                csv(row.getCreatedAt()),
+                csv(row.getUpdatedAt()));
+    }
+
+    // RFC 4180 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
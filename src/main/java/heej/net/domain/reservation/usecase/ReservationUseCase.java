@@ -1,9 +1,22 @@
 package heej.net.domain.reservation.usecase;
 
+import heej.net.common.pagination.CursorPage;
+import heej.net.domain.reservation.api.dto.AvailableAccommodationResponse;
+import heej.net.domain.reservation.api.dto.AvailableAccommodationSearchRequest;
+import heej.net.domain.reservation.api.dto.BookingTicketResponse;
 import heej.net.domain.reservation.api.dto.CheckAvailabilityResponse;
 import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.FlexibleStayResponse;
+import heej.net.domain.reservation.api.dto.FlexibleStaySearchRequest;
+import heej.net.domain.reservation.api.dto.GroupReservationRequest;
+import heej.net.domain.reservation.api.dto.GroupReservationResponse;
+import heej.net.domain.reservation.api.dto.ReservationExportRequest;
 import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.api.dto.RoomCalendarResponse;
 
+import org.springframework.data.domain.Slice;
+
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -11,19 +24,48 @@ public interface ReservationUseCase {
 
     ReservationResponse createReservation(Long memberId, CreateReservationRequest request);
 
-    void cancelReservation(Long memberId, Long reservationId, String reason);
+    // 여러 객실을 한 트랜잭션으로 예약 (전부 성공 또는 전부 실패)
+    GroupReservationResponse createGroupReservation(Long memberId, GroupReservationRequest request);
+
+    // 예약 요청을 객실별 대기열에 등록하고 티켓을 반환 (비동기 처리)
+    BookingTicketResponse submitReservation(Long memberId, CreateReservationRequest request);
+
+    BookingTicketResponse getBookingTicket(Long memberId, String ticketId);
+
+    // 취소된 예약 정보를 반환
+    ReservationResponse cancelReservation(Long memberId, Long reservationId, String reason);
+
+    // includeArchived 가 true 면 보관된(오래된 종료) 예약도 함께 조회
+    List<ReservationResponse> getMyReservations(Long memberId, boolean includeArchived);
 
-    List<ReservationResponse> getMyReservations(Long memberId);
+    // 최신순 커서 페이지 조회 (cursor 가 없으면 첫 페이지)
+    CursorPage<ReservationResponse> getMyReservations(Long memberId, String cursor, int size, boolean includeArchived);
 
-    ReservationResponse getReservation(Long memberId, Long reservationId);
+    ReservationResponse getReservation(Long memberId, Long reservationId, boolean includeArchived);
 
+    // 내보내기 조건 검증 - 응답 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 스트리밍 전에 호출
+    void validateExportRequest(ReservationExportRequest request);
+
+    // 조건에 맞는 예약을 CSV/NDJSON 으로 out 에 바로 씀 (memberId 가 null 이면 전체 회원)
+    long exportReservations(Long memberId, ReservationExportRequest request, OutputStream out);
+
+    // amenities 가 있으면 해당 편의시설을 모두 갖춘 객실만
     List<CheckAvailabilityResponse> checkAvailability(
             Long accommodationId,
             LocalDate checkInDate,
             LocalDate checkOutDate,
-            Integer guestCount
+            Integer guestCount,
+            List<String> amenities
     );
 
+    // 숙소 조건 + 날짜/인원으로 빈 객실이 있는 숙소만 조회 (숙소별 가장 싼 객실과 총액 포함)
+    Slice<AvailableAccommodationResponse> searchAvailableAccommodations(AvailableAccommodationSearchRequest request);
+
+    // 기간 안에서 N박 예약 가능한 (객실, 체크인) 조합을 가장 싼/이른 순으로 limit 건 조회
+    List<FlexibleStayResponse> searchFlexibleStays(FlexibleStaySearchRequest request);
+
+    // 객실의 기간 내 예약/공휴일/예약 가능일을 구간 단위로 조회
+    RoomCalendarResponse getRoomCalendar(Long roomId, LocalDate from, LocalDate to);
 
 }
 
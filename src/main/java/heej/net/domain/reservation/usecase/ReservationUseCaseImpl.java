@@ -1,27 +1,63 @@
 package heej.net.domain.reservation.usecase;
 
+import heej.net.common.pagination.Cursor;
+import heej.net.common.pagination.CursorPage;
 import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Amenity;
 import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.holiday.api.dto.HolidayResponse;
 import heej.net.domain.holiday.usecase.HolidayUseCase;
 import heej.net.domain.member.infra.MemberInfra;
 import heej.net.domain.member.model.Member;
+import heej.net.domain.pricing.usecase.PricingEngine;
+import heej.net.domain.reservation.api.dto.AvailableAccommodationResponse;
+import heej.net.domain.reservation.api.dto.AvailableAccommodationSearchRequest;
+import heej.net.domain.reservation.api.dto.BookingTicketResponse;
 import heej.net.domain.reservation.api.dto.CheckAvailabilityResponse;
 import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.FlexibleStayResponse;
+import heej.net.domain.reservation.api.dto.FlexibleStaySearchRequest;
+import heej.net.domain.reservation.api.dto.GroupReservationRequest;
+import heej.net.domain.reservation.api.dto.GroupReservationResponse;
 import heej.net.domain.reservation.api.dto.ReservationCancelResponse;
+import heej.net.domain.reservation.api.dto.ReservationExportRequest;
 import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.api.dto.RoomCalendarResponse;
+import heej.net.domain.reservation.event.RoomAvailabilityChangedEvent;
+import heej.net.domain.reservation.infra.ReservationArchiveInfra;
+import heej.net.domain.reservation.infra.BookingTicketRecord;
 import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.infra.ReservationStay;
+import heej.net.domain.reservation.model.BookingMode;
 import heej.net.domain.reservation.model.Reservation;
-import heej.net.domain.reservation.model.ReservationStatus;
+import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -32,22 +68,161 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
     private final ReservationInfra reservationInfra;
     private final MemberInfra memberInfra;
     private final RoomInfra roomInfra;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationBookingSupport bookingSupport;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationBookingQueue bookingQueue;
     private final HolidayUseCase holidayUseCase;
+    private final ReservationExportWriter exportWriter;
+    private final ReservationArchiveInfra reservationArchiveInfra;
+    private final PricingEngine pricingEngine;
+    private final FlexibleStaySearch flexibleStaySearch;
+    private final AvailableAccommodationSearch availableAccommodationSearch;
+
+    private static final Comparator<ReservationResponse> HISTORY_ORDER = Comparator
+            .comparing(ReservationResponse::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(ReservationResponse::getId, Comparator.reverseOrder());
+
+    @Value("${reservation.booking.mode:PESSIMISTIC}")
+    private BookingMode bookingMode;
+
+    @Value("${reservation.booking.optimistic.max-retries:3}")
+    private int optimisticMaxRetries;
+
+    @Value("${reservation.booking.optimistic.backoff-ms:20}")
+    private long optimisticBackoffMillis;
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReservationResponse createReservation(Long memberId, CreateReservationRequest request) {
-        log.info("Creating reservation for member: {}, room: {}", memberId, request.getRoomId());
+        log.info("Creating reservation for member: {}, room: {}, mode: {}",
+                memberId, request.getRoomId(), bookingMode);
 
-        validateReservationRequest(request);
+        bookingSupport.validateReservationRequest(request);
+        bookingSupport.validateNotHoliday(request.getCheckInDate(), request.getCheckOutDate());
+
+        if (bookingMode == BookingMode.OPTIMISTIC) {
+            return createReservationOptimistic(memberId, request);
+        }
+        if (bookingMode == BookingMode.ROOM_NIGHTS) {
+            return transactionTemplate.execute(status -> bookWithRoomNights(memberId, request));
+        }
+        return transactionTemplate.execute(status -> bookWithPessimisticLock(memberId, request));
+    }
+
+    @Override
+    @Transactional
+    public GroupReservationResponse createGroupReservation(Long memberId, GroupReservationRequest request) {
+        List<CreateReservationRequest> items = request.getItems();
+        log.info("Creating group reservation for member: {}, rooms: {}", memberId, items.size());
+
+        items.forEach(bookingSupport::validateReservationRequest);
+        bookingSupport.validateNotHoliday(items);
 
         Member member = memberInfra.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
 
-        Room room = roomInfra.findByIdWithLock(request.getRoomId())
+        // 객실 ID 오름차순으로 한 번에 잠금 - 요청 간 잠금 순서가 같아 교착 상태가 생기지 않음
+        List<Long> roomIds = items.stream()
+                .map(CreateReservationRequest::getRoomId)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        Map<Long, Room> rooms = roomInfra.findAllByIdWithLock(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, room -> room));
+        if (rooms.size() != roomIds.size()) {
+            throw new IllegalArgumentException("객실을 찾을 수 없습니다.");
+        }
+
+        // 전체 객실의 점유일을 한 번에 조회한 뒤, 요청 항목끼리의 중복까지 메모리에서 확인
+        LocalDate from = items.stream().map(CreateReservationRequest::getCheckInDate)
+                .min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = items.stream().map(CreateReservationRequest::getCheckOutDate)
+                .max(LocalDate::compareTo).orElseThrow();
+        Map<Long, Set<LocalDate>> occupied = new HashMap<>();
+        reservationInfra.findOccupiedNightsWithLock(roomIds, from, to).forEach(night ->
+                occupied.computeIfAbsent(night.getRoomId(), id -> new HashSet<>()).add(night.getStayDate()));
+
+        for (CreateReservationRequest item : items) {
+            Set<LocalDate> roomNights = occupied.computeIfAbsent(item.getRoomId(), id -> new HashSet<>());
+            for (LocalDate date = item.getCheckInDate(); !date.isAfter(item.getCheckOutDate()); date = date.plusDays(1)) {
+                if (!roomNights.add(date)) {
+                    throw new IllegalArgumentException(String.format(
+                            "객실(%s)의 해당 기간에 이미 예약이 있습니다.", rooms.get(item.getRoomId()).getName()));
+                }
+            }
+        }
+
+        List<Reservation> reservations = items.stream()
+                .map(item -> bookingSupport.buildReservation(member, rooms.get(item.getRoomId()), item))
+                .collect(Collectors.toList());
+        List<Reservation> saved = reservationInfra.saveAll(reservations);
+        reservationInfra.occupyRoomNights(saved);
+
+        saved.forEach(reservation -> eventPublisher.publishEvent(RoomAvailabilityChangedEvent.occupied(
+                reservation.getRoom().getId(), reservation.getCheckInDate(), reservation.getCheckOutDate())));
+        log.info("Group reservation created: ids={}",
+                saved.stream().map(Reservation::getId).collect(Collectors.toList()));
+
+        return GroupReservationResponse.builder()
+                .reservations(saved.stream().map(bookingSupport::toResponse).collect(Collectors.toList()))
+                .totalPrice(saved.stream().map(Reservation::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+    }
+
+    @Override
+    public BookingTicketResponse submitReservation(Long memberId, CreateReservationRequest request) {
+        log.info("Queueing reservation for member: {}, room: {}", memberId, request.getRoomId());
+
+        // 날짜 형식 오류는 대기열에 넣기 전에 바로 거절
+        bookingSupport.validateReservationRequest(request);
+
+        BookingTicket ticket = bookingQueue.submit(memberId, request);
+        return toTicketResponse(ticket.toRecord(), bookingQueue.getQueueDepth());
+    }
+
+    @Override
+    public BookingTicketResponse getBookingTicket(Long memberId, String ticketId) {
+        BookingTicketRecord ticket = bookingQueue.getTicket(ticketId)
+                .filter(found -> found.getMemberId().equals(memberId))
+                .orElseThrow(() -> new IllegalArgumentException("예약 요청을 찾을 수 없습니다."));
+        return toTicketResponse(ticket, null);
+    }
+
+    private BookingTicketResponse toTicketResponse(BookingTicketRecord ticket, Integer queueDepth) {
+        return BookingTicketResponse.builder()
+                .ticketId(ticket.getTicketId())
+                .status(ticket.getStatus())
+                .queueDepth(queueDepth)
+                .reservation(ticket.getReservation())
+                .message(ticket.getMessage())
+                .requestedAt(ticket.getRequestedAt())
+                .completedAt(ticket.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * 점유일 재고 방식: 락 없이 예약과 점유일 행을 INSERT 하고, 중복 키 오류로 충돌을 판정합니다.
+     */
+    private ReservationResponse bookWithRoomNights(Long memberId, CreateReservationRequest request) {
+        Member member = memberInfra.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+
+        Room room = roomInfra.findById(request.getRoomId())
                 .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다."));
 
-        validateNotHoliday(request.getCheckInDate(), request.getCheckOutDate());
+        return bookingSupport.saveReservation(member, room, request);
+    }
+
+    /**
+     * 비관적 락 방식: 객실 행을 PESSIMISTIC_WRITE로 잠근 뒤 중복 예약을 확인합니다.
+     */
+    private ReservationResponse bookWithPessimisticLock(Long memberId, CreateReservationRequest request) {
+        Member member = memberInfra.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+
+        Room room = roomInfra.findByIdWithLock(request.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다."));
 
         if (reservationInfra.hasOverlappingReservationWithLock(
                 request.getRoomId(),
@@ -56,91 +231,181 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
             throw new IllegalArgumentException("해당 기간에 이미 예약이 있습니다.");
         }
 
-        if (request.getGuestCount() > room.getMaxCapacity()) {
-            throw new IllegalArgumentException(
-                    String.format("최대 수용 인원(%d명)을 초과했습니다.", room.getMaxCapacity()));
+        return bookingSupport.saveReservation(member, room, request);
+    }
+
+    /**
+     * 낙관적 락 방식: 락 없이 객실을 읽고, 예약 저장과 함께 객실 version을 올립니다.
+     * 같은 객실에 동시에 커밋된 예약이 있으면 version 충돌이 나므로 지터를 두고 재시도합니다.
+     */
+    private ReservationResponse createReservationOptimistic(Long memberId, CreateReservationRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> bookWithOptimisticLock(memberId, request));
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt > optimisticMaxRetries) {
+                    log.warn("Optimistic booking failed after {} attempts: room={}", attempt, request.getRoomId());
+                    throw new IllegalStateException("예약 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.info("Optimistic booking conflict, retrying: room={}, attempt={}", request.getRoomId(), attempt);
+                backoff(attempt);
+            }
         }
+    }
 
-        long nights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
-        BigDecimal totalPrice = room.getPricePerNight().multiply(BigDecimal.valueOf(nights));
-
-        Reservation reservation = Reservation.builder()
-                .member(member)
-                .room(room)
-                .checkInDate(request.getCheckInDate())
-                .checkOutDate(request.getCheckOutDate())
-                .guestCount(request.getGuestCount())
-                .totalPrice(totalPrice)
-                .status(ReservationStatus.PENDING)
-                .specialRequests(request.getSpecialRequests())
-                .build();
+    private ReservationResponse bookWithOptimisticLock(Long memberId, CreateReservationRequest request) {
+        Member member = memberInfra.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다."));
+
+        // 커밋 시점에 version을 증가시켜 같은 객실에 대한 동시 예약을 직렬화
+        Room room = roomInfra.findByIdWithVersionIncrement(request.getRoomId())
+                .orElseThrow(() -> new IllegalArgumentException("객실을 찾을 수 없습니다."));
+
+        if (reservationInfra.hasOverlappingReservationInDatabase(
+                request.getRoomId(),
+                request.getCheckInDate(),
+                request.getCheckOutDate())) {
+            throw new IllegalArgumentException("해당 기간에 이미 예약이 있습니다.");
+        }
 
-        Reservation savedReservation = reservationInfra.save(reservation);
-        log.info("Reservation created: id={}", savedReservation.getId());
+        return bookingSupport.saveReservation(member, room, request);
+    }
 
-        return toResponse(savedReservation);
+    private void backoff(int attempt) {
+        // 지수 백오프 + 지터 (동시에 실패한 요청들이 같은 시점에 재시도하지 않도록)
+        long base = optimisticBackoffMillis * (1L << Math.min(attempt - 1, 5));
+        long delay = base + ThreadLocalRandom.current().nextLong(optimisticBackoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("예약 처리 중 인터럽트가 발생했습니다.", e);
+        }
     }
 
     @Override
     @Transactional
-    public void cancelReservation(Long memberId, Long reservationId, String reason) {
+    public ReservationResponse cancelReservation(Long memberId, Long reservationId, String reason) {
         log.info("Cancelling reservation: memberId={}, reservationId={}", memberId, reservationId);
 
-        Reservation reservation = reservationInfra.findById(reservationId)
+        // 조건부 UPDATE 한 번으로 본인 확인/상태 확인/취소를 함께 처리
+        if (!reservationInfra.cancelIfActive(reservationId, memberId, reason)) {
+            throw cancelFailure(memberId, reservationId);
+        }
+        reservationInfra.releaseRoomNights(reservationId);
+
+        ReservationResponse cancelled = reservationInfra.findResponseByIdAndMemberId(reservationId, memberId)
                 .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
 
-        // 본인 예약 확인
-        if (!reservation.getMember().getId().equals(memberId)) {
-            throw new IllegalArgumentException("본인의 예약만 취소할 수 있습니다.");
-        }
+        eventPublisher.publishEvent(RoomAvailabilityChangedEvent.released(
+                cancelled.getRoomId(), cancelled.getCheckInDate(), cancelled.getCheckOutDate()));
+        log.info("Reservation cancelled successfully: id={}", reservationId);
+        return cancelled;
+    }
 
-        // 이미 취소되었거나 완료된 예약인지 확인
-        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
-            throw new IllegalArgumentException("이미 취소된 예약입니다.");
+    // 취소된 행이 없을 때만 원인(없음/타인 예약/종료 상태)을 조회
+    private IllegalArgumentException cancelFailure(Long memberId, Long reservationId) {
+        Optional<ReservationResponse> own = reservationInfra.findResponseByIdAndMemberId(reservationId, memberId);
+        if (own.isEmpty()) {
+            return new IllegalArgumentException(reservationInfra.existsById(reservationId)
+                    ? "본인의 예약만 취소할 수 있습니다."
+                    : "예약을 찾을 수 없습니다.");
         }
-        if (reservation.getStatus() == ReservationStatus.COMPLETED) {
-            throw new IllegalArgumentException("이미 완료된 예약은 취소할 수 없습니다.");
+        return switch (own.get().getStatus()) {
+            case CANCELLED -> new IllegalArgumentException("이미 취소된 예약입니다.");
+            case COMPLETED -> new IllegalArgumentException("이미 완료된 예약은 취소할 수 없습니다.");
+            default -> new IllegalArgumentException("취소할 수 없는 예약 상태입니다: " + own.get().getStatus());
+        };
+    }
+
+    @Override
+    public List<ReservationResponse> getMyReservations(Long memberId, boolean includeArchived) {
+        List<ReservationResponse> reservations = reservationInfra.findResponsesByMemberId(memberId);
+        if (!includeArchived) {
+            return reservations;
         }
+        return mergeHistory(reservations, reservationArchiveInfra.findResponsesByMemberId(memberId), Integer.MAX_VALUE);
+    }
 
-        reservation.cancel(reason);
-        reservationInfra.save(reservation);
-        log.info("Reservation cancelled successfully: id={}", reservationId);
+    @Override
+    public CursorPage<ReservationResponse> getMyReservations(Long memberId, String cursor, int size, boolean includeArchived) {
+        CursorPage.validateSize(size);
+        Cursor decoded = Cursor.decode(cursor);
+        List<ReservationResponse> fetched = reservationInfra.findResponsePageByMemberId(memberId, decoded, size + 1);
+        if (includeArchived) {
+            // 두 테이블에서 같은 커서 이후를 size + 1 건씩 읽어 (createdAt, id) 순으로 병합
+            fetched = mergeHistory(fetched,
+                    reservationArchiveInfra.findResponsePageByMemberId(memberId, decoded, size + 1), size + 1);
+        }
+        return CursorPage.of(fetched, size,
+                reservation -> new Cursor(reservation.getCreatedAt(), reservation.getId()));
     }
 
     @Override
-    public List<ReservationResponse> getMyReservations(Long memberId) {
-        List<Reservation> reservations = reservationInfra.findByMemberId(memberId);
-        return reservations.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public void validateExportRequest(ReservationExportRequest request) {
+        if (request.getFromDate() != null && request.getToDate() != null
+                && request.getToDate().isBefore(request.getFromDate())) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다.");
+        }
     }
 
     @Override
-    public ReservationResponse getReservation(Long memberId, Long reservationId) {
-        Reservation reservation = reservationInfra.findById(reservationId)
-                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+    public long exportReservations(Long memberId, ReservationExportRequest request, OutputStream out) {
+        validateExportRequest(request);
+        log.info("Exporting reservations: memberId={}, accommodationId={}, status={}, dates: {} ~ {}, format={}",
+                memberId, request.getAccommodationId(), request.getStatus(),
+                request.getFromDate(), request.getToDate(), request.getFormat());
+
+        // 스트림은 이 트랜잭션(읽기 전용) 안에서 모두 소비한 뒤 닫음
+        try (Stream<ReservationResponse> rows = reservationInfra.streamResponses(
+                memberId, request.getAccommodationId(), request.getStatus(),
+                request.getFromDate(), request.getToDate())) {
+            return exportWriter.write(rows, request.getFormat(), out);
+        }
+    }
 
-        // 본인 예약 확인
-        if (!reservation.getMember().getId().equals(memberId)) {
-            throw new IllegalArgumentException("본인의 예약만 조회할 수 있습니다.");
+    @Override
+    public ReservationResponse getReservation(Long memberId, Long reservationId, boolean includeArchived) {
+        // 본인 예약 여부는 조회 조건에 포함 (다른 회원의 예약은 찾을 수 없음으로 처리)
+        Optional<ReservationResponse> reservation = reservationInfra.findResponseByIdAndMemberId(reservationId, memberId);
+        if (reservation.isEmpty() && includeArchived) {
+            reservation = reservationArchiveInfra.findResponseByIdAndMemberId(reservationId, memberId);
         }
+        return reservation.orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+    }
 
-        return toResponse(reservation);
+    // 최신순(createdAt, id 내림차순)으로 정렬된 두 목록을 병합해 최대 limit 건 반환
+    private List<ReservationResponse> mergeHistory(List<ReservationResponse> active, List<ReservationResponse> archived,
+                                                   int limit) {
+        if (archived.isEmpty()) {
+            return active;
+        }
+        return Stream.concat(active.stream(), archived.stream())
+                .sorted(HISTORY_ORDER)
+                .limit(limit)
+                .collect(Collectors.toList());
     }
+
     @Override
     @Transactional(readOnly = true)
     public List<CheckAvailabilityResponse> checkAvailability(
             Long accommodationId,
             LocalDate checkInDate,
             LocalDate checkOutDate,
-            Integer guestCount) {
-        log.info("Checking availability for accommodation: {}, dates: {} ~ {}, guests: {}",
-                accommodationId, checkInDate, checkOutDate, guestCount);
+            Integer guestCount,
+            List<String> amenities) {
+        log.info("Checking availability for accommodation: {}, dates: {} ~ {}, guests: {}, amenities: {}",
+                accommodationId, checkInDate, checkOutDate, guestCount, amenities);
+
+        long amenityMask = Amenity.requiredMaskOf(amenities);
 
         List<Room> rooms;
         if (accommodationId != null) {
             // 특정 숙소의 객실만 조회
             rooms = roomInfra.findAllByAccommodationId(accommodationId);
+        } else if (amenityMask != 0L) {
+            // 편의시설 인덱스에서 조건을 모두 갖춘 객실만 골라 조회
+            rooms = roomInfra.findAllById(roomInfra.findRoomIdsWithAmenities(amenityMask));
         } else {
             // 전체 객실 조회 (guestCount 필터 적용)
             if (guestCount != null) {
@@ -155,25 +420,28 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
             return List.of(); // 빈 리스트 반환 (예외 대신)
         }
 
-        return rooms.stream()
-                .filter(room -> {
-                    if (guestCount != null && room.getMaxCapacity() < guestCount) {
-                        return false;
-                    }
-                    return true;
-                })
-                .map(room -> {
-                    // 예약 가능 여부 확인 (중복 예약 체크)
-                    boolean hasOverlapping = reservationInfra.hasOverlappingReservation(
-                            room.getId(), checkInDate, checkOutDate);
-                    boolean isAvailable = !hasOverlapping;
+        List<Room> candidates = rooms.stream()
+                .filter(room -> guestCount == null || room.getMaxCapacity() >= guestCount)
+                .filter(room -> room.hasAmenities(amenityMask))
+                .collect(Collectors.toList());
+
+        // 후보 객실 전체의 중복 예약 여부를 한 번에 확인
+        Set<Long> unavailableRoomIds = reservationInfra.findConflictingRoomIds(
+                candidates.stream().map(Room::getId).collect(Collectors.toList()),
+                checkInDate, checkOutDate);
 
-                    // 숙박일수 계산
-                    long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        // 숙박일수 계산
+        long nights = ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+
+        // 후보 객실의 요금표를 한 번에 준비한 뒤 객실별 총액은 O(1)로 계산
+        pricingEngine.warm(candidates);
+
+        return candidates.stream()
+                .map(room -> {
+                    boolean isAvailable = !unavailableRoomIds.contains(room.getId());
 
                     // 총 가격 계산
-                    BigDecimal totalPrice = room.getPricePerNight()
-                            .multiply(BigDecimal.valueOf(nights));
+                    BigDecimal totalPrice = pricingEngine.quote(room, checkInDate, checkOutDate);
 
                     return CheckAvailabilityResponse.builder()
                             .roomId(room.getId())
@@ -191,66 +459,86 @@ public class ReservationUseCaseImpl implements ReservationUseCase {
                 .collect(Collectors.toList());
     }
 
-    private void validateReservationRequest(CreateReservationRequest request) {
-        // 체크아웃이 체크인보다 이후인지 확인
-        if (!request.getCheckOutDate().isAfter(request.getCheckInDate())) {
-            throw new IllegalArgumentException("체크아웃 날짜는 체크인 날짜보다 이후여야 합니다.");
+    @Override
+    public List<FlexibleStayResponse> searchFlexibleStays(FlexibleStaySearchRequest request) {
+        return flexibleStaySearch.search(request);
+    }
+
+    @Override
+    public Slice<AvailableAccommodationResponse> searchAvailableAccommodations(
+            AvailableAccommodationSearchRequest request) {
+        return availableAccommodationSearch.search(request);
+    }
+
+    // 달력 조회 최대 기간 (일)
+    private static final int MAX_CALENDAR_DAYS = 366;
+
+    @Override
+    public RoomCalendarResponse getRoomCalendar(Long roomId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("달력은 최대 " + MAX_CALENDAR_DAYS + "일까지 조회할 수 있습니다.");
+        }
+        if (roomInfra.findById(roomId).isEmpty()) {
+            throw new IllegalArgumentException("객실을 찾을 수 없습니다.");
         }
 
-        // 오늘 이후 날짜인지 확인
-        LocalDate today = LocalDate.now();
-        if (request.getCheckInDate().isBefore(today)) {
-            throw new IllegalArgumentException("체크인 날짜는 오늘 이후여야 합니다.");
+        // 체크인 순으로 정렬된 예약을 겹치거나 맞닿은 구간끼리 병합 (정렬된 구간 리스트)
+        List<LocalDate[]> occupied = new ArrayList<>();
+        for (ReservationStay stay : reservationInfra.findActiveStaysByRoomId(roomId, from, to)) {
+            LocalDate[] last = occupied.isEmpty() ? null : occupied.get(occupied.size() - 1);
+            if (last != null && !stay.getCheckInDate().isAfter(last[1].plusDays(1))) {
+                if (stay.getCheckOutDate().isAfter(last[1])) {
+                    last[1] = stay.getCheckOutDate();
+                }
+            } else {
+                occupied.add(new LocalDate[]{stay.getCheckInDate(), stay.getCheckOutDate()});
+            }
         }
 
-        // 최대 30일 이내 예약만 가능
-        long nights = ChronoUnit.DAYS.between(request.getCheckInDate(), request.getCheckOutDate());
-        if (nights > 30) {
-            throw new IllegalArgumentException("최대 30일까지만 예약 가능합니다.");
+        Map<LocalDate, String> holidays = new HashMap<>();
+        for (HolidayResponse holiday : holidayUseCase.getHolidaysByDateRange(from, to)) {
+            holidays.put(holiday.getHolidayDate(), holiday.getHolidayName());
         }
-    }
 
-    private void validateNotHoliday(LocalDate checkInDate, LocalDate checkOutDate) {
-        // 체크인 날짜부터 체크아웃 전날까지 공휴일 체크
-        LocalDate date = checkInDate;
-        while (date.isBefore(checkOutDate)) {
-            boolean isHoliday = holidayUseCase.isHoliday(date);
-            log.debug("Checking holiday for date: {}, isHoliday: {}", date, isHoliday);
-
-            if (isHoliday) {
-                String holidayName = holidayUseCase.getHoliday(date) != null
-                        ? holidayUseCase.getHoliday(date).getHolidayName()
-                        : "";
-                log.warn("Holiday detected: date={}, name={}", date, holidayName);
-                throw new IllegalArgumentException(
-                        String.format("공휴일(%s, %s)에는 예약할 수 없습니다.",
-                                date, holidayName));
+        // 날짜를 한 번 훑으면서 같은 상태가 이어지는 날을 하나의 구간으로 묶음
+        // (예약 > 공휴일 > 예약 가능 순으로 우선)
+        List<RoomCalendarResponse.Range> ranges = new ArrayList<>();
+        RoomCalendarResponse.Range current = null;
+        int cursor = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            while (cursor < occupied.size() && occupied.get(cursor)[1].isBefore(date)) {
+                cursor++;
+            }
+            boolean isOccupied = cursor < occupied.size() && !occupied.get(cursor)[0].isAfter(date);
+
+            RoomCalendarResponse.DayStatus status;
+            String holidayName = null;
+            if (isOccupied) {
+                status = RoomCalendarResponse.DayStatus.OCCUPIED;
+            } else if (holidays.containsKey(date)) {
+                status = RoomCalendarResponse.DayStatus.HOLIDAY;
+                holidayName = holidays.get(date);
+            } else {
+                status = RoomCalendarResponse.DayStatus.FREE;
+            }
+
+            if (current != null && current.getStatus() == status
+                    && Objects.equals(current.getHolidayName(), holidayName)) {
+                current.extendTo(date);
+            } else {
+                current = new RoomCalendarResponse.Range(date, date, status, holidayName);
+                ranges.add(current);
             }
-            date = date.plusDays(1);
         }
-        log.info("No holidays found in reservation period: {} ~ {}", checkInDate, checkOutDate);
-    }
 
-    private ReservationResponse toResponse(Reservation reservation) {
-        return ReservationResponse.builder()
-                .id(reservation.getId())
-                .memberId(reservation.getMember().getId())
-                .memberName(reservation.getMember().getName())
-                .roomId(reservation.getRoom().getId())
-                .roomName(reservation.getRoom().getName())
-                .accommodationName(reservation.getRoom().getAccommodation().getName())
-                .checkInDate(reservation.getCheckInDate())
-                .checkOutDate(reservation.getCheckOutDate())
-                .guestCount(reservation.getGuestCount())
-                .totalPrice(reservation.getTotalPrice())
-                .status(reservation.getStatus())
-                .specialRequests(reservation.getSpecialRequests())
-                .cancellationReason(reservation.getCancellationReason())
-                .createdAt(reservation.getCreatedAt())
-                .updatedAt(reservation.getUpdatedAt())
+        return RoomCalendarResponse.builder()
+                .roomId(roomId)
+                .from(from)
+                .to(to)
+                .ranges(ranges)
                 .build();
     }
-
-
 }
-
@@ -1,17 +1,27 @@
 package heej.net.health;
 
+import heej.net.common.cache.CacheStats;
+import heej.net.domain.accommodation.usecase.AccommodationSearchCache;
+import heej.net.domain.reservation.scheduler.ReservationLifecycleScheduler;
+import heej.net.domain.reservation.scheduler.ReservationLifecycleStats;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 public class HealthCheckController {
 
+    private final AccommodationSearchCache accommodationSearchCache;
+    private final ReservationLifecycleScheduler reservationLifecycleScheduler;
+
     @GetMapping
     public ResponseEntity<Map<String, String>> healthCheck() {
         Map<String, String> response = new HashMap<>();
@@ -19,5 +29,22 @@ public class HealthCheckController {
         response.put("message", "Application is running");
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * 메모리 캐시 통계 (적중률, 크기 초과/TTL 만료/무효화 건수)
+     * GET /api/health/caches
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<List<CacheStats>> cacheStats() {
+        return ResponseEntity.ok(List.of(accommodationSearchCache.stats()));
+    }
+
+    /**
+     * 예약 상태 일괄 변경 배치 통계 (실행 횟수, 만료/완료 건수)
+     * GET /api/health/reservation-lifecycle
+     */
+    @GetMapping("/reservation-lifecycle")
+    public ResponseEntity<ReservationLifecycleStats> reservationLifecycleStats() {
+        return ResponseEntity.ok(reservationLifecycleScheduler.stats());
+    }
+}
@@ -39,5 +39,10 @@ public class SecurityUtil {
                 && !(authentication.getPrincipal() instanceof String
                 && "anonymousUser".equals(authentication.getPrincipal()));
     }
-}
 
+    public static boolean hasAuthority(String authority) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(granted -> authority.equals(granted.getAuthority()));
+    }
+}
@@ -0,0 +1,22 @@
+-- 숙소별 객실 요약 (최저/최고 1박 요금, 객실 수, 최대 수용 인원) - 가격 필터/정렬을 객실 조인 없이 처리
+ALTER TABLE accommodations
+    ADD COLUMN min_price_per_night DECIMAL(10, 2),
+    ADD COLUMN max_price_per_night DECIMAL(10, 2),
+    ADD COLUMN room_count          INT NOT NULL DEFAULT 0,
+    ADD COLUMN max_room_capacity   INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_accommodation_price ON accommodations (min_price_per_night, max_price_per_night);
+
+-- 기존 데이터 집계
+UPDATE accommodations a
+    LEFT JOIN (SELECT accommodation_id,
+                      MIN(price_per_night) AS min_price,
+                      MAX(price_per_night) AS max_price,
+                      COUNT(*)             AS room_count,
+                      MAX(max_capacity)    AS max_capacity
+               FROM rooms
+               GROUP BY accommodation_id) s ON s.accommodation_id = a.id
+SET a.min_price_per_night = s.min_price,
+    a.max_price_per_night = s.max_price,
+    a.room_count          = COALESCE(s.room_count, 0),
+    a.max_room_capacity   = COALESCE(s.max_capacity, 0);
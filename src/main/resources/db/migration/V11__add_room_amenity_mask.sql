@@ -0,0 +1,27 @@
+-- 객실 편의시설 비트마스크 (Amenity.bit) - 편의시설 필터를 JSON 파싱 없이 비트 AND 로 처리
+ALTER TABLE rooms
+    ADD COLUMN amenity_mask BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 편의시설 JSON 에서 비트마스크 채우기 (Amenity 의 표시 이름/별칭 기준, 사전에 없는 이름은 표시용으로만 유지)
+-- 애플리케이션 시작 시에도 마스크가 비어 있는 객실을 같은 규칙으로 채움 (RoomAmenityIndexScheduler)
+UPDATE rooms
+SET amenity_mask =
+        IF(JSON_CONTAINS(amenities_json, '"무료 Wi-Fi"') OR JSON_CONTAINS(amenities_json, '"Wi-Fi"') OR JSON_CONTAINS(amenities_json, '"와이파이"'), 1, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"주차"') OR JSON_CONTAINS(amenities_json, '"무료 주차"') OR JSON_CONTAINS(amenities_json, '"주차장"'), 2, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"에어컨"'), 4, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"TV"'), 8, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"미니바"'), 16, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"헤어드라이어"'), 32, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"커피머신"'), 64, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"욕조"'), 128, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"발코니"'), 256, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"주방"'), 512, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"공용 샤워실"'), 1024, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"사물함"'), 2048, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"조식"') OR JSON_CONTAINS(amenities_json, '"조식 포함"'), 4096, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"수영장"'), 8192, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"피트니스"') OR JSON_CONTAINS(amenities_json, '"헬스장"'), 16384, 0) |
+        IF(JSON_CONTAINS(amenities_json, '"반려동물 동반"'), 32768, 0)
+WHERE amenities_json IS NOT NULL
+  AND amenities_json <> ''
+  AND JSON_VALID(amenities_json);
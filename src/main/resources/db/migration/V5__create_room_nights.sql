@@ -0,0 +1,23 @@
+-- 객실 점유일 재고 테이블 (객실 x 날짜 당 1행, 기본키 중복으로 예약 충돌 판정)
+CREATE TABLE IF NOT EXISTS room_nights (
+    room_id        BIGINT NOT NULL,
+    stay_date      DATE   NOT NULL,
+    reservation_id BIGINT NOT NULL,
+    PRIMARY KEY (room_id, stay_date),
+    KEY idx_room_night_reservation (reservation_id),
+    CONSTRAINT fk_room_night_reservation FOREIGN KEY (reservation_id)
+        REFERENCES reservations (id) ON DELETE CASCADE
+);
+
+-- 기존 활성 예약의 점유일 채우기 (체크인 ~ 체크아웃 당일)
+INSERT IGNORE INTO room_nights (room_id, stay_date, reservation_id)
+WITH RECURSIVE stay AS (
+    SELECT id AS reservation_id, room_id, check_in_date AS stay_date, check_out_date
+    FROM reservations
+    WHERE status IN ('PENDING', 'CONFIRMED')
+    UNION ALL
+    SELECT reservation_id, room_id, stay_date + INTERVAL 1 DAY, check_out_date
+    FROM stay
+    WHERE stay_date < check_out_date
+)
+SELECT room_id, stay_date, reservation_id FROM stay;
@@ -0,0 +1,4 @@
+-- 키셋(커서) 페이지네이션용 복합 인덱스 - (createdAt, id) 내림차순 탐색
+CREATE INDEX idx_reservation_member_created ON reservations (member_id, created_at, id);
+
+CREATE INDEX idx_accommodation_created ON accommodations (created_at, id);
@@ -0,0 +1,4 @@
+-- 예약 상태 일괄 변경(만료/완료) 배치용 인덱스
+CREATE INDEX idx_reservation_status_created ON reservations (status, created_at);
+
+CREATE INDEX idx_reservation_status_checkout ON reservations (status, check_out_date);
@@ -0,0 +1,18 @@
+-- 종료된 지난 예약 보관 테이블 (reservations 와 같은 컬럼 + 보관 시각, 예약 ID 유지)
+CREATE TABLE IF NOT EXISTS reservations_archive (
+    id                  BIGINT         NOT NULL,
+    member_id           BIGINT         NOT NULL,
+    room_id             BIGINT         NOT NULL,
+    check_in_date       DATE           NOT NULL,
+    check_out_date      DATE           NOT NULL,
+    guest_count         INT            NOT NULL,
+    total_price         DECIMAL(10, 2) NOT NULL,
+    status              VARCHAR(20)    NOT NULL,
+    special_requests    VARCHAR(500),
+    cancellation_reason VARCHAR(500),
+    created_at          DATETIME(6)    NOT NULL,
+    updated_at          DATETIME(6),
+    archived_at         DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_reservation_archive_member_created (member_id, created_at, id)
+);
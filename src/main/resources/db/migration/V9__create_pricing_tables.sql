@@ -0,0 +1,23 @@
+-- 요금 규칙 (room_id 가 NULL 이면 전체 객실에 적용, SEASON 만 기간 사용)
+CREATE TABLE IF NOT EXISTS pricing_rules (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    room_id            BIGINT,
+    type               VARCHAR(20)  NOT NULL,
+    name               VARCHAR(100) NOT NULL,
+    start_date         DATE,
+    end_date           DATE,
+    adjustment_percent INT          NOT NULL,
+    created_at         DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_pricing_rule_room (room_id)
+);
+
+-- 객실 날짜별 요금 (규칙보다 우선)
+CREATE TABLE IF NOT EXISTS room_rates (
+    id        BIGINT         NOT NULL AUTO_INCREMENT,
+    room_id   BIGINT         NOT NULL,
+    rate_date DATE           NOT NULL,
+    price     DECIMAL(10, 2) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_room_rate_room_date (room_id, rate_date)
+);
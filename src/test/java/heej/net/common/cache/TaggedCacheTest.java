@@ -0,0 +1,156 @@
+package heej.net.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaggedCacheTest {
+
+    private static final Duration LONG_TTL = Duration.ofHours(1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키는 한 번만 조회하고 이후에는 캐시에서 반환한다")
+    void returnsCachedValueOnHit() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 10, LONG_TTL);
+
+        assertThat(cache.getOrLoad("a", Set.of("t"), () -> load("A"))).isEqualTo("A");
+        assertThat(cache.getOrLoad("a", Set.of("t"), () -> load("other"))).isEqualTo("A");
+
+        assertThat(loads).hasValue(1);
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래 사용되지 않은 항목부터 밀려난다 (조회도 사용으로 침)")
+    void evictsLeastRecentlyUsed() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 2, LONG_TTL);
+        cache.getOrLoad("a", Set.of("t"), () -> load("A"));
+        cache.getOrLoad("b", Set.of("t"), () -> load("B"));
+
+        // a 를 다시 사용했으므로 c 가 들어올 때 b 가 밀려남
+        cache.getOrLoad("a", Set.of("t"), () -> load("A2"));
+        cache.getOrLoad("c", Set.of("t"), () -> load("C"));
+
+        assertThat(cache.getOrLoad("a", Set.of("t"), () -> load("A3"))).isEqualTo("A");
+        assertThat(cache.getOrLoad("b", Set.of("t"), () -> load("B2"))).isEqualTo("B2");
+        CacheStats stats = cache.stats();
+        assertThat(stats.getSize()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(2);
+        assertThat(stats.getExpirations()).isZero();
+    }
+
+    @Test
+    @DisplayName("밀려난 항목의 태그 연결도 끊어, 이후 무효화 건수에 세지 않는다")
+    void unlinksTagsOfEvictedEntries() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 1, LONG_TTL);
+        cache.getOrLoad("a", Set.of("city:서울"), () -> load("A"));
+        cache.getOrLoad("b", Set.of("city:부산"), () -> load("B"));
+
+        assertThat(cache.invalidateTags(List.of("city:서울"))).isZero();
+        assertThat(cache.invalidateTags(List.of("city:부산"))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 다시 조회하고 만료로 집계한다")
+    void reloadsExpiredEntry() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 10, Duration.ZERO);
+        cache.getOrLoad("a", Set.of("t"), () -> load("A"));
+
+        assertThat(cache.getOrLoad("a", Set.of("t"), () -> load("A2"))).isEqualTo("A2");
+
+        assertThat(loads).hasValue(2);
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHits()).isZero();
+        assertThat(stats.getExpirations()).isEqualTo(1);
+        assertThat(stats.getEvictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("크기 초과로 밀려난 항목이 이미 만료된 것이면 밀려남이 아니라 만료로 집계한다")
+    void countsExpiredEldestAsExpiration() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 1, Duration.ZERO);
+        cache.getOrLoad("a", Set.of("t"), () -> load("A"));
+        cache.getOrLoad("b", Set.of("t"), () -> load("B"));
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.getEvictions()).isZero();
+        assertThat(stats.getExpirations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("태그 무효화는 그 태그가 붙은 항목만 버린다")
+    void invalidatesOnlyTaggedEntries() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 10, LONG_TTL);
+        cache.getOrLoad("seoul-1", Set.of("city:서울"), () -> load("S1"));
+        cache.getOrLoad("seoul-2", Set.of("city:서울", "all"), () -> load("S2"));
+        cache.getOrLoad("busan", Set.of("city:부산"), () -> load("B"));
+
+        assertThat(cache.invalidateTags(List.of("city:서울", "all"))).isEqualTo(2);
+
+        assertThat(cache.getOrLoad("busan", Set.of("city:부산"), () -> load("B2"))).isEqualTo("B");
+        assertThat(cache.getOrLoad("seoul-1", Set.of("city:서울"), () -> load("S1-new"))).isEqualTo("S1-new");
+        assertThat(cache.stats().getInvalidations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 도중 같은 태그가 무효화되면 조회 결과를 반환만 하고 저장하지 않는다")
+    void doesNotStoreValueLoadedDuringInvalidation() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 10, LONG_TTL);
+
+        String loaded = cache.getOrLoad("a", Set.of("city:서울"), () -> {
+            // DB 조회 중에 서울 숙소 변경이 커밋됨
+            cache.invalidateTags(List.of("city:서울"));
+            return load("stale");
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.getOrLoad("a", Set.of("city:서울"), () -> load("fresh"))).isEqualTo("fresh");
+        assertThat(cache.getOrLoad("a", Set.of("city:서울"), () -> load("unused"))).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("조회 도중 다른 태그만 무효화되면 조회 결과를 저장한다")
+    void storesValueWhenUnrelatedTagInvalidated() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 10, LONG_TTL);
+
+        cache.getOrLoad("a", Set.of("city:서울"), () -> {
+            cache.invalidateTags(List.of("city:부산"));
+            return load("A");
+        });
+
+        assertThat(cache.getOrLoad("a", Set.of("city:서울"), () -> load("unused"))).isEqualTo("A");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 전체 비우기(clear)가 일어나면 태그와 관계없이 저장하지 않는다")
+    void doesNotStoreValueLoadedDuringClear() {
+        TaggedCache<String, String> cache = new TaggedCache<>("test", 10, LONG_TTL);
+
+        cache.getOrLoad("a", Set.of("city:서울"), () -> {
+            cache.clear();
+            return load("stale");
+        });
+
+        assertThat(cache.stats().getSize()).isZero();
+        assertThat(cache.getOrLoad("a", Set.of("city:서울"), () -> load("fresh"))).isEqualTo("fresh");
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
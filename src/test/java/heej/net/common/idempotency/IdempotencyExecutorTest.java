@@ -0,0 +1,111 @@
+package heej.net.common.idempotency;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.usecase.ReservationUseCase;
+import heej.net.support.ConcurrentRunner;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key 로 예약 생성을 감쌌을 때 같은 키의 재시도/동시 요청이 예약을 한 건만 만드는지 검증합니다.
+ */
+class IdempotencyExecutorTest extends IntegrationTestSupport {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private IdempotencyExecutor idempotencyExecutor;
+
+    @Autowired
+    private ReservationUseCase reservationUseCase;
+
+    private Member member;
+    private Room room;
+    private CreateReservationRequest request;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        member = saveMember();
+        room = saveRoom(saveAccommodation("서울"), BigDecimal.valueOf(100000), 2);
+        LocalDate checkIn = LocalDate.now().plusDays(40);
+        request = new CreateReservationRequest(room.getId(), checkIn, checkIn.plusDays(2), 2, null);
+        key = UUID.randomUUID().toString();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 보내면 예약을 새로 만들지 않고 저장된 응답을 그대로 반환한다")
+    void replaysStoredResponse() {
+        ReservationResponse first = create(request);
+        ReservationResponse replayed = create(request);
+
+        assertThat(replayed.getId()).isEqualTo(first.getId());
+        assertThat(replayed.getTotalPrice()).isEqualByComparingTo(first.getTotalPrice());
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문을 보내면 IllegalArgumentException 으로 거절하고 예약을 만들지 않는다")
+    void rejectsDifferentRequestWithSameKey() {
+        create(request);
+        CreateReservationRequest other = new CreateReservationRequest(room.getId(), request.getCheckInDate(),
+                request.getCheckOutDate(), 1, null);
+
+        assertThatThrownBy(() -> create(other))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Idempotency-Key");
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 건만 실행하고, 나머지는 첫 요청이 끝나길 기다려 같은 응답을 받는다")
+    void executesConcurrentRequestsOnce() throws Exception {
+        ConcurrentRunner.Result<ReservationResponse> result = ConcurrentRunner.run(THREADS, THREADS,
+                i -> create(request));
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getSuccesses()).hasSize(THREADS)
+                .extracting(ReservationResponse::getId)
+                .containsOnly(result.getSuccesses().get(0).getId());
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+        assertThat(countRoomNights(room.getId())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 키를 지워 같은 키로 다시 시도할 수 있다")
+    void allowsRetryAfterFailure() {
+        assertThatThrownBy(() -> idempotencyExecutor.execute(scope(), key, request, ReservationResponse.class,
+                () -> {
+                    throw new IllegalStateException("일시적인 오류");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        ReservationResponse retried = create(request);
+
+        assertThat(retried.getId()).isNotNull();
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+    }
+
+    private ReservationResponse create(CreateReservationRequest body) {
+        return idempotencyExecutor.execute(scope(), key, body, ReservationResponse.class,
+                () -> reservationUseCase.createReservation(member.getId(), body));
+    }
+
+    // ReservationEndpoint 와 같은 범위
+    private String scope() {
+        return "reservation:create:" + member.getId();
+    }
+}
@@ -0,0 +1,186 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.model.AccommodationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class AccommodationFacetIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final AccommodationFacetIndex facetIndex = new AccommodationFacetIndex(true);
+
+    @BeforeEach
+    void setUp() {
+        facetIndex.replace(facetIndex.build(List.of(
+                // 가장 먼저 ID 를 받았지만 가장 최근에 등록된 것으로 둠 (최신순이 ID 가 아니라 등록 시각 기준인지 확인)
+                row(1L, "서울", "강남구", AccommodationType.HOTEL, 5, "100000", "150000", 4, 10),
+                row(2L, "서울", "강남구", AccommodationType.MOTEL, 3, "50000", "60000", 2, 3),
+                row(3L, "서울", "종로구", AccommodationType.HOTEL, 4, "80000", "80000", 2, 3),
+                row(4L, "부산", "해운대구", AccommodationType.HOTEL, 5, "200000", "200000", 6, 4),
+                // 객실 없음 - 요금 조건을 만족하지 않고 요금순에서 맨 뒤
+                row(5L, "부산", "해운대구", AccommodationType.RESORT, 4, null, null, 0, 5),
+                row(6L, "제주", "제주시", AccommodationType.PENSION, 2, "70000", "70000", 8, 6))));
+    }
+
+    @Test
+    @DisplayName("적재 전이거나 비활성화되어 있으면 빈 Optional 을 반환한다")
+    void returnsEmptyWhenNotReady() {
+        assertThat(new AccommodationFacetIndex(true).count(null, null, null, null, null, null, null)).isEmpty();
+
+        AccommodationFacetIndex disabled = new AccommodationFacetIndex(false);
+        disabled.replace(disabled.build(List.of(row(1L, "서울", "강남구", AccommodationType.HOTEL, 5,
+                "100000", "150000", 4, 0))));
+        assertThat(disabled.filter(null, null, null, null, null, null, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("각 항목은 자기 필터만 뺀 조건으로 센다 - 필터 하나만 어긋난 행은 그 항목에만, 둘 이상 어긋나면 어디에도 세지 않는다")
+    void countsRowsMissingExactlyOneFacetOnlyInThatFacet() {
+        AccommodationFacetCounts counts = facetIndex.count(null, "서울", null, AccommodationType.HOTEL,
+                null, null, null).orElseThrow();
+
+        assertThat(counts.getTotal()).isEqualTo(2);
+        // 4(부산 호텔)는 도시만 어긋남 -> 도시 항목에만
+        assertThat(counts.getCities()).containsExactly(entry("서울", 2), entry("부산", 1));
+        // 2(서울 모텔)는 타입만 어긋남 -> 타입 항목에만
+        assertThat(counts.getTypes()).containsExactly(
+                entry(AccommodationType.HOTEL, 2), entry(AccommodationType.MOTEL, 1));
+        // 지역은 필터가 없으므로 모든 조건을 만족하는 행만
+        assertThat(counts.getRegions()).containsExactly(entry("강남구", 1), entry("종로구", 1));
+        assertThat(counts.getRatings()).containsExactly(entry(5, 1), entry(4, 1));
+    }
+
+    @Test
+    @DisplayName("평점 필터를 더하면 평점만 어긋난 행은 평점 항목에만 센다")
+    void countsWithRatingFilter() {
+        AccommodationFacetCounts counts = facetIndex.count(null, "서울", null, AccommodationType.HOTEL,
+                null, null, 5).orElseThrow();
+
+        assertThat(counts.getTotal()).isEqualTo(1);
+        assertThat(counts.getCities()).containsExactly(entry("서울", 1), entry("부산", 1));
+        // 2(서울 모텔, 3점)는 타입과 평점 두 개가 어긋나므로 제외
+        assertThat(counts.getTypes()).containsExactly(entry(AccommodationType.HOTEL, 1));
+        // 3(서울 호텔, 4점)은 평점만 어긋남
+        assertThat(counts.getRatings()).containsExactly(entry(5, 1), entry(4, 1));
+    }
+
+    @Test
+    @DisplayName("요금 조건은 집계 항목이 아니므로 모든 항목에 공통으로 적용하고, 객실이 없는 숙소는 제외한다")
+    void appliesPriceFilterToEveryFacet() {
+        AccommodationFacetCounts counts = facetIndex.count(null, null, null, null,
+                new BigDecimal("90000"), null, null).orElseThrow();
+
+        assertThat(counts.getTotal()).isEqualTo(2);
+        assertThat(counts.getCities()).containsExactly(entry("서울", 1), entry("부산", 1));
+        assertThat(counts.getTypes()).containsExactly(entry(AccommodationType.HOTEL, 2));
+    }
+
+    @Test
+    @DisplayName("키워드/편의시설 후보가 있으면 그 숙소만 집계한다")
+    void countsOnlyCandidates() {
+        AccommodationFacetCounts counts = facetIndex.count(List.of(1L, 4L, 99L), null, null, null,
+                null, null, null).orElseThrow();
+
+        assertThat(counts.getTotal()).isEqualTo(2);
+        assertThat(counts.getCities()).containsExactly(entry("서울", 1), entry("부산", 1));
+    }
+
+    @Test
+    @DisplayName("인원 조건을 만족하는 숙소 ID 를 DB 조회와 같은 최신 등록순(등록 시각, ID 내림차순)으로 골라낸다")
+    void filtersByGuestCount() {
+        assertThat(facetIndex.filter(null, null, null, null, null, null, null, 5)).contains(List.of(6L, 4L));
+        // 1 은 ID 가 가장 작지만 가장 최근에 등록됨
+        assertThat(facetIndex.filter(null, "서울", null, null, null, null, 4, 2)).contains(List.of(1L, 3L));
+        // 등록 시각이 같으면(2, 3) ID 내림차순
+        assertThat(facetIndex.filter(null, null, null, null, null, null, null, 2))
+                .contains(List.of(1L, 6L, 4L, 3L, 2L));
+    }
+
+    @Test
+    @DisplayName("요금순은 최저 요금 오름차순으로 상위 limit 건만 반환하고, 전체 건수도 함께 준다")
+    void ranksByPrice() {
+        AccommodationRanking ranking = facetIndex.rank(null, null, null, null, null, null, null,
+                AccommodationSort.PRICE, null, null, null, 3).orElseThrow();
+
+        assertThat(ranking.getTotal()).isEqualTo(6);
+        assertThat(ranking.getAccommodationIds()).containsExactly(2L, 6L, 3L);
+    }
+
+    @Test
+    @DisplayName("최신순은 등록 시각 내림차순이며, 등록 시각이 같으면 ID 내림차순이다")
+    void ranksLatestByCreatedAtThenId() {
+        AccommodationRanking ranking = facetIndex.rank(null, null, null, null, null, null, null,
+                AccommodationSort.LATEST, null, null, null, 10).orElseThrow();
+
+        assertThat(ranking.getAccommodationIds()).containsExactly(1L, 6L, 5L, 4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("관련도순은 키워드 점수 내림차순이며, 점수가 없는 숙소는 맨 뒤로 간다")
+    void ranksByRelevance() {
+        AccommodationRanking ranking = facetIndex.rank(List.of(2L, 3L, 4L), null, null, null, null, null, null,
+                AccommodationSort.RELEVANCE, Map.of(2L, 1.5, 4L, 3.0), null, null, 10).orElseThrow();
+
+        assertThat(ranking.getAccommodationIds()).containsExactly(4L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("커서(createdAt, id) 다음부터 최신순으로 이어서 반환한다")
+    void returnsLatestAfterCursor() {
+        assertThat(facetIndex.latestAfter(null, null, null, null, null, null, null, null, null, 2))
+                .contains(List.of(1L, 6L));
+        assertThat(facetIndex.latestAfter(null, null, null, null, null, null, null, BASE.plusMinutes(4), 4L, 10))
+                .contains(List.of(3L, 2L));
+        // 등록 시각이 같은 행은 ID 로 이어짐
+        assertThat(facetIndex.latestAfter(null, null, null, null, null, null, null, BASE.plusMinutes(3), 3L, 10))
+                .contains(List.of(2L));
+        assertThat(facetIndex.latestAfter(null, "서울", null, null, null, null, null, BASE.plusMinutes(10), 1L, 10))
+                .contains(List.of(3L, 2L));
+    }
+
+    @Test
+    @DisplayName("도시/지역은 DB 비교처럼 대소문자를 구분하지 않고, 집계에는 처음 들어온 표기로 묶는다")
+    void matchesCityAndRegionIgnoringCase() {
+        facetIndex.replace(facetIndex.build(List.of(
+                row(1L, "Seoul", "Gangnam", AccommodationType.HOTEL, 5, "100000", "100000", 2, 1),
+                row(2L, "SEOUL", "gangnam", AccommodationType.HOTEL, 4, "90000", "90000", 2, 2),
+                row(3L, "Busan", "Haeundae", AccommodationType.HOTEL, 4, "80000", "80000", 2, 3))));
+
+        assertThat(facetIndex.filter(null, "seoul", "GANGNAM", null, null, null, null, null))
+                .contains(List.of(2L, 1L));
+        AccommodationFacetCounts counts = facetIndex.count(null, null, null, null, null, null, null).orElseThrow();
+        assertThat(counts.getCities()).containsExactly(entry("Seoul", 2), entry("Busan", 1));
+    }
+
+    @Test
+    @DisplayName("수정된 숙소는 이전 값의 집계에서 빠지고, 삭제된 숙소는 어디에도 남지 않는다")
+    void reflectsPutAndRemove() {
+        facetIndex.put(row(2L, "부산", "해운대구", AccommodationType.MOTEL, 3, "50000", "60000", 2, 3));
+        facetIndex.remove(6L);
+
+        AccommodationFacetCounts counts = facetIndex.count(null, null, null, null, null, null, null).orElseThrow();
+        assertThat(counts.getTotal()).isEqualTo(5);
+        assertThat(counts.getCities()).containsExactly(entry("부산", 3), entry("서울", 2));
+        assertThat(facetIndex.filter(null, "제주", null, null, null, null, null, null)).contains(List.of());
+    }
+
+    private static AccommodationFacetRow row(Long id, String city, String region, AccommodationType type,
+                                             int rating, String minPrice, String maxPrice, int maxCapacity,
+                                             int createdMinutes) {
+        return new AccommodationFacetRow(id, city, region, type, rating,
+                minPrice != null ? new BigDecimal(minPrice) : null,
+                maxPrice != null ? new BigDecimal(maxPrice) : null,
+                maxCapacity, null, null, BASE.plusMinutes(createdMinutes));
+    }
+}
@@ -0,0 +1,112 @@
+package heej.net.domain.accommodation.infra;
+
+import heej.net.domain.accommodation.model.AccommodationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AccommodationGeoIndexTest {
+
+    private final AccommodationGeoIndex geoIndex = new AccommodationGeoIndex(true, 0.05);
+
+    @Test
+    @DisplayName("적재 전이면 DB 조회로 대체하도록 빈 Optional 을 반환한다")
+    void returnsEmptyWhenNotReady() {
+        assertThat(geoIndex.findNearby(37.5, 127.0, 5, null, null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반경 안의 숙소만 가까운 순으로 limit 건 반환한다")
+    void returnsNearestWithinRadius() {
+        load(location(1L, 37.5000, 127.0000),
+                location(2L, 37.5100, 127.0000),
+                location(3L, 37.5050, 127.0000),
+                location(4L, 37.6000, 127.0000));
+
+        List<NearbyHit> hits = geoIndex.findNearby(37.5, 127.0, 5, null, null, null, 2).orElseThrow();
+
+        assertThat(hits).extracting(NearbyHit::getAccommodationId).containsExactly(1L, 3L);
+        assertThat(hits.get(1).getDistanceKm())
+                .isCloseTo(AccommodationGeoIndex.distanceKm(37.5, 127.0, 37.505, 127.0), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("날짜 변경선 건너편 숙소도 찾는다")
+    void wrapsAroundAntimeridian() {
+        load(location(1L, 0.0, -179.99),
+                location(2L, 0.0, 179.97),
+                location(3L, 0.0, 170.0));
+
+        List<NearbyHit> hits = geoIndex.findNearby(0.0, 179.995, 5, null, null, null, 10).orElseThrow();
+
+        assertThat(hits).extracting(NearbyHit::getAccommodationId).containsExactly(1L, 2L);
+        assertThat(hits.get(0).getDistanceKm()).isLessThan(2.0);
+    }
+
+    @Test
+    @DisplayName("고위도에서는 경도 1도의 거리가 짧아지므로 훑는 경도 범위를 cos(위도)만큼 넓힌다")
+    void widensLongitudeRangeAtHighLatitude() {
+        // 위도 60도에서 경도 0.15도 ≈ 8.3km - 위도 기준 경도 범위(약 0.09도)로는 놓치는 거리
+        load(location(1L, 60.0, 10.15),
+                location(2L, 60.03, 9.85));
+
+        List<NearbyHit> hits = geoIndex.findNearby(60.0, 10.0, 10, null, null, null, 10).orElseThrow();
+
+        assertThat(hits).extracting(NearbyHit::getAccommodationId).containsExactly(1L, 2L);
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.getDistanceKm()).isLessThanOrEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("극점 근처에서는 모든 경도를 훑는다")
+    void scansAllLongitudesNearPole() {
+        load(location(1L, 89.99, 180.0), location(2L, 89.99, 90.0));
+
+        List<NearbyHit> hits = geoIndex.findNearby(89.99, 0.0, 5, null, null, null, 10).orElseThrow();
+
+        assertThat(hits).extracting(NearbyHit::getAccommodationId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("도시/타입/최소 평점 조건을 함께 적용한다")
+    void appliesFilters() {
+        load(new AccommodationLocation(1L, decimal(37.5), decimal(127.0), "서울", AccommodationType.HOTEL, 5),
+                new AccommodationLocation(2L, decimal(37.5), decimal(127.001), "서울", AccommodationType.HOTEL, 3),
+                new AccommodationLocation(3L, decimal(37.5), decimal(127.002), "서울", AccommodationType.MOTEL, 5),
+                new AccommodationLocation(4L, decimal(37.5), decimal(127.003), "성남", AccommodationType.HOTEL, 5));
+
+        List<NearbyHit> hits = geoIndex.findNearby(37.5, 127.0, 5, "서울", AccommodationType.HOTEL, 4, 10)
+                .orElseThrow();
+
+        assertThat(hits).extracting(NearbyHit::getAccommodationId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("좌표가 바뀐 숙소는 새 격자로 옮기고, 삭제된 숙소는 결과에서 빠진다")
+    void reflectsPutAndRemove() {
+        load(location(1L, 37.5, 127.0), location(2L, 37.5, 127.001));
+
+        geoIndex.put(location(1L, 35.1, 129.0));
+        geoIndex.remove(2L);
+
+        assertThat(geoIndex.findNearby(37.5, 127.0, 5, null, null, null, 10)).contains(List.of());
+        assertThat(geoIndex.findNearby(35.1, 129.0, 5, null, null, null, 10).orElseThrow())
+                .extracting(NearbyHit::getAccommodationId).containsExactly(1L);
+    }
+
+    private void load(AccommodationLocation... locations) {
+        geoIndex.replace(geoIndex.build(List.of(locations)));
+    }
+
+    private static AccommodationLocation location(Long id, double latitude, double longitude) {
+        return new AccommodationLocation(id, decimal(latitude), decimal(longitude), null, null, null);
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value);
+    }
+}
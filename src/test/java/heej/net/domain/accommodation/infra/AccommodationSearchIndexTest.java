@@ -0,0 +1,117 @@
+package heej.net.domain.accommodation.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccommodationSearchIndexTest {
+
+    private final AccommodationSearchIndex searchIndex = new AccommodationSearchIndex(true);
+
+    @Test
+    @DisplayName("적재 전이거나 비활성화되어 있으면 DB 검색으로 대체하도록 빈 Optional 을 반환한다")
+    void returnsEmptyWhenNotReady() {
+        assertThat(searchIndex.search("강남")).isEmpty();
+
+        AccommodationSearchIndex disabled = new AccommodationSearchIndex(false);
+        disabled.replace(disabled.build(List.of(document(1L, "강남 호텔", "서울 강남구"))));
+        assertThat(disabled.search("강남")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 bigram 이 없으므로 빈 Optional 을 반환한다")
+    void returnsEmptyForSingleCharacterKeyword() {
+        load(document(1L, "강남 호텔", "서울 강남구"));
+
+        assertThat(searchIndex.search("강")).isEmpty();
+        assertThat(searchIndex.search(" 강 !")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단어 중간의 부분 문자열도 bigram 으로 찾는다")
+    void matchesSubstringInsideWord() {
+        load(document(1L, "역삼 스테이", "서울 강남구 테헤란로 1"),
+                document(2L, "해운대 호텔", "부산 해운대구 우동 2"));
+
+        assertThat(searchIndex.search("테헤란")).contains(List.of(1L));
+        assertThat(searchIndex.search("해운대구")).contains(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 bigram 을 포함하는 숙소만 남긴다 (교집합)")
+    void intersectsAllBigrams() {
+        load(document(1L, "강남 호텔", "서울 강남구"),
+                document(2L, "강남 게스트하우스", "서울 강남구"),
+                document(3L, "해운대 호텔", "부산 해운대구"));
+
+        assertThat(searchIndex.search("강남 호텔")).contains(List.of(1L));
+        assertThat(searchIndex.search("호텔")).hasValueSatisfying(ids ->
+                assertThat(ids).containsExactlyInAnyOrder(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("색인에 없는 bigram 이 하나라도 있으면 결과는 비어 있다")
+    void returnsNoMatchesForUnknownBigram() {
+        load(document(1L, "강남 호텔", "서울 강남구"));
+
+        assertThat(searchIndex.search("강남 리조트")).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("이름에 나온 검색어는 주소에 나온 것보다 BM25 점수가 높다")
+    void ranksNameMatchAboveAddressMatch() {
+        load(document(1L, "서울 호텔", "서울 강남구"),
+                document(2L, "강남 호텔", "서울 중구"));
+
+        assertThat(searchIndex.search("강남")).contains(List.of(2L, 1L));
+        assertThat(searchIndex.score("강남")).hasValueSatisfying(scores ->
+                assertThat(scores.get(2L)).isGreaterThan(scores.get(1L)));
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 ID 내림차순(최신 등록순)으로 정렬한다")
+    void breaksTiesByIdDescending() {
+        load(document(1L, "강남 호텔", "서울 강남구"),
+                document(2L, "강남 호텔", "서울 강남구"),
+                document(3L, "강남 호텔", "서울 강남구"));
+
+        assertThat(searchIndex.search("강남")).contains(List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("수정된 숙소는 이전 이름으로 찾을 수 없고, 삭제된 숙소는 결과에서 빠진다")
+    void reflectsPutAndRemove() {
+        load(document(1L, "강남 호텔", "서울 강남구"),
+                document(2L, "강남 스테이", "서울 강남구"));
+
+        searchIndex.put(document(1L, "해운대 호텔", "부산 해운대구"));
+        assertThat(searchIndex.search("강남")).contains(List.of(2L));
+        assertThat(searchIndex.search("해운대")).contains(List.of(1L));
+
+        searchIndex.remove(2L);
+        assertThat(searchIndex.search("강남")).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("적재 전에 들어온 변경도 세므로, 그 전에 읽기 시작한 스냅샷으로는 교체하지 않는다")
+    void rejectsSnapshotBuiltBeforeChange() {
+        long modCountBefore = searchIndex.getModCount();
+        AccommodationSearchIndex.Snapshot stale = searchIndex.build(List.of(document(1L, "강남 호텔", "서울 강남구")));
+
+        searchIndex.put(document(2L, "강남 스테이", "서울 강남구"));
+
+        assertThat(searchIndex.replaceIfUnchanged(stale, modCountBefore)).isFalse();
+        assertThat(searchIndex.isReady()).isFalse();
+    }
+
+    private void load(AccommodationSearchDocument... documents) {
+        searchIndex.replace(searchIndex.build(List.of(documents)));
+    }
+
+    private static AccommodationSearchDocument document(Long id, String name, String address) {
+        return new AccommodationSearchDocument(id, name, address, null, null);
+    }
+}
@@ -0,0 +1,52 @@
+package heej.net.domain.accommodation.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static heej.net.domain.accommodation.model.Amenity.PARKING;
+import static heej.net.domain.accommodation.model.Amenity.POOL;
+import static heej.net.domain.accommodation.model.Amenity.WIFI;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomAmenityIndexTest {
+
+    private final RoomAmenityIndex amenityIndex = new RoomAmenityIndex(true);
+
+    @Test
+    @DisplayName("적재 전이면 DB 비트마스크 조회로 대체하도록 빈 Optional 을 반환한다")
+    void returnsEmptyWhenNotReady() {
+        assertThat(amenityIndex.findRoomIds(WIFI.mask())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요청한 편의시설을 모두 갖춘 객실과 그 숙소만 찾는다")
+    void findsRoomsHavingAllRequiredAmenities() {
+        amenityIndex.replace(amenityIndex.build(List.of(
+                new RoomAmenityRow(10L, 1L, WIFI.mask() | PARKING.mask()),
+                new RoomAmenityRow(11L, 1L, WIFI.mask()),
+                new RoomAmenityRow(20L, 2L, WIFI.mask() | PARKING.mask() | POOL.mask()),
+                new RoomAmenityRow(30L, 3L, 0L),
+                new RoomAmenityRow(31L, 3L, null))));
+
+        assertThat(amenityIndex.findRoomIds(WIFI.mask() | PARKING.mask())).contains(Set.of(10L, 20L));
+        assertThat(amenityIndex.findAccommodationIds(WIFI.mask())).contains(Set.of(1L, 2L));
+        assertThat(amenityIndex.findAccommodationIds(POOL.mask())).contains(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("편의시설이 바뀐 객실은 새 조합으로 옮기고, 삭제된 객실은 빠진다")
+    void reflectsPutAndRemove() {
+        amenityIndex.replace(amenityIndex.build(List.of(
+                new RoomAmenityRow(10L, 1L, WIFI.mask()),
+                new RoomAmenityRow(20L, 2L, WIFI.mask()))));
+
+        amenityIndex.put(new RoomAmenityRow(10L, 1L, PARKING.mask()));
+        amenityIndex.remove(20L);
+
+        assertThat(amenityIndex.findRoomIds(WIFI.mask())).contains(Set.of());
+        assertThat(amenityIndex.findRoomIds(PARKING.mask())).contains(Set.of(10L));
+    }
+}
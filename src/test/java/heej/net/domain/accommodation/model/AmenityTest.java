@@ -0,0 +1,73 @@
+package heej.net.domain.accommodation.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmenityTest {
+
+    @Test
+    @DisplayName("코드, enum 이름, 표시 이름, 별칭으로 찾으며 대소문자/공백/하이픈/밑줄은 무시한다")
+    void resolvesByCodeNameLabelAndAlias() {
+        assertThat(Amenity.resolve("wifi")).contains(Amenity.WIFI);
+        assertThat(Amenity.resolve("Wi-Fi")).contains(Amenity.WIFI);
+        assertThat(Amenity.resolve("무료 Wi-Fi")).contains(Amenity.WIFI);
+        assertThat(Amenity.resolve("와이파이")).contains(Amenity.WIFI);
+        assertThat(Amenity.resolve("AIR_CONDITIONER")).contains(Amenity.AIR_CONDITIONER);
+        assertThat(Amenity.resolve(" Air Conditioner ")).contains(Amenity.AIR_CONDITIONER);
+        assertThat(Amenity.resolve("무료주차")).contains(Amenity.PARKING);
+    }
+
+    @Test
+    @DisplayName("사전에 없거나 null 이면 빈 Optional 을 반환한다")
+    void returnsEmptyForUnknown() {
+        assertThat(Amenity.resolve(null)).isEmpty();
+        assertThat(Amenity.resolve("사우나")).isEmpty();
+        assertThat(Amenity.resolve("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("객실 편의시설 이름 목록의 마스크는 사전에 있는 이름의 bit 만 모으고, 없는 이름은 무시한다")
+    void buildsMaskFromRoomAmenityNames() {
+        long mask = Amenity.maskOf(List.of("무료 Wi-Fi", "에어컨", "공용 샤워실", "사물함", "전용 테라스", "wifi"));
+
+        assertThat(mask).isEqualTo(Amenity.WIFI.mask() | Amenity.AIR_CONDITIONER.mask()
+                | Amenity.SHARED_SHOWER.mask() | Amenity.LOCKER.mask());
+        assertThat(Amenity.maskOf(null)).isZero();
+        assertThat(Amenity.maskOf(List.of("전용 테라스"))).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 조건의 편의시설 코드는 빈 값을 건너뛰고 모두 갖춰야 하는 마스크로 변환한다")
+    void buildsRequiredMaskFromSearchCodes() {
+        assertThat(Amenity.requiredMaskOf(Arrays.asList("wifi", " ", null, "Parking")))
+                .isEqualTo(Amenity.WIFI.mask() | Amenity.PARKING.mask());
+        assertThat(Amenity.requiredMaskOf(null)).isZero();
+        assertThat(Amenity.requiredMaskOf(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 조건에 사전에 없는 편의시설이 있으면 그 값을 모두 알려주는 IllegalArgumentException")
+    void rejectsUnknownSearchCodes() {
+        assertThatThrownBy(() -> Amenity.requiredMaskOf(List.of("wifi", " sauna ", "helipad")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sauna, helipad");
+    }
+
+    @Test
+    @DisplayName("bit 는 편의시설마다 달라야 하고 long 범위(0~63) 안이어야 한다")
+    void assignsDistinctBitsWithinLong() {
+        long combined = 0L;
+        for (Amenity amenity : Amenity.values()) {
+            assertThat(amenity.getBit()).isBetween(0, 63);
+            assertThat(combined & amenity.mask()).as(amenity.name()).isZero();
+            combined |= amenity.mask();
+        }
+        assertThat(Long.bitCount(combined)).isEqualTo(Amenity.values().length);
+    }
+}
@@ -0,0 +1,53 @@
+package heej.net.domain.accommodation.scheduler;
+
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomSummaryBackfillTest extends IntegrationTestSupport {
+
+    @Autowired
+    private RoomSummaryBackfill roomSummaryBackfill;
+
+    @Autowired
+    private AccommodationInfra accommodationInfra;
+
+    @Test
+    @DisplayName("객실이 있는데 요약이 비어 있는 숙소의 객실 요약을 채우고, 다시 실행해도 결과가 같다")
+    void backfillsUnsetRoomSummaries() {
+        // 요약 컬럼 도입 이전처럼 객실만 저장 (객실 수 0, 요금 NULL)
+        Accommodation accommodation = saveAccommodation("강릉");
+        saveRoom(accommodation, BigDecimal.valueOf(80000), 2);
+        saveRoom(accommodation, BigDecimal.valueOf(150000), 4);
+        Accommodation empty = saveAccommodation("속초");
+        assertThat(accommodationInfra.countUnsetRoomSummaries()).isPositive();
+
+        roomSummaryBackfill.backfill();
+        roomSummaryBackfill.backfill();
+
+        assertThat(accommodationInfra.countUnsetRoomSummaries()).isZero();
+        Map<String, Object> summary = roomSummary(accommodation.getId());
+        assertThat((BigDecimal) summary.get("min_price_per_night")).isEqualByComparingTo("80000");
+        assertThat((BigDecimal) summary.get("max_price_per_night")).isEqualByComparingTo("150000");
+        assertThat(((Number) summary.get("room_count")).intValue()).isEqualTo(2);
+        assertThat(((Number) summary.get("max_room_capacity")).intValue()).isEqualTo(4);
+
+        // 객실이 없는 숙소는 요약이 비어 있는 것이 정상
+        Map<String, Object> emptySummary = roomSummary(empty.getId());
+        assertThat(emptySummary.get("min_price_per_night")).isNull();
+        assertThat(((Number) emptySummary.get("room_count")).intValue()).isZero();
+    }
+
+    private Map<String, Object> roomSummary(Long accommodationId) {
+        return jdbcTemplate.queryForMap("SELECT min_price_per_night, max_price_per_night, room_count, " +
+                "max_room_capacity FROM accommodations WHERE id = ?", accommodationId);
+    }
+}
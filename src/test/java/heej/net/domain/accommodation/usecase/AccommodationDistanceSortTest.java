@@ -0,0 +1,67 @@
+package heej.net.domain.accommodation.usecase;
+
+import heej.net.domain.accommodation.api.dto.AccommodationResponse;
+import heej.net.domain.accommodation.api.dto.AccommodationSearchRequest;
+import heej.net.domain.accommodation.infra.AccommodationFacetIndex;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.scheduler.AccommodationFacetIndexScheduler;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccommodationDistanceSortTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AccommodationUseCase accommodationUseCase;
+
+    @Autowired
+    private AccommodationFacetIndex facetIndex;
+
+    @Autowired
+    private AccommodationFacetIndexScheduler facetIndexScheduler;
+
+    @AfterEach
+    void reloadFacetIndex() {
+        facetIndexScheduler.rebuild();
+    }
+
+    @Test
+    @DisplayName("집계 인덱스가 적재되지 않았어도 거리순은 DB 에서 가까운 순으로 정렬하고, 좌표가 없는 숙소는 맨 뒤로 보낸다")
+    void sortsByDistanceInDatabaseWhenFacetIndexNotReady() {
+        String city = "거리시" + UUID.randomUUID().toString().substring(0, 8);
+        Accommodation unlocated = saveAccommodation(city);
+        Accommodation far = locate(saveAccommodation(city), "35.1796", "129.0756");
+        Accommodation near = locate(saveAccommodation(city), "37.5700", "126.9800");
+        Accommodation middle = locate(saveAccommodation(city), "37.6000", "127.0500");
+        ReflectionTestUtils.setField(facetIndex, "snapshot", null);
+
+        Page<AccommodationResponse> page = accommodationUseCase.searchAccommodations(
+                AccommodationSearchRequest.builder()
+                        .city(city)
+                        .sort(AccommodationSort.DISTANCE)
+                        .latitude(37.5665)
+                        .longitude(126.9780)
+                        .page(0)
+                        .size(10)
+                        .build());
+
+        assertThat(page.getContent()).extracting(AccommodationResponse::getId)
+                .containsExactly(near.getId(), middle.getId(), far.getId(), unlocated.getId());
+        assertThat(page.getTotalElements()).isEqualTo(4);
+    }
+
+    private Accommodation locate(Accommodation accommodation, String latitude, String longitude) {
+        accommodation.updateLocation(new BigDecimal(latitude), new BigDecimal(longitude));
+        return accommodationRepository.save(accommodation);
+    }
+}
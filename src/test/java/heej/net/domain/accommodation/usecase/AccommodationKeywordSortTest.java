@@ -0,0 +1,157 @@
+package heej.net.domain.accommodation.usecase;
+
+import heej.net.domain.accommodation.api.dto.AccommodationResponse;
+import heej.net.domain.accommodation.api.dto.AccommodationSearchRequest;
+import heej.net.domain.accommodation.infra.AccommodationFacetIndex;
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.model.AccommodationStatus;
+import heej.net.domain.accommodation.model.AccommodationType;
+import heej.net.domain.accommodation.scheduler.AccommodationFacetIndexScheduler;
+import heej.net.domain.accommodation.scheduler.AccommodationSearchIndexScheduler;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccommodationKeywordSortTest extends IntegrationTestSupport {
+
+    @Autowired
+    private AccommodationUseCase accommodationUseCase;
+
+    @Autowired
+    private AccommodationInfra accommodationInfra;
+
+    @Autowired
+    private AccommodationSearchIndexScheduler searchIndexScheduler;
+
+    @Autowired
+    private AccommodationFacetIndexScheduler facetIndexScheduler;
+
+    @Autowired
+    private AccommodationFacetIndex facetIndex;
+
+    private String keyword;
+    private String city;
+    private Accommodation relevant;
+    private Accommodation recent;
+
+    @BeforeEach
+    void setUp() {
+        // 도시 이름도 색인되므로 키워드와 겹치지 않는 값을 따로 씀
+        keyword = "kw" + UUID.randomUUID().toString().substring(0, 8);
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        city = "정렬시" + unique;
+
+        // 이름에 키워드가 있어 관련도가 높지만 먼저 등록된 숙소 / 주소에만 키워드가 있지만 나중에 등록된 숙소
+        relevant = save(keyword + " 호텔", "테스트로 1", city, LocalDateTime.of(2026, 1, 1, 0, 0));
+        recent = save("테스트 호텔", keyword + " 테스트로 2", city, LocalDateTime.of(2026, 2, 1, 0, 0));
+        // 키워드는 같지만 다른 도시
+        save(keyword + " 호텔", "테스트로 3", "다른시" + unique, LocalDateTime.of(2026, 3, 1, 0, 0));
+
+        searchIndexScheduler.rebuild();
+        facetIndexScheduler.rebuild();
+    }
+
+    @AfterEach
+    void reloadFacetIndex() {
+        facetIndexScheduler.rebuild();
+    }
+
+    @Test
+    @DisplayName("키워드 검색도 최신순이면 관련도와 관계없이 등록 시각 내림차순이다")
+    void sortsKeywordSearchByCreatedAtWhenLatest() {
+        Page<AccommodationResponse> page = accommodationUseCase.searchAccommodations(request(AccommodationSort.LATEST));
+
+        assertThat(page.getContent()).extracting(AccommodationResponse::getId)
+                .containsExactly(recent.getId(), relevant.getId());
+    }
+
+    @Test
+    @DisplayName("관련도순이면 키워드 점수(이름 가중치) 내림차순이다")
+    void sortsKeywordSearchByScoreWhenRelevance() {
+        Page<AccommodationResponse> page = accommodationUseCase.searchAccommodations(
+                request(AccommodationSort.RELEVANCE));
+
+        assertThat(page.getContent()).extracting(AccommodationResponse::getId)
+                .containsExactly(relevant.getId(), recent.getId());
+    }
+
+    @Test
+    @DisplayName("정렬이 없는 키워드 검색은 다른 조건을 만족하는 숙소만 관련도 순서대로 페이지를 자른다")
+    void pagesUnsortedKeywordSearchInRelevanceOrder() {
+        Page<Accommodation> first = accommodationInfra.searchAccommodations(keyword, city, null, null,
+                null, null, null, null, PageRequest.of(0, 10));
+        Page<Accommodation> second = accommodationInfra.searchAccommodations(keyword, city, null, null,
+                null, null, null, null, PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).extracting(Accommodation::getId)
+                .containsExactly(relevant.getId(), recent.getId());
+        assertThat(first.getTotalElements()).isEqualTo(2);
+        assertThat(second.getContent()).extracting(Accommodation::getId).containsExactly(recent.getId());
+    }
+
+    @Test
+    @DisplayName("최신순 정렬을 명시하면 인덱스 경로도 등록 시각 내림차순이다")
+    void sortsByExplicitLatestOrder() {
+        Page<Accommodation> page = accommodationInfra.searchAccommodations(keyword, city, null, null,
+                null, null, null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+
+        assertThat(page.getContent()).extracting(Accommodation::getId)
+                .containsExactly(recent.getId(), relevant.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("집계 인덱스가 적재되지 않았으면 키워드 최신순도 LIKE 조건으로 DB 에서 전체를 정렬하고 센다")
+    void fallsBackToLikeWhenFacetIndexNotReady() {
+        ReflectionTestUtils.setField(facetIndex, "snapshot", null);
+
+        Page<Accommodation> page = accommodationInfra.searchAccommodations(keyword, city, null, null,
+                null, null, null, null,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+
+        assertThat(page.getContent()).extracting(Accommodation::getId)
+                .containsExactly(recent.getId(), relevant.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    private AccommodationSearchRequest request(AccommodationSort sort) {
+        return AccommodationSearchRequest.builder()
+                .keyword(keyword)
+                .city(city)
+                .sort(sort)
+                .page(0)
+                .size(10)
+                .build();
+    }
+
+    private Accommodation save(String name, String address, String city, LocalDateTime createdAt) {
+        Accommodation accommodation = accommodationRepository.save(Accommodation.builder()
+                .name(name)
+                .type(AccommodationType.HOTEL)
+                .description("테스트 숙소")
+                .address(address)
+                .city(city)
+                .region("테스트구")
+                .status(AccommodationStatus.ACTIVE)
+                .rating(4)
+                .build());
+        // 등록 시각은 감사(auditing) 값이라 저장 후 직접 지정
+        jdbcTemplate.update("UPDATE accommodations SET created_at = ? WHERE id = ?", createdAt, accommodation.getId());
+        return accommodation;
+    }
+}
@@ -0,0 +1,197 @@
+package heej.net.domain.accommodation.usecase;
+
+import heej.net.common.cache.CacheStats;
+import heej.net.domain.accommodation.api.dto.AccommodationResponse;
+import heej.net.domain.accommodation.api.dto.AccommodationSearchRequest;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import heej.net.domain.accommodation.infra.AccommodationInfra;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.scheduler.AccommodationFacetIndexScheduler;
+import heej.net.domain.accommodation.scheduler.AccommodationSearchIndexScheduler;
+import heej.net.support.ConcurrentRunner;
+import heej.net.support.IntegrationTestSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 숙소 검색 캐시 처리량 벤치마크 (./gradlew benchmark)
+ *
+ * 검색 조건은 도시 x 정렬 x 최소 평점 x 페이지 조합(DISTINCT_QUERIES 가지)이고, 요청은 Zipf(s=1) 분포로 뽑습니다.
+ * 인기 도시의 첫 페이지에 요청이 몰리고 나머지는 긴 꼬리를 이루는 실제 검색 트래픽과 비슷한 반복률입니다.
+ * WRITE_EVERY 요청마다 숙소 변경 이벤트를 발행해 해당 도시 태그를 무효화하므로, 캐시 이득은 무효화 비용을 뺀 값입니다.
+ * 같은 요청 순서를 캐시 사용/미사용으로 한 번씩 실행해 처리량, p50/p99 지연, 실제 적중률을 비교합니다.
+ * 비교용으로 반복이 거의 없는 균등 분포도 함께 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class AccommodationSearchCacheBenchmark extends IntegrationTestSupport {
+
+    private static final String[] CITIES = {"서울", "부산", "제주", "강릉", "경주", "여수", "전주", "속초", "대구", "인천"};
+    private static final AccommodationSort[] SORTS = {AccommodationSort.LATEST, AccommodationSort.PRICE,
+            AccommodationSort.RATING};
+    private static final Integer[] MIN_RATINGS = {null, 3, 4};
+    private static final int PAGES = 10;
+    private static final int DISTINCT_QUERIES = CITIES.length * SORTS.length * MIN_RATINGS.length * PAGES;
+
+    private static final int ACCOMMODATIONS_PER_CITY = 100;
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 6000;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int WRITE_EVERY = 100;
+
+    @Autowired
+    private AccommodationUseCase accommodationUseCase;
+
+    @Autowired
+    private AccommodationSearchCache searchCache;
+
+    @Autowired
+    private AccommodationInfra accommodationInfra;
+
+    @Autowired
+    private AccommodationFacetIndexScheduler facetIndexScheduler;
+
+    @Autowired
+    private AccommodationSearchIndexScheduler searchIndexScheduler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @AfterEach
+    void restoreCache() {
+        setCacheEnabled(true);
+    }
+
+    @Test
+    void compareSearchThroughputWithAndWithoutCache() throws Exception {
+        List<Accommodation> accommodations = seed();
+        List<AccommodationSearchRequest> queries = queries();
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-8s %-6s %10s %10s %10s %9s", "traffic", "cache", "ops/s", "p50(ms)", "p99(ms)",
+                "hit ratio"));
+        for (String traffic : List.of("zipf", "uniform")) {
+            int[] sequence = sequence(traffic, REQUESTS);
+            for (boolean cached : List.of(false, true)) {
+                setCacheEnabled(cached);
+                searchCache.clear();
+                run(queries, sequence(traffic, WARMUP_REQUESTS), accommodations);
+
+                CacheStats before = searchCache.stats();
+                ConcurrentRunner.Result<Page<AccommodationResponse>> result = run(queries, sequence, accommodations);
+                CacheStats after = searchCache.stats();
+
+                long hits = after.getHits() - before.getHits();
+                long lookups = hits + after.getMisses() - before.getMisses();
+                report.add(String.format("%-8s %-6s %10.1f %10.2f %10.2f %8.1f%%", traffic, cached ? "on" : "off",
+                        result.throughputPerSecond(), result.percentileMillis(50), result.percentileMillis(99),
+                        lookups == 0 ? 0.0 : 100.0 * hits / lookups));
+
+                assertThat(result.getFailures()).isEmpty();
+                if (cached && traffic.equals("zipf")) {
+                    assertThat(hits).isPositive();
+                }
+            }
+        }
+        log.info("Accommodation search cache benchmark (queries={}, accommodations={}, threads={}, requests={}, "
+                        + "write every {})\n{}", DISTINCT_QUERIES, accommodations.size(), THREADS, REQUESTS,
+                WRITE_EVERY, String.join("\n", report));
+    }
+
+    private ConcurrentRunner.Result<Page<AccommodationResponse>> run(List<AccommodationSearchRequest> queries,
+                                                                    int[] sequence,
+                                                                    List<Accommodation> accommodations)
+            throws Exception {
+        return ConcurrentRunner.run(THREADS, sequence.length, i -> {
+            if (i % WRITE_EVERY == WRITE_EVERY - 1) {
+                // 숙소 수정 커밋과 같은 이벤트 - 해당 도시 검색 결과 무효화 + 인덱스 갱신
+                eventPublisher.publishEvent(AccommodationChangedEvent.saved(
+                        accommodations.get(i % accommodations.size())));
+            }
+            return accommodationUseCase.searchAccommodations(queries.get(sequence[i]));
+        });
+    }
+
+    private List<Accommodation> seed() {
+        List<Long> ids = new ArrayList<>();
+        for (String city : CITIES) {
+            for (int i = 0; i < ACCOMMODATIONS_PER_CITY; i++) {
+                Accommodation accommodation = saveAccommodation(city);
+                saveRoom(accommodation, BigDecimal.valueOf(50000 + (i % 20) * 10000L), 2 + i % 3);
+                ids.add(accommodation.getId());
+            }
+        }
+        // 저장소에 직접 저장했으므로 객실 요약과 인덱스를 다시 만듦 (변경 이벤트에 요약이 실리도록 다시 읽음)
+        accommodationInfra.refreshAllRoomSummaries();
+        facetIndexScheduler.rebuild();
+        searchIndexScheduler.rebuild();
+        return accommodationRepository.findAllById(ids);
+    }
+
+    // 앞쪽 페이지, 평점 조건 없음, 최신순일수록 앞 순위 (앞 순위일수록 Zipf 에서 자주 뽑힘)
+    private static List<AccommodationSearchRequest> queries() {
+        List<AccommodationSearchRequest> queries = new ArrayList<>(DISTINCT_QUERIES);
+        for (int page = 0; page < PAGES; page++) {
+            for (Integer minRating : MIN_RATINGS) {
+                for (AccommodationSort sort : SORTS) {
+                    for (String city : CITIES) {
+                        queries.add(AccommodationSearchRequest.builder()
+                                .city(city)
+                                .minRating(minRating)
+                                .sort(sort)
+                                .page(page)
+                                .size(10)
+                                .build());
+                    }
+                }
+            }
+        }
+        return queries;
+    }
+
+    // 요청 순서 (고정 시드 - 캐시 사용/미사용 실행이 같은 순서로 요청)
+    private static int[] sequence(String traffic, int requests) {
+        Random random = new Random(traffic.hashCode() + requests);
+        double[] cumulative = new double[DISTINCT_QUERIES];
+        double sum = 0;
+        for (int rank = 0; rank < DISTINCT_QUERIES; rank++) {
+            sum += traffic.equals("zipf") ? 1.0 / (rank + 1) : 1.0;
+            cumulative[rank] = sum;
+        }
+
+        int[] sequence = new int[requests];
+        for (int i = 0; i < requests; i++) {
+            double target = random.nextDouble() * sum;
+            int low = 0;
+            int high = DISTINCT_QUERIES - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            sequence[i] = low;
+        }
+        return sequence;
+    }
+
+    private void setCacheEnabled(boolean enabled) {
+        ReflectionTestUtils.setField(searchCache, "enabled", enabled);
+    }
+}
@@ -0,0 +1,85 @@
+package heej.net.domain.accommodation.usecase;
+
+import heej.net.domain.accommodation.api.dto.AccommodationResponse;
+import heej.net.domain.accommodation.api.dto.AccommodationSearchRequest;
+import heej.net.domain.accommodation.event.AccommodationChangedEvent;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationSort;
+import heej.net.domain.accommodation.model.AccommodationStatus;
+import heej.net.domain.accommodation.model.AccommodationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccommodationSearchCacheTest {
+
+    private final AccommodationSearchCache searchCache = new AccommodationSearchCache(true, 100, 3_600_000);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("도시/지역/키워드가 대소문자와 앞뒤 공백만 다르면 같은 캐시 항목을 쓴다")
+    void sharesEntryAcrossCase() {
+        search(request(" Seoul ", "Gangnam", "Hotel"));
+        search(request("seoul", "GANGNAM", "hotel"));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("숙소 변경 이벤트는 도시 대소문자와 관계없이 그 도시로 캐시한 검색 결과를 무효화한다")
+    void invalidatesAcrossCase() {
+        search(request("seoul", null, null));
+
+        searchCache.onAccommodationChanged(AccommodationChangedEvent.saved(accommodation("Seoul", "Gangnam")));
+        search(request("seoul", null, null));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("지역 조건만 있는 검색도 대소문자와 관계없이 무효화한다")
+    void invalidatesRegionAcrossCase() {
+        search(request(null, "GANGNAM", null));
+
+        searchCache.onAccommodationChanged(AccommodationChangedEvent.saved(accommodation("Busan", "gangnam")));
+        search(request(null, "gangnam", null));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private void search(AccommodationSearchRequest request) {
+        searchCache.getOrLoad(request, () -> {
+            loads.incrementAndGet();
+            return Page.<AccommodationResponse>empty();
+        });
+    }
+
+    private static AccommodationSearchRequest request(String city, String region, String keyword) {
+        return AccommodationSearchRequest.builder()
+                .city(city)
+                .region(region)
+                .keyword(keyword)
+                .sort(AccommodationSort.LATEST)
+                .page(0)
+                .size(10)
+                .build();
+    }
+
+    private static Accommodation accommodation(String city, String region) {
+        return Accommodation.builder()
+                .name("테스트 호텔")
+                .type(AccommodationType.HOTEL)
+                .description("테스트 숙소")
+                .address("테스트로 1")
+                .city(city)
+                .region(region)
+                .status(AccommodationStatus.ACTIVE)
+                .rating(4)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package heej.net.domain.pricing.usecase;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.holiday.api.dto.HolidayResponse;
+import heej.net.domain.holiday.usecase.HolidayUseCase;
+import heej.net.domain.pricing.event.PricingChangedEvent;
+import heej.net.domain.pricing.infra.PricingInfra;
+import heej.net.domain.pricing.model.PricingRule;
+import heej.net.domain.pricing.model.PricingRuleType;
+import heej.net.domain.pricing.model.RoomRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PricingEngineTest {
+
+    private static final int HORIZON_DAYS = 60;
+    private static final long ROOM_ID = 1L;
+
+    private final PricingInfra pricingInfra = mock(PricingInfra.class);
+    private final HolidayUseCase holidayUseCase = mock(HolidayUseCase.class);
+
+    private final List<PricingRule> rules = new ArrayList<>();
+    private final List<RoomRate> rates = new ArrayList<>();
+    private final List<HolidayResponse> holidays = new ArrayList<>();
+
+    private PricingEngine pricingEngine;
+    private Room room;
+    private LocalDate friday;
+
+    @BeforeEach
+    void setUp() {
+        when(pricingInfra.findAllRules()).thenReturn(rules);
+        when(pricingInfra.findRates(anyCollection(), any(), any())).thenAnswer(invocation -> List.copyOf(rates));
+        when(holidayUseCase.getHolidaysByDateRange(any(), any())).thenAnswer(invocation -> List.copyOf(holidays));
+
+        pricingEngine = new PricingEngine(pricingInfra, holidayUseCase, HORIZON_DAYS, 600000);
+        room = room(ROOM_ID, "100000");
+        friday = LocalDate.now().plusDays(7).with(TemporalAdjusters.next(DayOfWeek.FRIDAY));
+    }
+
+    @Test
+    @DisplayName("규칙이 없으면 숙박 총액은 기본 요금 x 숙박일 수")
+    void quotesBasePriceWithoutRules() {
+        assertThat(pricingEngine.quote(room, friday, friday.plusDays(3)))
+                .isEqualByComparingTo("300000");
+    }
+
+    @Test
+    @DisplayName("주말 규칙은 금/토요일 숙박에만 적용된다")
+    void appliesWeekendRuleOnFridayAndSaturday() {
+        rules.add(rule(PricingRuleType.WEEKEND, null, 20));
+
+        // 목 ~ 월: 목(100000) + 금(120000) + 토(120000) + 일(100000)
+        assertThat(pricingEngine.quote(room, friday.minusDays(1), friday.plusDays(3)))
+                .isEqualByComparingTo("440000");
+    }
+
+    @Test
+    @DisplayName("규칙이 겹치면 공휴일 > 시즌 > 주말 순이며, 같은 종류면 객실 전용 규칙이 우선한다")
+    void resolvesRulePrecedence() {
+        LocalDate saturday = friday.plusDays(1);
+        rules.add(rule(PricingRuleType.WEEKEND, null, 20));
+        rules.add(seasonRule(null, 50, friday, friday.plusDays(1)));
+        rules.add(seasonRule(ROOM_ID, -10, friday, friday));
+        rules.add(rule(PricingRuleType.HOLIDAY, null, 100));
+        holidays.add(HolidayResponse.builder().holidayDate(saturday).holidayName("테스트 공휴일").build());
+
+        // 금: 객실 전용 시즌(-10%) / 토: 공휴일(+100%) / 일: 규칙 없음
+        assertThat(pricingEngine.quote(room, friday, friday.plusDays(3)))
+                .isEqualByComparingTo(String.valueOf(90000 + 200000 + 100000));
+    }
+
+    @Test
+    @DisplayName("다른 객실 전용 규칙은 적용하지 않는다")
+    void ignoresRulesForOtherRooms() {
+        rules.add(rule(PricingRuleType.WEEKEND, ROOM_ID + 1, 20));
+
+        assertThat(pricingEngine.quote(room, friday, friday.plusDays(2)))
+                .isEqualByComparingTo("200000");
+    }
+
+    @Test
+    @DisplayName("날짜별 지정 요금은 모든 규칙보다 우선한다")
+    void overrideWinsOverRules() {
+        rules.add(rule(PricingRuleType.WEEKEND, null, 20));
+        rates.add(RoomRate.builder().roomId(ROOM_ID).rateDate(friday).price(new BigDecimal("55000")).build());
+
+        assertThat(pricingEngine.quote(room, friday, friday.plusDays(2)))
+                .isEqualByComparingTo(String.valueOf(55000 + 120000));
+    }
+
+    @Test
+    @DisplayName("조정 요금은 최소 단위에서 반올림한다")
+    void roundsAdjustedPriceToMinorUnit() {
+        Room cheapRoom = room(ROOM_ID, "10.05");
+        rules.add(rule(PricingRuleType.WEEKEND, null, 15));
+
+        // 10.05 x 1.15 = 11.5575 -> 11.56
+        assertThat(pricingEngine.quote(cheapRoom, friday, friday.plusDays(1)))
+                .isEqualByComparingTo("11.56");
+    }
+
+    @Test
+    @DisplayName("prefix-sum 요금표로 계산한 총액은 날짜별 요금을 직접 더한 값과 같고, 구간을 나눠도 합이 같다")
+    void prefixSumMatchesNightlySum() {
+        rules.add(rule(PricingRuleType.WEEKEND, null, 20));
+        rules.add(seasonRule(null, 30, friday.plusDays(10), friday.plusDays(14)));
+        rates.add(RoomRate.builder().roomId(ROOM_ID).rateDate(friday.plusDays(5)).price(new BigDecimal("77777")).build());
+
+        LocalDate from = friday.minusDays(3);
+        LocalDate to = friday.plusDays(25);
+        long nightlySum = 0;
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            nightlySum += pricingEngine.quoteMinor(room, date, date.plusDays(1));
+        }
+
+        assertThat(pricingEngine.quoteMinor(room, from, to)).isEqualTo(nightlySum);
+        LocalDate split = friday.plusDays(11);
+        assertThat(pricingEngine.quoteMinor(room, from, split) + pricingEngine.quoteMinor(room, split, to))
+                .isEqualTo(nightlySum);
+    }
+
+    @Test
+    @DisplayName("요금표 구간을 벗어난 숙박은 직접 계산하며 구간 안 계산과 같은 규칙을 따른다")
+    void quotesBeyondHorizonDirectly() {
+        rules.add(rule(PricingRuleType.WEEKEND, null, 20));
+        LocalDate farFriday = LocalDate.now().plusDays(HORIZON_DAYS + 30).with(TemporalAdjusters.next(DayOfWeek.FRIDAY));
+
+        assertThat(pricingEngine.quote(room, farFriday.minusDays(1), farFriday.plusDays(3)))
+                .isEqualByComparingTo("440000");
+    }
+
+    @Test
+    @DisplayName("요금표는 한 번 계산해 재사용하고, 요금 변경 이벤트를 받으면 다시 계산한다")
+    void reusesTableUntilInvalidated() {
+        pricingEngine.quote(room, friday, friday.plusDays(2));
+        pricingEngine.quote(room, friday.plusDays(3), friday.plusDays(5));
+        verify(pricingInfra, times(1)).findRates(anyCollection(), any(), any());
+
+        rates.add(RoomRate.builder().roomId(ROOM_ID).rateDate(friday).price(new BigDecimal("50000")).build());
+        pricingEngine.onPricingChanged(PricingChangedEvent.rooms(Set.of(ROOM_ID)));
+
+        assertThat(pricingEngine.quote(room, friday, friday.plusDays(2)))
+                .isEqualByComparingTo("150000");
+        verify(pricingInfra, times(2)).findRates(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("객실 기본 요금이 바뀌면 이벤트 없이도 요금표를 다시 계산한다")
+    void recompilesWhenBasePriceChanges() {
+        pricingEngine.quote(room, friday, friday.plusDays(1));
+
+        assertThat(pricingEngine.quote(room(ROOM_ID, "80000"), friday, friday.plusDays(1)))
+                .isEqualByComparingTo("80000");
+    }
+
+    private Room room(Long id, String pricePerNight) {
+        return Room.builder().id(id).name("객실").pricePerNight(new BigDecimal(pricePerNight)).maxCapacity(2).build();
+    }
+
+    private PricingRule rule(PricingRuleType type, Long roomId, int adjustmentPercent) {
+        return PricingRule.builder().type(type).roomId(roomId).name(type.name())
+                .adjustmentPercent(adjustmentPercent).build();
+    }
+
+    private PricingRule seasonRule(Long roomId, int adjustmentPercent, LocalDate startDate, LocalDate endDate) {
+        return PricingRule.builder().type(PricingRuleType.SEASON).roomId(roomId).name("시즌")
+                .adjustmentPercent(adjustmentPercent).startDate(startDate).endDate(endDate).build();
+    }
+}
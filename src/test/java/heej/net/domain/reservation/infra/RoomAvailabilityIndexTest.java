@@ -0,0 +1,119 @@
+package heej.net.domain.reservation.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomAvailabilityIndexTest {
+
+    // 인덱스 시작일 (스케줄러에서는 어제)
+    private static final LocalDate ORIGIN = LocalDate.of(2026, 1, 10);
+
+    private final RoomAvailabilityIndex availabilityIndex = new RoomAvailabilityIndex(true);
+
+    @Test
+    @DisplayName("적재 전이거나 비활성화되어 있으면 어떤 기간도 답하지 않는다")
+    void coversNothingWhenNotReady() {
+        assertThat(availabilityIndex.covers(ORIGIN, ORIGIN.plusDays(1))).isFalse();
+
+        RoomAvailabilityIndex disabled = new RoomAvailabilityIndex(false);
+        disabled.replace(disabled.build(ORIGIN, List.of()));
+        assertThat(disabled.covers(ORIGIN, ORIGIN.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("시작일 이전에 체크인하거나 체크아웃이 체크인보다 앞서면 DB 로 대체하도록 답하지 않는다")
+    void coversOnlyFromOrigin() {
+        availabilityIndex.replace(availabilityIndex.build(ORIGIN, List.of()));
+
+        assertThat(availabilityIndex.covers(ORIGIN, ORIGIN)).isTrue();
+        assertThat(availabilityIndex.covers(ORIGIN.plusDays(30), ORIGIN.plusDays(32))).isTrue();
+        assertThat(availabilityIndex.covers(ORIGIN.minusDays(1), ORIGIN.plusDays(1))).isFalse();
+        assertThat(availabilityIndex.covers(ORIGIN.plusDays(3), ORIGIN.plusDays(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 중복 조건과 같이 체크인~체크아웃 당일까지 점유로 보아, 체크아웃 날 체크인하는 기간도 겹친다")
+    void treatsCheckOutDayAsOccupied() {
+        availabilityIndex.replace(availabilityIndex.build(ORIGIN, List.of(
+                stay(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(4)))));
+
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(4), ORIGIN.plusDays(6))).isTrue();
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN, ORIGIN.plusDays(2))).isTrue();
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(3), ORIGIN.plusDays(3))).isTrue();
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(5), ORIGIN.plusDays(7))).isFalse();
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN, ORIGIN.plusDays(1))).isFalse();
+        assertThat(availabilityIndex.hasOccupancy(99L, ORIGIN, ORIGIN.plusDays(10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("시작일 이전에 걸친 예약은 시작일부터만 남기고, 시작일 전에 끝난 예약은 버린다")
+    void clipsStaysBeforeOrigin() {
+        availabilityIndex.replace(availabilityIndex.build(ORIGIN, List.of(
+                stay(1L, ORIGIN.minusDays(2), ORIGIN),
+                stay(2L, ORIGIN.minusDays(5), ORIGIN.minusDays(1)))));
+
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN, ORIGIN)).isTrue();
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(1), ORIGIN.plusDays(3))).isFalse();
+        assertThat(availabilityIndex.hasOccupancy(2L, ORIGIN, ORIGIN.plusDays(3))).isFalse();
+    }
+
+    @Test
+    @DisplayName("점유/해제는 해당 기간만 바꾸고, 모두 해제된 객실은 DB 기준과 차이가 없다")
+    void occupiesAndReleases() {
+        availabilityIndex.replace(availabilityIndex.build(ORIGIN, List.of(
+                stay(1L, ORIGIN.plusDays(1), ORIGIN.plusDays(2)))));
+
+        availabilityIndex.occupy(1L, ORIGIN.plusDays(5), ORIGIN.plusDays(6));
+        availabilityIndex.occupy(2L, ORIGIN.plusDays(3), ORIGIN.plusDays(4));
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(6), ORIGIN.plusDays(8))).isTrue();
+        assertThat(availabilityIndex.hasOccupancy(2L, ORIGIN.plusDays(3), ORIGIN.plusDays(3))).isTrue();
+
+        availabilityIndex.release(1L, ORIGIN.plusDays(5), ORIGIN.plusDays(6));
+        availabilityIndex.release(2L, ORIGIN.plusDays(3), ORIGIN.plusDays(4));
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(3), ORIGIN.plusDays(10))).isFalse();
+        assertThat(availabilityIndex.hasOccupancy(1L, ORIGIN.plusDays(1), ORIGIN.plusDays(1))).isTrue();
+        assertThat(availabilityIndex.hasOccupancy(2L, ORIGIN, ORIGIN.plusDays(10))).isFalse();
+        assertThat(availabilityIndex.diff(availabilityIndex.build(ORIGIN, List.of(
+                stay(1L, ORIGIN.plusDays(1), ORIGIN.plusDays(2)))))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 전 변경은 반영하지 않고 변경 횟수만 올려, 그 전에 읽기 시작한 적재가 교체되지 않게 한다")
+    void rejectsReplaceWhenChangedDuringLoad() {
+        long before = availabilityIndex.getModCount();
+        RoomAvailabilityIndex.Snapshot loaded = availabilityIndex.build(ORIGIN, List.of());
+
+        availabilityIndex.occupy(1L, ORIGIN.plusDays(1), ORIGIN.plusDays(2));
+
+        assertThat(availabilityIndex.replaceIfUnchanged(loaded, before)).isFalse();
+        assertThat(availabilityIndex.isReady()).isFalse();
+        assertThat(availabilityIndex.replaceIfUnchanged(loaded, availabilityIndex.getModCount())).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 기준과 점유가 다른 객실만 불일치로 찾고, 시작일이 앞당겨진 기준과도 같은 날짜끼리 비교한다")
+    void diffsAgainstExpectedSnapshot() {
+        availabilityIndex.replace(availabilityIndex.build(ORIGIN, List.of(
+                stay(1L, ORIGIN, ORIGIN.plusDays(3)),
+                stay(2L, ORIGIN.plusDays(2), ORIGIN.plusDays(3)),
+                stay(3L, ORIGIN.plusDays(5), ORIGIN.plusDays(6)))));
+
+        // 하루 뒤 기준: 1 은 시작일 이전 하루가 잘려도 같고, 2 는 DB 에서 기간이 바뀌었고, 3 은 DB 에서 취소됨, 4 는 인덱스에 누락
+        LocalDate nextOrigin = ORIGIN.plusDays(1);
+        RoomAvailabilityIndex.Snapshot expected = availabilityIndex.build(nextOrigin, List.of(
+                stay(1L, ORIGIN, ORIGIN.plusDays(3)),
+                stay(2L, ORIGIN.plusDays(2), ORIGIN.plusDays(4)),
+                stay(4L, ORIGIN.plusDays(7), ORIGIN.plusDays(8))));
+
+        assertThat(availabilityIndex.diff(expected)).containsExactlyInAnyOrder(2L, 3L, 4L);
+    }
+
+    private static ReservationStay stay(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        return new ReservationStay(roomId, checkIn, checkOut);
+    }
+}
@@ -0,0 +1,92 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.infra.ReservationStay;
+import heej.net.domain.reservation.infra.RoomAvailabilityIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AvailabilityIndexSchedulerTest {
+
+    private static final long ROOM_ID = 1L;
+
+    private final ReservationInfra reservationInfra = mock(ReservationInfra.class);
+    private final RoomAvailabilityIndex availabilityIndex = new RoomAvailabilityIndex(true);
+    private final AvailabilityIndexScheduler scheduler = new AvailabilityIndexScheduler(reservationInfra,
+            availabilityIndex);
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    @DisplayName("재구성은 DB 기준 스냅샷으로 교체해 이벤트로 반영되지 않은 점유를 바로잡는다")
+    void repairsMismatchFromDatabase() {
+        when(reservationInfra.findActiveStaysFrom(any()))
+                .thenReturn(List.of(stay(today.plusDays(1), today.plusDays(2))));
+        scheduler.rebuild();
+        // 이벤트 유실 등으로 인덱스에만 남은 점유
+        availabilityIndex.occupy(ROOM_ID, today.plusDays(5), today.plusDays(6));
+
+        scheduler.rebuild();
+
+        assertThat(availabilityIndex.hasOccupancy(ROOM_ID, today.plusDays(5), today.plusDays(6))).isFalse();
+        assertThat(availabilityIndex.hasOccupancy(ROOM_ID, today.plusDays(2), today.plusDays(3))).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 를 읽는 동안 커밋된 점유가 있으면 교체하지 않아, 그 점유를 읽기 전 스냅샷으로 덮어쓰지 않는다")
+    void rejectsReconcileWhenChangedDuringLoad() {
+        when(reservationInfra.findActiveStaysFrom(any())).thenReturn(List.of());
+        scheduler.rebuild();
+
+        // 조회 도중 예약이 커밋되어 이벤트로 인덱스에 반영됨 (조회 결과에는 없음)
+        when(reservationInfra.findActiveStaysFrom(any())).thenAnswer(invocation -> {
+            availabilityIndex.occupy(ROOM_ID, today.plusDays(3), today.plusDays(4));
+            return List.of();
+        });
+        long modCountBefore = availabilityIndex.getModCount();
+
+        scheduler.rebuild();
+
+        assertThat(availabilityIndex.getModCount()).isEqualTo(modCountBefore + 1);
+        assertThat(availabilityIndex.hasOccupancy(ROOM_ID, today.plusDays(3), today.plusDays(4))).isTrue();
+    }
+
+    @Test
+    @DisplayName("초기 적재 중에 계속 변경되면 세 번까지만 다시 읽고 적재하지 않은 채(DB 조회 대체) 다음 주기에 맡긴다")
+    void givesUpInitialLoadAfterRetries() {
+        when(reservationInfra.findActiveStaysFrom(any())).thenAnswer(invocation -> {
+            availabilityIndex.occupy(ROOM_ID, today, today.plusDays(1));
+            return List.of();
+        });
+
+        scheduler.initIndex();
+
+        assertThat(availabilityIndex.isReady()).isFalse();
+        assertThat(availabilityIndex.getModCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초기 적재는 어제부터의 활성 예약을 읽는다")
+    void loadsFromYesterday() {
+        when(reservationInfra.findActiveStaysFrom(today.minusDays(1)))
+                .thenReturn(List.of(stay(today.minusDays(1), today)));
+
+        scheduler.initIndex();
+
+        assertThat(availabilityIndex.covers(today.minusDays(1), today)).isTrue();
+        assertThat(availabilityIndex.covers(today.minusDays(2), today)).isFalse();
+        assertThat(availabilityIndex.hasOccupancy(ROOM_ID, today, today.plusDays(1))).isTrue();
+    }
+
+    private static ReservationStay stay(LocalDate checkIn, LocalDate checkOut) {
+        return new ReservationStay(ROOM_ID, checkIn, checkOut);
+    }
+}
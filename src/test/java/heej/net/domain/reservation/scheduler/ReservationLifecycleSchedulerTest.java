@@ -0,0 +1,95 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.infra.RoomAvailabilityIndex;
+import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.ReservationStatus;
+import heej.net.domain.reservation.usecase.ReservationUseCase;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 보류 시간 0분 - 만료 배치를 실행하면 그 시점까지 생성된 PENDING 예약이 모두 대상
+@TestPropertySource(properties = "reservation.lifecycle.pending-hold-minutes=0")
+class ReservationLifecycleSchedulerTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ReservationLifecycleScheduler lifecycleScheduler;
+
+    @Autowired
+    private ReservationUseCase reservationUseCase;
+
+    @Autowired
+    private RoomAvailabilityIndex availabilityIndex;
+
+    @Test
+    @DisplayName("체크아웃이 지난 PENDING/CONFIRMED 예약은 완료 처리하고, 진행 중인 예약은 그대로 둔다")
+    void completesPendingAndConfirmedPastCheckout() {
+        Member member = saveMember();
+        Room room = saveRoom(saveAccommodation("부산"), BigDecimal.valueOf(90000), 2);
+        LocalDate today = LocalDate.now();
+
+        Reservation pastPending = saveReservation(member, room, today.minusDays(5), today.minusDays(3),
+                ReservationStatus.PENDING);
+        Reservation pastConfirmed = saveReservation(member, room, today.minusDays(10), today.minusDays(8),
+                ReservationStatus.CONFIRMED);
+        Reservation checkingOutToday = saveReservation(member, room, today.minusDays(1), today,
+                ReservationStatus.PENDING);
+        Reservation pastCancelled = saveReservation(member, room, today.minusDays(20), today.minusDays(18),
+                ReservationStatus.CANCELLED);
+        long completedBefore = lifecycleScheduler.stats().getTotalCompleted();
+
+        int completed = lifecycleScheduler.completePastStays();
+
+        assertThat(completed).isGreaterThanOrEqualTo(2);
+        assertThat(statusOf(pastPending)).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(statusOf(pastConfirmed)).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(statusOf(checkingOutToday)).isEqualTo(ReservationStatus.PENDING);
+        assertThat(statusOf(pastCancelled)).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+        assertThat(lifecycleScheduler.stats().getTotalCompleted() - completedBefore).isEqualTo(completed);
+    }
+
+    @Test
+    @DisplayName("보류 시간이 지난 PENDING 예약은 취소하고 점유일을 해제해, 같은 기간을 다시 예약할 수 있다")
+    void expiresStalePendingAndReleasesNights() {
+        Member member = saveMember();
+        Room room = saveRoom(saveAccommodation("강릉"), BigDecimal.valueOf(70000), 2);
+        LocalDate checkIn = LocalDate.now().plusDays(20);
+        ReservationResponse pending = reservationUseCase.createReservation(member.getId(),
+                new CreateReservationRequest(room.getId(), checkIn, checkIn.plusDays(2), 2, null));
+        assertThat(countRoomNights(room.getId())).isEqualTo(3);
+        assertThat(availabilityIndex.hasOccupancy(room.getId(), checkIn, checkIn.plusDays(2))).isTrue();
+        long expiredBefore = lifecycleScheduler.stats().getTotalExpired();
+
+        int expired = lifecycleScheduler.expireStalePending();
+
+        assertThat(expired).isGreaterThanOrEqualTo(1);
+        Reservation reservation = reservationRepository.findById(pending.getId()).orElseThrow();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(reservation.getCancellationReason()).isNotBlank();
+        assertThat(countActiveReservations(room.getId())).isZero();
+        assertThat(countRoomNights(room.getId())).isZero();
+        // 커밋 이후 해제 이벤트로 가용성 인덱스에도 반영
+        assertThat(availabilityIndex.hasOccupancy(room.getId(), checkIn, checkIn.plusDays(2))).isFalse();
+        assertThat(lifecycleScheduler.stats().getTotalExpired() - expiredBefore).isEqualTo(expired);
+
+        reservationUseCase.createReservation(member.getId(),
+                new CreateReservationRequest(room.getId(), checkIn, checkIn.plusDays(2), 2, null));
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+    }
+
+    private ReservationStatus statusOf(Reservation reservation) {
+        return reservationRepository.findById(reservation.getId()).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,47 @@
+package heej.net.domain.reservation.scheduler;
+
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.model.ReservationStatus;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomNightBackfillTest extends IntegrationTestSupport {
+
+    @Autowired
+    private RoomNightBackfill roomNightBackfill;
+
+    @Autowired
+    private ReservationInfra reservationInfra;
+
+    @Test
+    @DisplayName("점유일 없이 저장된 기존 활성 예약만 점유일을 채우고, 다시 실행해도 결과가 같다")
+    void backfillsActiveReservationsOnce() {
+        Member member = saveMember();
+        Room room = saveRoom(saveAccommodation("제주"), BigDecimal.valueOf(120000), 2);
+        LocalDate checkIn = LocalDate.now().plusDays(90);
+
+        // room_nights 도입 이전처럼 예약 행만 저장
+        saveReservation(member, room, checkIn, checkIn.plusDays(2), ReservationStatus.PENDING);
+        saveReservation(member, room, checkIn.plusDays(10), checkIn.plusDays(11), ReservationStatus.CANCELLED);
+        assertThat(reservationInfra.hasOverlappingReservationInDatabase(room.getId(), checkIn, checkIn)).isFalse();
+
+        roomNightBackfill.backfill();
+        roomNightBackfill.backfill();
+
+        // 체크인 ~ 체크아웃 당일 3일, 취소된 예약은 제외
+        assertThat(countRoomNights(room.getId())).isEqualTo(3);
+        assertThat(reservationInfra.hasOverlappingReservationInDatabase(
+                room.getId(), checkIn.plusDays(1), checkIn.plusDays(1))).isTrue();
+        assertThat(reservationInfra.hasOverlappingReservationInDatabase(
+                room.getId(), checkIn.plusDays(10), checkIn.plusDays(11))).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.model.BookingMode;
+import heej.net.support.ConcurrentRunner;
+import heej.net.support.IntegrationTestSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 모드별 경합 벤치마크 (./gradlew benchmark)
+ *
+ * 소수의 인기 객실에 동시 예약이 몰리는 상황에서 PESSIMISTIC 과 OPTIMISTIC 의 처리량과 p50/p99 지연을 비교합니다.
+ * 요청끼리 기간은 겹치지 않으므로 실패는 락 경합(재시도 초과)에서만 생기며, 두 모드 모두 중복 예약이 없어야 합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class BookingContentionBenchmark extends IntegrationTestSupport {
+
+    private static final int HOT_ROOMS = 4;
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 800;
+    private static final int WARMUP_REQUESTS = 100;
+
+    @Autowired
+    private ReservationUseCase reservationUseCase;
+
+    @AfterEach
+    void restoreMode() {
+        setBookingMode(BookingMode.PESSIMISTIC);
+    }
+
+    @Test
+    void compareBookingModesUnderContention() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-12s %10s %10s %10s %8s %8s", "mode", "ops/s", "p50(ms)", "p99(ms)", "ok", "failed"));
+        for (BookingMode mode : List.of(BookingMode.PESSIMISTIC, BookingMode.OPTIMISTIC)) {
+            setBookingMode(mode);
+            run(WARMUP_REQUESTS);
+
+            List<Room> rooms = new ArrayList<>();
+            ConcurrentRunner.Result<ReservationResponse> result = run(REQUESTS, rooms);
+            report.add(String.format("%-12s %10.1f %10.2f %10.2f %8d %8d", mode,
+                    result.throughputPerSecond(), result.percentileMillis(50), result.percentileMillis(99),
+                    result.getSuccesses().size(), result.getFailures().size()));
+
+            long reservations = rooms.stream().mapToLong(room -> countActiveReservations(room.getId())).sum();
+            long nights = rooms.stream().mapToLong(room -> countRoomNights(room.getId())).sum();
+            assertThat(reservations).isEqualTo(result.getSuccesses().size());
+            assertThat(nights).isEqualTo(reservations * 2);
+        }
+        log.info("Booking contention benchmark (rooms={}, threads={}, requests={})\n{}",
+                HOT_ROOMS, THREADS, REQUESTS, String.join("\n", report));
+    }
+
+    private void run(int requests) throws Exception {
+        run(requests, new ArrayList<>());
+    }
+
+    private ConcurrentRunner.Result<ReservationResponse> run(int requests, List<Room> rooms) throws Exception {
+        Member member = saveMember();
+        Accommodation accommodation = saveAccommodation("벤치마크");
+        for (int i = 0; i < HOT_ROOMS; i++) {
+            rooms.add(saveRoom(accommodation, BigDecimal.valueOf(100000), 2));
+        }
+        LocalDate base = LocalDate.now().plusDays(1);
+
+        // 요청 i 는 객실 i % HOT_ROOMS 의 겹치지 않는 1박 (점유일은 체크아웃 당일까지라 3일 간격)
+        return ConcurrentRunner.run(THREADS, requests, i -> {
+            Room room = rooms.get(i % HOT_ROOMS);
+            LocalDate checkIn = base.plusDays((i / HOT_ROOMS) * 3L);
+            return reservationUseCase.createReservation(member.getId(),
+                    new CreateReservationRequest(room.getId(), checkIn, checkIn.plusDays(1), 1, null));
+        });
+    }
+
+    private void setBookingMode(BookingMode mode) {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(reservationUseCase), "bookingMode", mode);
+    }
+}
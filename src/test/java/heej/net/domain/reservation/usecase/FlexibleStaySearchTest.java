@@ -0,0 +1,203 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.accommodation.model.RoomType;
+import heej.net.domain.holiday.api.dto.HolidayResponse;
+import heej.net.domain.holiday.usecase.HolidayUseCase;
+import heej.net.domain.pricing.usecase.PricingEngine;
+import heej.net.domain.reservation.api.dto.FlexibleStayResponse;
+import heej.net.domain.reservation.api.dto.FlexibleStaySearchRequest;
+import heej.net.domain.reservation.infra.ReservationInfra;
+import heej.net.domain.reservation.infra.ReservationStay;
+import heej.net.domain.reservation.model.StayWindowSort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FlexibleStaySearchTest {
+
+    private final RoomInfra roomInfra = mock(RoomInfra.class);
+    private final ReservationInfra reservationInfra = mock(ReservationInfra.class);
+    private final HolidayUseCase holidayUseCase = mock(HolidayUseCase.class);
+    private final PricingEngine pricingEngine = mock(PricingEngine.class);
+
+    private final List<Room> rooms = new ArrayList<>();
+    private final List<ReservationStay> stays = new ArrayList<>();
+    private final List<LocalDate> holidays = new ArrayList<>();
+
+    private FlexibleStaySearch flexibleStaySearch;
+    private LocalDate from;
+
+    @BeforeEach
+    void setUp() {
+        when(roomInfra.findAll()).thenReturn(rooms);
+        when(reservationInfra.findActiveStaysByRoomIds(anyCollection(), any(), any())).thenReturn(stays);
+        when(holidayUseCase.getHolidaysByDateRange(any(), any())).thenAnswer(invocation -> holidays.stream()
+                .map(date -> HolidayResponse.builder().holidayDate(date).holidayName("공휴일").build())
+                .collect(Collectors.toList()));
+        when(pricingEngine.quoteMinor(any(), any(), any())).thenAnswer(invocation -> price(
+                invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        flexibleStaySearch = new FlexibleStaySearch(roomInfra, reservationInfra, holidayUseCase, pricingEngine);
+        from = LocalDate.now().plusDays(10);
+    }
+
+    @Test
+    @DisplayName("기존 예약과는 체크아웃 당일까지 겹치면 안 된다")
+    void treatsCheckoutDayAsOccupied() {
+        Room room = addRoom(1L);
+        // from+3 ~ from+5 예약 -> from+3 ~ from+5 점유
+        stays.add(new ReservationStay(room.getId(), from.plusDays(3), from.plusDays(5)));
+
+        List<LocalDate> checkIns = checkInDates(search(from, from.plusDays(9), 2, StayWindowSort.EARLIEST, 50));
+
+        // 체크아웃(체크인+2)이 from+3 이전이거나 체크인이 from+5 이후여야 함
+        assertThat(checkIns).containsExactly(from, from.plusDays(6), from.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("숙박일에 공휴일이 있으면 제외하지만 체크아웃 당일 공휴일은 허용한다")
+    void excludesHolidayNightsButNotCheckoutDay() {
+        addRoom(1L);
+        holidays.add(from.plusDays(2));
+
+        List<LocalDate> checkIns = checkInDates(search(from, from.plusDays(5), 2, StayWindowSort.EARLIEST, 50));
+
+        assertThat(checkIns).containsExactly(from, from.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("검색 기간 앞뒤로 걸친 예약은 기간 안쪽만 점유로 본다")
+    void clipsStaysToSearchRange() {
+        Room room = addRoom(1L);
+        stays.add(new ReservationStay(room.getId(), from.minusDays(5), from.plusDays(1)));
+        stays.add(new ReservationStay(room.getId(), from.plusDays(6), from.plusDays(20)));
+
+        List<LocalDate> checkIns = checkInDates(search(from, from.plusDays(8), 2, StayWindowSort.EARLIEST, 50));
+
+        assertThat(checkIns).containsExactly(from.plusDays(2), from.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("무작위 예약/공휴일에 대해 창 밀기 결과가 날짜별 전수 검사 결과와 같다")
+    void matchesBruteForceOnRandomCalendars() {
+        Random random = new Random(42);
+        for (long id = 1; id <= 8; id++) {
+            addRoom(id);
+        }
+        LocalDate to = from.plusDays(40);
+        for (Room room : rooms) {
+            for (int i = 0; i < 4; i++) {
+                LocalDate checkIn = from.plusDays(random.nextInt(45) - 3);
+                stays.add(new ReservationStay(room.getId(), checkIn, checkIn.plusDays(1 + random.nextInt(4))));
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            holidays.add(from.plusDays(random.nextInt(40)));
+        }
+
+        for (int nights = 1; nights <= 5; nights++) {
+            for (StayWindowSort sort : StayWindowSort.values()) {
+                List<FlexibleStayResponse> result = search(from, to, nights, sort, 15);
+
+                List<Candidate> expected = bruteForce(to, nights);
+                expected.sort(sort == StayWindowSort.EARLIEST ? Candidate.EARLIEST : Candidate.CHEAPEST);
+                assertThat(result).extracting(FlexibleStayResponse::getRoomId, FlexibleStayResponse::getCheckInDate)
+                        .as("nights=%d, sort=%s", nights, sort)
+                        .containsExactlyElementsOf(expected.stream().limit(15)
+                                .map(candidate -> tuple(candidate.roomId, candidate.checkIn))
+                                .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("숙박일수가 기간보다 길면 빈 결과")
+    void returnsEmptyWhenStayDoesNotFit() {
+        addRoom(1L);
+
+        assertThat(search(from, from.plusDays(2), 3, StayWindowSort.CHEAPEST, 10)).isEmpty();
+    }
+
+    // 날짜마다 전체 예약/공휴일을 직접 확인하는 기준 구현
+    private List<Candidate> bruteForce(LocalDate to, int nights) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (Room room : rooms) {
+            for (LocalDate checkIn = from; !checkIn.plusDays(nights).isAfter(to); checkIn = checkIn.plusDays(1)) {
+                LocalDate checkOut = checkIn.plusDays(nights);
+                LocalDate in = checkIn;
+                boolean overlaps = stays.stream().anyMatch(stay -> stay.getRoomId().equals(room.getId())
+                        && !stay.getCheckInDate().isAfter(checkOut) && !stay.getCheckOutDate().isBefore(in));
+                boolean holiday = holidays.stream().anyMatch(date -> !date.isBefore(in) && date.isBefore(checkOut));
+                if (!overlaps && !holiday) {
+                    candidates.add(new Candidate(room.getId(), checkIn, price(room, checkIn, checkOut)));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    // 객실/날짜마다 다른 1박 요금
+    private static long price(Room room, LocalDate checkIn, LocalDate checkOut) {
+        long total = 0;
+        for (LocalDate date = checkIn; date.isBefore(checkOut); date = date.plusDays(1)) {
+            total += 10000 + room.getId() * 700 + Math.floorMod(date.toEpochDay() * 31, 13) * 100;
+        }
+        return total;
+    }
+
+    private List<FlexibleStayResponse> search(LocalDate fromDate, LocalDate toDate, int nights,
+                                              StayWindowSort sort, int limit) {
+        return flexibleStaySearch.search(
+                new FlexibleStaySearchRequest(null, null, null, fromDate, toDate, nights, sort, limit));
+    }
+
+    private List<LocalDate> checkInDates(List<FlexibleStayResponse> responses) {
+        return responses.stream().map(FlexibleStayResponse::getCheckInDate).collect(Collectors.toList());
+    }
+
+    private Room addRoom(Long id) {
+        Room room = Room.builder()
+                .id(id)
+                .accommodation(Accommodation.builder().id(100L).build())
+                .name("객실 " + id)
+                .type(RoomType.STANDARD)
+                .maxCapacity(2)
+                .build();
+        rooms.add(room);
+        return room;
+    }
+
+    private static final class Candidate {
+        private static final Comparator<Candidate> CHEAPEST = Comparator.<Candidate>comparingLong(c -> c.totalMinor)
+                .thenComparing(c -> c.checkIn).thenComparing(c -> c.roomId);
+        private static final Comparator<Candidate> EARLIEST = Comparator.<Candidate, LocalDate>comparing(c -> c.checkIn)
+                .thenComparingLong(c -> c.totalMinor).thenComparing(c -> c.roomId);
+
+        private final Long roomId;
+        private final LocalDate checkIn;
+        private final long totalMinor;
+
+        private Candidate(Long roomId, LocalDate checkIn, long totalMinor) {
+            this.roomId = roomId;
+            this.checkIn = checkIn;
+            this.totalMinor = totalMinor;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.domain.accommodation.infra.RoomInfra;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.api.dto.CreateReservationRequest;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.support.ConcurrentRunner;
+import heej.net.support.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 낙관적 락 예약(OPTIMISTIC) 동시성 검증 - 중복 예약이 생기지 않고, 재시도 횟수가 설정값을 넘지 않는지 확인합니다.
+ */
+@TestPropertySource(properties = {
+        "reservation.booking.mode=OPTIMISTIC",
+        "reservation.booking.optimistic.max-retries=" + OptimisticBookingConcurrencyTest.MAX_RETRIES,
+        "reservation.booking.optimistic.backoff-ms=5"
+})
+class OptimisticBookingConcurrencyTest extends IntegrationTestSupport {
+
+    static final int MAX_RETRIES = 3;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ReservationUseCase reservationUseCase;
+
+    @SpyBean
+    private RoomInfra roomInfra;
+
+    @Test
+    @DisplayName("같은 객실/기간 동시 예약은 한 건만 성공하고 나머지는 중복 또는 재시도 초과로 거절된다")
+    void sameNightsOnlyOneSucceeds() throws Exception {
+        Member member = saveMember();
+        Room room = saveRoom(saveAccommodation("서울"), BigDecimal.valueOf(100000), 2);
+        LocalDate checkIn = LocalDate.now().plusDays(60);
+        CreateReservationRequest request = new CreateReservationRequest(
+                room.getId(), checkIn, checkIn.plusDays(2), 2, null);
+
+        ConcurrentRunner.Result<ReservationResponse> result = ConcurrentRunner.run(THREADS, THREADS,
+                i -> reservationUseCase.createReservation(member.getId(), request));
+
+        assertThat(result.getSuccesses()).hasSize(1);
+        assertThat(result.getFailures()).hasSize(THREADS - 1)
+                .allSatisfy(failure -> assertThat(failure)
+                        .isInstanceOfAny(IllegalArgumentException.class, IllegalStateException.class));
+        assertThat(countActiveReservations(room.getId())).isEqualTo(1);
+        assertThat(countRoomNights(room.getId())).isEqualTo(3);
+        assertBoundedAttempts(room);
+    }
+
+    @Test
+    @DisplayName("같은 객실의 서로 다른 기간 동시 예약은 version 충돌 시 재시도하며, 실패는 재시도 초과뿐이다")
+    void disjointNightsRetryWithinBound() throws Exception {
+        Member member = saveMember();
+        Room room = saveRoom(saveAccommodation("부산"), BigDecimal.valueOf(80000), 2);
+        LocalDate base = LocalDate.now().plusDays(30);
+
+        // 점유일은 체크인~체크아웃 당일까지이므로 3일 간격으로 겹치지 않게 배치
+        ConcurrentRunner.Result<ReservationResponse> result = ConcurrentRunner.run(THREADS, THREADS, i -> {
+            LocalDate checkIn = base.plusDays(i * 3L);
+            return reservationUseCase.createReservation(member.getId(),
+                    new CreateReservationRequest(room.getId(), checkIn, checkIn.plusDays(1), 1, null));
+        });
+
+        assertThat(result.getSuccesses()).isNotEmpty();
+        assertThat(result.getFailures()).allSatisfy(failure ->
+                assertThat(failure).isInstanceOf(IllegalStateException.class));
+        assertThat(countActiveReservations(room.getId())).isEqualTo(result.getSuccesses().size());
+        assertThat(countRoomNights(room.getId())).isEqualTo(result.getSuccesses().size() * 2L);
+        assertBoundedAttempts(room);
+    }
+
+    // 요청마다 최초 시도 1회 + 최대 MAX_RETRIES 회 재시도
+    private void assertBoundedAttempts(Room room) {
+        verify(roomInfra, atMost(THREADS * (MAX_RETRIES + 1))).findByIdWithVersionIncrement(room.getId());
+    }
+}
@@ -0,0 +1,108 @@
+package heej.net.domain.reservation.usecase;
+
+import heej.net.common.pagination.CursorPage;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.reservation.api.dto.ReservationResponse;
+import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.ReservationStatus;
+import heej.net.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 조회 경로가 예약 건수와 무관하게 고정된 수의 SQL 만 실행하는지 검증 (N+1 회귀 방지)
+ */
+class ReservationQueryCountTest extends IntegrationTestSupport {
+
+    private static final int RESERVATION_COUNT = 5;
+
+    @Autowired
+    private ReservationUseCase reservationUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+    private List<Reservation> reservations;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        member = saveMember();
+        reservations = new ArrayList<>();
+        LocalDate checkIn = LocalDate.now().plusDays(60);
+        // 숙소/객실이 모두 다른 예약 - 연관 엔티티를 지연 로딩하면 건수만큼 쿼리가 늘어남
+        for (int i = 0; i < RESERVATION_COUNT; i++) {
+            Room room = saveRoom(saveAccommodation("서울"), BigDecimal.valueOf(100000), 2);
+            reservations.add(saveReservation(member, room, checkIn.plusDays(i * 3L), checkIn.plusDays(i * 3L + 1),
+                    ReservationStatus.PENDING));
+        }
+    }
+
+    @Test
+    @DisplayName("내 예약 목록은 예약 건수와 관계없이 한 번의 쿼리로 조회한다")
+    void getMyReservationsRunsSingleQuery() {
+        statistics.clear();
+
+        List<ReservationResponse> result = reservationUseCase.getMyReservations(member.getId(), false);
+
+        assertThat(result).hasSize(RESERVATION_COUNT);
+        assertThat(result).allSatisfy(reservation -> {
+            assertThat(reservation.getRoomName()).isNotNull();
+            assertThat(reservation.getAccommodationName()).isNotNull();
+            assertThat(reservation.getMemberName()).isEqualTo(member.getName());
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 예약을 포함한 목록 조회는 예약 테이블과 보관 테이블을 한 번씩만 조회한다")
+    void getMyReservationsWithArchiveRunsOneQueryPerTable() {
+        statistics.clear();
+
+        List<ReservationResponse> result = reservationUseCase.getMyReservations(member.getId(), true);
+
+        assertThat(result).hasSize(RESERVATION_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 기반 내 예약 목록도 페이지 크기와 관계없이 한 번의 쿼리로 조회한다")
+    void getMyReservationsPageRunsSingleQuery() {
+        statistics.clear();
+
+        CursorPage<ReservationResponse> page = reservationUseCase.getMyReservations(member.getId(), null, RESERVATION_COUNT - 1, false);
+
+        assertThat(page.getContent()).hasSize(RESERVATION_COUNT - 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 상세 조회는 한 번의 쿼리로 조회한다")
+    void getReservationRunsSingleQuery() {
+        Reservation target = reservations.get(0);
+        statistics.clear();
+
+        ReservationResponse result = reservationUseCase.getReservation(member.getId(), target.getId(), false);
+
+        assertThat(result.getId()).isEqualTo(target.getId());
+        assertThat(result.getRoomName()).isNotNull();
+        assertThat(result.getAccommodationName()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,98 @@
+package heej.net.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * 여러 작업을 동시에 출발시켜 결과(성공/예외)와 작업별 소요 시간을 모읍니다.
+ */
+public final class ConcurrentRunner {
+
+    private ConcurrentRunner() {
+    }
+
+    /**
+     * tasks 개의 작업을 threads 개 스레드로 실행합니다. 작업 번호(0 ~ tasks-1)를 받아 실행합니다.
+     */
+    public static <T> Result<T> run(int threads, int tasks, IntFunction<T> task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        List<T> successes = Collections.synchronizedList(new ArrayList<>());
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        long[] latencies = new long[tasks];
+
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    successes.add(task.apply(index));
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    latencies[index] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            try {
+                future.get(2, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                throw new IllegalStateException("동시 실행 작업이 끝나지 않았습니다.", e);
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdownNow();
+        return new Result<>(successes, failures, latencies, elapsed);
+    }
+
+    public static final class Result<T> {
+        private final List<T> successes;
+        private final List<Throwable> failures;
+        private final long[] latencies;
+        private final long elapsedNanos;
+
+        private Result(List<T> successes, List<Throwable> failures, long[] latencies, long elapsedNanos) {
+            this.successes = successes;
+            this.failures = failures;
+            this.latencies = latencies.clone();
+            this.elapsedNanos = elapsedNanos;
+            Arrays.sort(this.latencies);
+        }
+
+        public List<T> getSuccesses() {
+            return successes;
+        }
+
+        public List<Throwable> getFailures() {
+            return failures;
+        }
+
+        // 전체 작업 완료 기준 초당 처리 건수 (성공/실패 모두 포함)
+        public double throughputPerSecond() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        public double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000.0;
+        }
+    }
+}
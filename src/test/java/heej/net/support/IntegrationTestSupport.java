@@ -0,0 +1,132 @@
+package heej.net.support;
+
+import heej.net.domain.accommodation.infra.AccommodationJpaRepository;
+import heej.net.domain.accommodation.infra.RoomJpaRepository;
+import heej.net.domain.accommodation.model.Accommodation;
+import heej.net.domain.accommodation.model.AccommodationStatus;
+import heej.net.domain.accommodation.model.AccommodationType;
+import heej.net.domain.accommodation.model.Room;
+import heej.net.domain.accommodation.model.RoomStatus;
+import heej.net.domain.accommodation.model.RoomType;
+import heej.net.domain.holiday.infra.PublicHolidayApiClient;
+import heej.net.domain.member.infra.MemberJpaRepository;
+import heej.net.domain.member.model.Member;
+import heej.net.domain.member.model.MemberRole;
+import heej.net.domain.member.model.MemberStatus;
+import heej.net.domain.reservation.infra.ReservationJpaRepository;
+import heej.net.domain.reservation.model.Reservation;
+import heej.net.domain.reservation.model.ReservationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * MySQL 컨테이너를 사용하는 통합 테스트 기반 클래스
+ *
+ * - 네이티브 쿼리(점유일, 객실 요약, 잠금 조회 등)가 MySQL 문법이라 실제 MySQL 로 검증합니다.
+ * - 컨테이너는 JVM 당 한 번만 띄우고 모든 테스트 컨텍스트가 공유합니다. Docker 가 없으면 테스트를 건너뜁니다.
+ * - 공휴일 외부 API 는 호출하지 않도록 대체합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class IntegrationTestSupport {
+
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+
+    @MockBean
+    protected PublicHolidayApiClient publicHolidayApiClient;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected MemberJpaRepository memberRepository;
+
+    @Autowired
+    protected AccommodationJpaRepository accommodationRepository;
+
+    @Autowired
+    protected RoomJpaRepository roomRepository;
+
+    @Autowired
+    protected ReservationJpaRepository reservationRepository;
+
+    // 객실의 활성(PENDING/CONFIRMED) 예약 수
+    protected long countActiveReservations(Long roomId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservations WHERE room_id = ? AND status IN ('PENDING', 'CONFIRMED')",
+                Long.class, roomId);
+    }
+
+    protected long countRoomNights(Long roomId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room_nights WHERE room_id = ?", Long.class, roomId);
+    }
+
+    protected Member saveMember() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .email("member-" + unique + "@test.com")
+                .password("password")
+                .name("회원" + unique)
+                .role(MemberRole.USER)
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+
+    protected Accommodation saveAccommodation(String city) {
+        return accommodationRepository.save(Accommodation.builder()
+                .name(city + " 테스트 호텔")
+                .type(AccommodationType.HOTEL)
+                .description("테스트 숙소")
+                .address(city + " 테스트로 1")
+                .city(city)
+                .region("테스트구")
+                .status(AccommodationStatus.ACTIVE)
+                .rating(4)
+                .build());
+    }
+
+    protected Room saveRoom(Accommodation accommodation, BigDecimal pricePerNight, int maxCapacity) {
+        return roomRepository.save(Room.builder()
+                .accommodation(accommodation)
+                .name("테스트 객실")
+                .type(RoomType.STANDARD)
+                .capacity(Math.min(2, maxCapacity))
+                .maxCapacity(maxCapacity)
+                .pricePerNight(pricePerNight)
+                .size(30)
+                .status(RoomStatus.AVAILABLE)
+                .build());
+    }
+
+    // 예약 엔티티만 저장 (점유일 room_nights 는 만들지 않음 - 예약 생성 경로를 거치지 않은 기존 데이터와 같음)
+    protected Reservation saveReservation(Member member, Room room, LocalDate checkIn, LocalDate checkOut,
+                                          ReservationStatus status) {
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        return reservationRepository.save(Reservation.builder()
+                .member(member)
+                .room(room)
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
+                .guestCount(1)
+                .totalPrice(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)))
+                .status(status)
+                .build());
+    }
+}